@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.corticon.samples.extensions.AttributeOperators;
+
+/**
+ * String and date attribute operators. The regular expressions and
+ * character sets are the kind found in data-quality rules: postal codes,
+ * e-mail addresses, allowed name characters.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class AttributeOperatorsBenchmark {
+
+    private static final String[] PATTERNS = {
+        "[0-9]{5}", "[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}", "^[A-Z][a-z]+( [A-Z][a-z]+)*$"
+    };
+
+    private static final String NAME_CHARACTERS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ '-.&";
+    private static final String PUNCTUATION = " '-.&,;:()";
+
+    @Param({ "names", "longText" })
+    public String corpus;
+
+    private String[] texts;
+    private String[] numbers;
+    private String[] patterns;
+    private String[] searchStrings;
+    private Date[] dates;
+    private BigInteger[] indexes;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        texts = "names".equals(corpus) ? Corpora.shortNames(Corpora.SIZE, 61) : Corpora.longTexts(Corpora.SIZE, 62);
+        numbers = Corpora.numericStrings(Corpora.SIZE, 63);
+        Random random = new Random(64);
+        patterns = new String[Corpora.SIZE];
+        searchStrings = new String[Corpora.SIZE];
+        dates = new Date[Corpora.SIZE];
+        indexes = new BigInteger[Corpora.SIZE];
+        for (int i = 0; i < Corpora.SIZE; i++) {
+            patterns[i] = PATTERNS[random.nextInt(PATTERNS.length)];
+            int from = random.nextInt(texts[i].length());
+            searchStrings[i] = texts[i].substring(from, Math.min(texts[i].length(), from + 1 + random.nextInt(4)));
+            dates[i] = new Date(-2208988800000L + (long) (random.nextDouble() * 6311433600000L));
+            indexes[i] = BigInteger.valueOf(random.nextInt(texts[i].length()));
+        }
+    }
+
+    private int next() {
+        return cursor++ & Corpora.MASK;
+    }
+
+    @Benchmark
+    public Boolean isLeapYear() {
+        return AttributeOperators.isLeapYear(dates[next()]);
+    }
+
+    @Benchmark
+    public String replaceAll() {
+        int i = next();
+        return AttributeOperators.replaceAll(texts[i], searchStrings[i], "_");
+    }
+
+    @Benchmark
+    public String replaceAllPattern() {
+        return AttributeOperators.replaceAll(texts[next()], "[aeiou]+", "_");
+    }
+
+    @Benchmark
+    public Boolean regex() {
+        int i = next();
+        return AttributeOperators.regex(texts[i], patterns[i]);
+    }
+
+    @Benchmark
+    public Boolean containsBlanks() {
+        return AttributeOperators.containsBlanks(texts[next()]);
+    }
+
+    @Benchmark
+    public String characterAt() {
+        int i = next();
+        return AttributeOperators.characterAt(texts[i], indexes[i]);
+    }
+
+    @Benchmark
+    public Boolean isInteger() {
+        return AttributeOperators.isInteger(numbers[next()]);
+    }
+
+    @Benchmark
+    public String trimSpaces() {
+        return AttributeOperators.trimSpaces(texts[next()]);
+    }
+
+    @Benchmark
+    public Boolean charsIn() {
+        return AttributeOperators.charsIn(texts[next()], NAME_CHARACTERS);
+    }
+
+    @Benchmark
+    public String stripChars() {
+        return AttributeOperators.stripChars(texts[next()], PUNCTUATION);
+    }
+
+    @Benchmark
+    public BigInteger countCharsIn() {
+        return AttributeOperators.countCharsIn(texts[next()], PUNCTUATION);
+    }
+
+    @Benchmark
+    public BigInteger firstCharNotIn() {
+        return AttributeOperators.firstCharNotIn(texts[next()], NAME_CHARACTERS);
+    }
+}
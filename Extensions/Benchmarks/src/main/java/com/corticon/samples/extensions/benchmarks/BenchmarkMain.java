@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of benchmarks.jar: the standard JMH command line, with the GC
+ * profiler enabled so every result reports the allocation rate
+ * ({@code gc.alloc.rate.norm}, bytes per operation) next to ops/s.
+ *
+ * Pass {@code -Dbenchmarks.noGcProfiler=true} to run without it.
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (!Boolean.getBoolean("benchmarks.noGcProfiler") && commandLine.getProfilers().isEmpty())
+            options.addProfiler(GCProfiler.class);
+        new Runner(options.build()).run();
+    }
+}
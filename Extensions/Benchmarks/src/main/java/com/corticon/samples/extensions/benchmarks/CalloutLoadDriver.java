@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.corticon.services.dataobject.ICcDataObjectManager;
+
+/**
+ * Load driver that runs service callouts over synthetic payloads of
+ * production size, to size callouts against real entity counts before they
+ * are deployed.
+ *
+ * For each payload size, every thread generates its own payload (see
+ * {@link SyntheticPayload}): Customers with associated Orders, Stocks,
+ * Policies and Properties, {@code --entities} of each. Each callout then
+ * runs {@code --warmup} unmeasured and {@code --calls} measured times per
+ * thread. The driver reports:
+ * <ul>
+ * <li>throughput, in callout calls and in entities per second over all
+ * threads;</li>
+ * <li>latency percentiles of a single callout call;</li>
+ * <li>bytes allocated per call and per entity, from the thread allocation
+ * counters of {@link ThreadMXBean} (HotSpot and OpenJ9);</li>
+ * <li>the heap retained by the payload, per entity.</li>
+ * </ul>
+ * "Per entity" divides by {@code --entities}, the number of entities of the
+ * type each callout iterates.
+ *
+ * <pre>
+ * java -Xmx8g -cp target/benchmarks.jar com.corticon.samples.extensions.benchmarks.CalloutLoadDriver \
+ *     --entities 100000,1000000 --callouts assignHub,setStockPrice --threads 4
+ * </pre>
+ */
+public final class CalloutLoadDriver {
+
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: CalloutLoadDriver [options]",
+            "  --callouts <names>   comma-separated callout methods (default assignHub,setPolicyPrice,setStockPrice,getAppraisalValue)",
+            "  --class <name>       class declaring the callouts (default com.corticon.samples.extensions.ServiceCallouts)",
+            "  --entities <counts>  comma-separated payload sizes, entities per type (default 10000,100000,1000000)",
+            "  --orders <n>         orders per customer (default 3)",
+            "  --threads <n>        threads, each with its own payload (default 1)",
+            "  --warmup <n>         unmeasured calls per callout and thread (default 5)",
+            "  --calls <n>          measured calls per callout and thread (default 20)",
+            "  --seed <n>           payload seed (default 42)");
+
+    private static final double[] PERCENTILES = { 0.50, 0.90, 0.99, 1.0 };
+
+    private final Class<?> calloutClass;
+    private final List<String> callouts;
+    private final List<MethodHandle> handles = new ArrayList<>();
+    private final int[] entityCounts;
+    private final int orders;
+    private final int threads;
+    private final int warmup;
+    private final int calls;
+    private final long seed;
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    private final boolean allocationSupported;
+
+    private CalloutLoadDriver(Class<?> calloutClass, List<String> callouts, int[] entityCounts,
+            int orders, int threads, int warmup, int calls, long seed) throws ReflectiveOperationException {
+        this.calloutClass = calloutClass;
+        this.callouts = callouts;
+        for (String callout : callouts)
+            handles.add(resolve(callout));
+        this.entityCounts = entityCounts;
+        this.orders = orders;
+        this.threads = threads;
+        this.warmup = warmup;
+        this.calls = calls;
+        this.seed = seed;
+        this.allocationSupported = threadBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemorySupported();
+        if (allocationSupported)
+            ((com.sun.management.ThreadMXBean) threadBean).setThreadAllocatedMemoryEnabled(true);
+    }
+
+    public static void main(String[] args) throws Exception {
+        CalloutLoadDriver driver;
+        try {
+            driver = parse(args);
+        } catch (IllegalArgumentException | ReflectiveOperationException ex) {
+            System.err.println(ex.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+        driver.run();
+    }
+
+    private static CalloutLoadDriver parse(String[] args) throws ReflectiveOperationException {
+        String calloutClass = "com.corticon.samples.extensions.ServiceCallouts";
+        String callouts = "assignHub,setPolicyPrice,setStockPrice,getAppraisalValue";
+        String entities = "10000,100000,1000000";
+        int orders = 3;
+        int threads = 1;
+        int warmup = 5;
+        int calls = 20;
+        long seed = 42;
+        for (int i = 0; i < args.length; i++) {
+            if (i + 1 == args.length)
+                throw new IllegalArgumentException("Missing value for " + args[i]);
+            String value = args[++i];
+            switch (args[i - 1]) {
+            case "--class":
+                calloutClass = value;
+                break;
+            case "--callouts":
+                callouts = value;
+                break;
+            case "--entities":
+                entities = value;
+                break;
+            case "--orders":
+                orders = parsePositive(args[i - 1], value, true);
+                break;
+            case "--threads":
+                threads = parsePositive(args[i - 1], value, false);
+                break;
+            case "--warmup":
+                warmup = parsePositive(args[i - 1], value, true);
+                break;
+            case "--calls":
+                calls = parsePositive(args[i - 1], value, false);
+                break;
+            case "--seed":
+                seed = Long.parseLong(value);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown option " + args[i - 1]);
+            }
+        }
+        String[] sizes = entities.split(",");
+        int[] entityCounts = new int[sizes.length];
+        for (int i = 0; i < sizes.length; i++)
+            entityCounts[i] = parsePositive("--entities", sizes[i].trim(), false);
+        return new CalloutLoadDriver(Class.forName(calloutClass), Arrays.asList(callouts.trim().split("\\s*,\\s*")),
+                entityCounts, orders, threads, warmup, calls, seed);
+    }
+
+    private static int parsePositive(String option, String value, boolean zeroAllowed) {
+        int n;
+        try {
+            n = Integer.parseInt(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(option + " expects a number, got " + value);
+        }
+        if (n < 0 || (n == 0 && !zeroAllowed))
+            throw new IllegalArgumentException(option + " expects a " + (zeroAllowed ? "non-negative" : "positive") + " number, got " + value);
+        return n;
+    }
+
+    private void run() throws Exception {
+        System.out.printf(Locale.ROOT, "%s, %d thread(s), %d orders per customer, %d warmup + %d measured calls, allocation %s%n",
+                calloutClass.getSimpleName(), threads, orders, warmup, calls, allocationSupported ? "measured" : "not supported by this JVM");
+        for (int entities : entityCounts) {
+            InMemoryDataObjectManager[] payloads = new InMemoryDataObjectManager[threads];
+            long heapBefore = usedHeap();
+            long start = System.nanoTime();
+            for (int t = 0; t < threads; t++)
+                payloads[t] = SyntheticPayload.generate(entities, orders, seed + t);
+            long generationMillis = (System.nanoTime() - start) / 1_000_000;
+            long payloadBytes = Math.max(0, usedHeap() - heapBefore) / threads;
+            System.out.printf(Locale.ROOT, "%nentities=%d: payload generated in %d ms, about %d bytes retained per entity%n",
+                    entities, generationMillis, payloadBytes / ((long) entities * (4 + orders)));
+            System.out.printf(Locale.ROOT, "%-24s %12s %14s %10s %10s %10s %10s %14s %10s%n",
+                    "callout", "calls/s", "entities/s", "p50 ms", "p90 ms", "p99 ms", "max ms", "B/call", "B/entity");
+            for (int c = 0; c < handles.size(); c++)
+                report(callouts.get(c), entities, measure(handles.get(c), payloads));
+        }
+    }
+
+    private MethodHandle resolve(String callout) throws ReflectiveOperationException {
+        return MethodHandles.publicLookup().findStatic(calloutClass, callout,
+                MethodType.methodType(void.class, ICcDataObjectManager.class));
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++)
+            System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static final class Result {
+        final long[] latencies;
+        final long[] allocated;
+        long wallNanos;
+
+        Result(int threads, int calls) {
+            latencies = new long[threads * calls];
+            allocated = new long[threads];
+        }
+    }
+
+    private Result measure(MethodHandle callout, InMemoryDataObjectManager[] payloads) throws Exception {
+        Result result = new Result(threads, calls);
+        long[] startNanos = new long[1];
+        // Every worker arrives once, when its warmup ends or fails; the last
+        // one to arrive starts the clock
+        Phaser measuredStart = new Phaser(threads) {
+            @Override
+            protected boolean onAdvance(int phase, int registeredParties) {
+                startNanos[0] = System.nanoTime();
+                return true;
+            }
+        };
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            workers[t] = new Thread(() -> {
+                try {
+                    runCalls(callout, payloads[thread], thread, result, measuredStart, failure);
+                } catch (Throwable ex) {
+                    failure.compareAndSet(null, ex);
+                }
+            }, "callout-load-" + t);
+            workers[t].start();
+        }
+        for (Thread worker : workers)
+            worker.join();
+        result.wallNanos = System.nanoTime() - startNanos[0];
+        if (failure.get() != null)
+            throw new IllegalStateException("Callout failed", failure.get());
+        return result;
+    }
+
+    private void runCalls(MethodHandle callout, InMemoryDataObjectManager payload, int thread, Result result,
+            Phaser measuredStart, AtomicReference<Throwable> failure) throws Throwable {
+        try {
+            for (int i = 0; i < warmup; i++) {
+                callout.invokeExact((ICcDataObjectManager) payload);
+                afterCall(payload);
+            }
+        } catch (Throwable ex) {
+            // Still arrive, so that the other threads do not wait for this one
+            failure.compareAndSet(null, ex);
+            measuredStart.arriveAndDeregister();
+            throw ex;
+        }
+        measuredStart.arriveAndAwaitAdvance();
+        if (failure.get() != null)
+            return; // Another thread failed
+        long threadId = Thread.currentThread().getId();
+        long allocated = 0;
+        for (int i = 0; i < calls; i++) {
+            long allocatedBefore = allocatedBytes(threadId);
+            long start = System.nanoTime();
+            callout.invokeExact((ICcDataObjectManager) payload);
+            long elapsed = System.nanoTime() - start;
+            allocated += allocatedBytes(threadId) - allocatedBefore;
+            result.latencies[thread * calls + i] = elapsed;
+            afterCall(payload);
+        }
+        result.allocated[thread] = allocated;
+    }
+
+    /* Drops what a call leaves behind, as the server would after an execution. */
+    private static void afterCall(InMemoryDataObjectManager payload) {
+        payload.clear("SystemInfo");
+        payload.messages().clear();
+    }
+
+    private long allocatedBytes(long threadId) {
+        return allocationSupported ? ((com.sun.management.ThreadMXBean) threadBean).getThreadAllocatedBytes(threadId) : 0;
+    }
+
+    private void report(String callout, int entities, Result result) {
+        long[] latencies = result.latencies.clone();
+        Arrays.sort(latencies);
+        int totalCalls = latencies.length;
+        double seconds = result.wallNanos / 1e9;
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "%-24s %12.1f %14.0f", callout, totalCalls / seconds, (double) totalCalls * entities / seconds));
+        for (int p = 0; p < PERCENTILES.length; p++) {
+            int rank = (int) Math.ceil(PERCENTILES[p] * totalCalls) - 1;
+            sb.append(String.format(Locale.ROOT, " %10.3f", latencies[Math.max(0, rank)] / 1e6));
+        }
+        if (allocationSupported) {
+            long allocated = 0;
+            for (long bytes : result.allocated)
+                allocated += bytes;
+            double perCall = (double) allocated / totalCalls;
+            sb.append(String.format(Locale.ROOT, " %14.0f %10.1f", perCall, perCall / entities));
+        } else {
+            sb.append(String.format(Locale.ROOT, " %14s %10s", "n/a", "n/a"));
+        }
+        System.out.println(sb);
+    }
+}
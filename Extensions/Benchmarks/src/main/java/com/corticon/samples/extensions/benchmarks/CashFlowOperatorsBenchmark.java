@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.corticon.samples.extensions.CashFlowOperators;
+
+/**
+ * Net present value and internal rate of return of loan cash flows: the
+ * principal paid out, then level monthly payments at rates of 2-12% a year,
+ * over the given number of periods. One operation is one loan.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CashFlowOperatorsBenchmark {
+
+    private static final int LOANS = 64;
+
+    @Param({ "12", "360" })
+    public int periods;
+
+    private BigDecimal[][] loans;
+    private BigDecimal[] rates;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(131);
+        loans = new BigDecimal[LOANS][];
+        rates = new BigDecimal[LOANS];
+        for (int i = 0; i < LOANS; i++) {
+            double principal = 10_000 + random.nextInt(490_000);
+            double rate = (0.02 + random.nextDouble() * 0.10) / 12;
+            double payment = principal * rate / (1 - Math.pow(1 + rate, -periods));
+            BigDecimal[] flows = new BigDecimal[periods + 1];
+            flows[0] = BigDecimal.valueOf(-principal);
+            Arrays.fill(flows, 1, flows.length, BigDecimal.valueOf(payment).setScale(2, RoundingMode.HALF_UP));
+            loans[i] = flows;
+            rates[i] = BigDecimal.valueOf(rate);
+        }
+    }
+
+    private int next() {
+        return cursor++ & (LOANS - 1);
+    }
+
+    @Benchmark
+    public BigDecimal npv() {
+        int i = next();
+        return CashFlowOperators.npv(loans[i], rates[i]);
+    }
+
+    @Benchmark
+    public BigDecimal irr() {
+        return CashFlowOperators.irr(loans[next()]);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.corticon.samples.extensions.CollectionOperators;
+
+/**
+ * Collection operators on name collections without duplicates (the worst
+ * case for containsDuplicates) and with a share of exact duplicates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CollectionOperatorsBenchmark {
+
+    @Param({ "100", "10000", "1000000" })
+    public int size;
+
+    @Param({ "unique", "duplicates" })
+    public String content;
+
+    private String[] collection;
+    private String searchString;
+    private String keys;
+    private String histogram;
+
+    @Setup
+    public void setUp() {
+        collection = new String[size];
+        String[] names = Corpora.shortNames(size, 51);
+        for (int i = 0; i < size; i++)
+            collection[i] = names[i] + " #" + i;
+        if ("duplicates".equals(content)) {
+            // Duplicates in the second half, so an early exit still scans half the collection
+            for (int i = size / 2; i < size; i += 10)
+                collection[i] = collection[i - size / 2];
+        }
+        searchString = collection[size / 3];
+        keys = collection[1] + "|" + searchString + "|" + collection[size - 1] + "|no such value";
+        histogram = CollectionOperators.valueHistogram(Arrays.copyOf(collection, Math.min(size, 100)));
+    }
+
+    @Benchmark
+    public Boolean containsDuplicates() {
+        return CollectionOperators.containsDuplicates(collection);
+    }
+
+    @Benchmark
+    public BigInteger occurrenceCount() {
+        return CollectionOperators.occurrenceCount(collection, searchString);
+    }
+
+    @Benchmark
+    public String occurrenceCounts() {
+        return CollectionOperators.occurrenceCounts(collection, keys);
+    }
+
+    @Benchmark
+    public String valueHistogram() {
+        return CollectionOperators.valueHistogram(collection);
+    }
+
+    @Benchmark
+    public BigInteger histogramCount() {
+        return CollectionOperators.histogramCount(histogram, collection[50]);
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+/**
+ * Deterministic input corpora for the benchmarks.
+ *
+ * Every generator takes a seed, so two runs (and two branches being compared)
+ * see exactly the same inputs. The corpora mimic the data the operators see
+ * in customer-matching and data-quality rules: short person and company
+ * names, long address and description fields, accented and German text with
+ * both precomposed and decomposed umlauts, typo variants of all of these, and
+ * BigDecimal values covering the awkward cases (zero, negative zero scale,
+ * very large and very small magnitudes, long fractions).
+ */
+final class Corpora {
+
+    /** Number of inputs in each rotating input array; a power of two. */
+    static final int SIZE = 1024;
+    static final int MASK = SIZE - 1;
+
+    private static final String[] FIRST_NAMES = {
+        "James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael", "Linda", "William", "Elizabeth",
+        "Jürgen", "Jörg", "Günther", "Zoë", "José", "François", "Søren", "Łukasz", "Mateo", "Aoife",
+        "Müller", "Björn", "Renée", "Ángel", "Chloé", "Siobhán", "Dmitri", "Anaïs", "Håkon", "Noémie"
+    };
+
+    private static final String[] LAST_NAMES = {
+        "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+        "Müller", "Schmidt", "Schneider", "Fischer", "Weiß", "Schäfer", "Köhler", "Groß", "Öztürk", "Jäger",
+        "Dupont", "Lefèvre", "Gonçalves", "Fernández", "Nuñez", "Kowalski", "Østergaard", "Nakamura", "O'Brien", "MacDonald"
+    };
+
+    private static final String[] COMPANY_SUFFIXES = {
+        "GmbH", "AG", "KG", "GmbH & Co. KG", "Inc", "Inc.", "LLC", "Ltd", "S.A.", "B.V.", "S.p.A.", "Corporation"
+    };
+
+    private static final String[] STREETS = {
+        "Hauptstraße", "Bahnhofstrasse", "Schillerstraße", "Main Street", "Oak Avenue", "Rue de la Paix",
+        "Königsallee", "Maximilianstraße", "Elm Street", "Calle Mayor", "Via Roma", "Grüner Weg"
+    };
+
+    private static final String[] CITIES = {
+        "München", "Köln", "Düsseldorf", "Frankfurt am Main", "Zürich", "Wien", "Springfield", "Lyon",
+        "Göteborg", "São Paulo", "Kraków", "Malmö"
+    };
+
+    private static final String[] WORDS = {
+        "premium", "stainless", "steel", "bracket", "assembly", "replacement", "industrial", "grade", "valve",
+        "housing", "Dichtung", "Schraube", "Lager", "Gehäuse", "für", "und", "mit", "ohne", "pièce", "détachée"
+    };
+
+    private Corpora() {
+    }
+
+    /** Person names, "First Last", some with accents. */
+    static String[] shortNames(int count, long seed) {
+        Random random = new Random(seed);
+        String[] names = new String[count];
+        for (int i = 0; i < count; i++)
+            names[i] = pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES);
+        return names;
+    }
+
+    /** Company names, "Last[-Last] Suffix". */
+    static String[] companyNames(int count, long seed) {
+        Random random = new Random(seed);
+        String[] names = new String[count];
+        for (int i = 0; i < count; i++) {
+            String name = pick(random, LAST_NAMES);
+            if (random.nextInt(3) == 0)
+                name += "-" + pick(random, LAST_NAMES);
+            names[i] = name + " " + pick(random, COMPANY_SUFFIXES);
+        }
+        return names;
+    }
+
+    /** Postal addresses and free-text descriptions of 60 to 250 characters. */
+    static String[] longTexts(int count, long seed) {
+        Random random = new Random(seed);
+        String[] texts = new String[count];
+        for (int i = 0; i < count; i++) {
+            StringBuilder sb = new StringBuilder();
+            if (random.nextBoolean()) {
+                sb.append(pick(random, LAST_NAMES)).append(' ')
+                        .append(pick(random, COMPANY_SUFFIXES)).append(", ")
+                        .append(pick(random, STREETS)).append(' ').append(1 + random.nextInt(250)).append(", ")
+                        .append(10000 + random.nextInt(89999)).append(' ').append(pick(random, CITIES));
+            }
+            int target = 60 + random.nextInt(190);
+            while (sb.length() < target)
+                sb.append(sb.length() == 0 ? "" : " ").append(pick(random, WORDS));
+            texts[i] = sb.toString();
+        }
+        return texts;
+    }
+
+    /**
+     * Returns a variant of each input with one to three typing errors, case
+     * changes, or umlauts decomposed or transliterated.
+     */
+    static String[] variants(String[] inputs, long seed) {
+        Random random = new Random(seed);
+        String[] variants = new String[inputs.length];
+        for (int i = 0; i < inputs.length; i++)
+            variants[i] = variant(inputs[i], random);
+        return variants;
+    }
+
+    static String variant(String input, Random random) {
+        StringBuilder sb = new StringBuilder(input);
+        int edits = 1 + random.nextInt(3);
+        for (int e = 0; e < edits && sb.length() > 1; e++) {
+            int pos = random.nextInt(sb.length());
+            switch (random.nextInt(6)) {
+            case 0:
+                sb.deleteCharAt(pos);
+                break;
+            case 1:
+                sb.insert(pos, (char) ('a' + random.nextInt(26)));
+                break;
+            case 2:
+                sb.setCharAt(pos, (char) ('a' + random.nextInt(26)));
+                break;
+            case 3:
+                if (pos + 1 < sb.length()) {
+                    char c = sb.charAt(pos);
+                    sb.setCharAt(pos, sb.charAt(pos + 1));
+                    sb.setCharAt(pos + 1, c);
+                }
+                break;
+            case 4:
+                return sb.toString().toUpperCase();
+            default:
+                // Decomposed u-umlaut, transliterated o-umlaut and sharp s
+                return sb.toString().replace("ü", "u\u0308").replace("ö", "oe").replace("ß", "ss");
+            }
+        }
+        return sb.toString();
+    }
+
+    /** A collection of names with roughly the given share of near-duplicates. */
+    static String[] collection(int size, double duplicateShare, long seed) {
+        Random random = new Random(seed);
+        String[] base = companyNames(size, seed + 1);
+        String[] collection = new String[size];
+        for (int i = 0; i < size; i++) {
+            if (i > 0 && random.nextDouble() < duplicateShare)
+                collection[i] = variant(collection[random.nextInt(i)], random);
+            else
+                collection[i] = base[i];
+        }
+        return collection;
+    }
+
+    /** Decimal values including the edge cases rules run into. */
+    static BigDecimal[] decimals(int count, long seed) {
+        BigDecimal[] edges = {
+            BigDecimal.ZERO, new BigDecimal("0.000"), BigDecimal.ONE, new BigDecimal("-1"),
+            new BigDecimal("0.1"), new BigDecimal("-0.5"), new BigDecimal("2.5"), new BigDecimal("99.995"),
+            new BigDecimal("1E-30"), new BigDecimal("1E+30"), new BigDecimal("-123456789.987654321"),
+            new BigDecimal("3.14159265358979323846264338327950288419716939937510"),
+            new BigDecimal("0.30000000000000004"), new BigDecimal("1234567890123456789012345678901234567890"),
+            new BigDecimal("1E+3"), new BigDecimal("-0.0000001")
+        };
+        Random random = new Random(seed);
+        BigDecimal[] values = new BigDecimal[count];
+        for (int i = 0; i < count; i++) {
+            if (random.nextInt(4) == 0)
+                values[i] = edges[random.nextInt(edges.length)];
+            else
+                values[i] = BigDecimal.valueOf(random.nextInt(2_000_000) - 1_000_000, random.nextInt(7));
+        }
+        return values;
+    }
+
+    /** Decimal values within [min, max), with two to six fractional digits. */
+    static BigDecimal[] decimalsBetween(int count, double min, double max, long seed) {
+        Random random = new Random(seed);
+        BigDecimal[] values = new BigDecimal[count];
+        for (int i = 0; i < count; i++)
+            values[i] = BigDecimal.valueOf(min + random.nextDouble() * (max - min)).setScale(2 + random.nextInt(5), RoundingMode.HALF_UP);
+        return values;
+    }
+
+    /** Strings of digits, some with a letter, sign or non-ASCII digit in them. */
+    static String[] numericStrings(int count, long seed) {
+        Random random = new Random(seed);
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            StringBuilder sb = new StringBuilder();
+            int length = 1 + random.nextInt(random.nextInt(8) == 0 ? 120 : 12);
+            for (int k = 0; k < length; k++)
+                sb.append((char) ('0' + random.nextInt(10)));
+            switch (random.nextInt(6)) {
+            case 0:
+                sb.setCharAt(random.nextInt(sb.length()), 'x');
+                break;
+            case 1:
+                sb.insert(0, '-');
+                break;
+            case 2:
+                sb.append('٣'); // Arabic-Indic digit three
+                break;
+            default:
+                break;
+            }
+            values[i] = sb.toString();
+        }
+        return values;
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
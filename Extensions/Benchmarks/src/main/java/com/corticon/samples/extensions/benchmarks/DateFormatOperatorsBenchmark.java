@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.corticon.samples.extensions.DateFormatOperators;
+
+/**
+ * Date parsing and formatting as found in inbound payloads. The mixed feed
+ * has one dominant format, written last in the pattern list, and a few
+ * others; {@link #parseMixedPerCall} is the per-call formatter loop rules
+ * used before, for comparison.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DateFormatOperatorsBenchmark {
+
+    private static final String[] PATTERNS = { "dd.MM.yyyy", "MM/dd/yyyy HH:mm", "yyyy-MM-dd" };
+    private static final String PATTERN_LIST = String.join("|", PATTERNS);
+
+    private String[] isoDates;
+    private String[] mixedDates;
+    private Date[] dates;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(81);
+        isoDates = new String[Corpora.SIZE];
+        mixedDates = new String[Corpora.SIZE];
+        dates = new Date[Corpora.SIZE];
+        for (int i = 0; i < Corpora.SIZE; i++) {
+            LocalDateTime t = LocalDateTime.of(1950 + random.nextInt(80), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                    random.nextInt(24), random.nextInt(60));
+            isoDates[i] = t.format(DateTimeFormatter.ofPattern(PATTERNS[2]));
+            int format = random.nextInt(10) < 8 ? 2 : random.nextInt(2);
+            mixedDates[i] = t.format(DateTimeFormatter.ofPattern(PATTERNS[format]));
+            dates[i] = Date.from(t.atZone(ZoneId.systemDefault()).toInstant());
+        }
+    }
+
+    private int next() {
+        return cursor++ & Corpora.MASK;
+    }
+
+    @Benchmark
+    public Date parseDate() {
+        return DateFormatOperators.parseDate(isoDates[next()], PATTERNS[2]);
+    }
+
+    @Benchmark
+    public Date parseMixed() {
+        return DateFormatOperators.parseDate(mixedDates[next()], PATTERN_LIST);
+    }
+
+    @Benchmark
+    public Object parseMixedPerCall() {
+        String s = mixedDates[next()];
+        for (String pattern : PATTERNS) {
+            try {
+                return DateTimeFormatter.ofPattern(pattern).parse(s);
+            } catch (RuntimeException ex) {
+                // Try the next pattern
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public String formatDate() {
+        return DateFormatOperators.formatDate(dates[next()], "dd.MM.yyyy HH:mm");
+    }
+
+    @Benchmark
+    public String formatLocalizedDate() {
+        return DateFormatOperators.formatLocalizedDate(dates[next()], "d. MMMM yyyy", "de-DE");
+    }
+}
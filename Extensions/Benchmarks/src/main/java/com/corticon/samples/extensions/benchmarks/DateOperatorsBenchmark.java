@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.corticon.samples.extensions.DateOperators;
+
+/**
+ * Date operators on policy-like dates: births from 1930 on, and events from
+ * 2000 to 2030 with a span of up to two years. The holiday list holds ten
+ * holidays a year for the whole range and is written to a temporary
+ * directory that {@code corticon.samples.referenceDir} points at for the
+ * duration of the trial.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DateOperatorsBenchmark {
+
+    private static final String LIST_NAME = "benchmarkHolidays";
+
+    private Date[] births;
+    private Date[] starts;
+    private Date[] ends;
+    private BigInteger[] offsets;
+    private Path referenceDir;
+    private String previousReferenceDir;
+    private int cursor;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(71);
+        births = new Date[Corpora.SIZE];
+        starts = new Date[Corpora.SIZE];
+        ends = new Date[Corpora.SIZE];
+        offsets = new BigInteger[Corpora.SIZE];
+        for (int i = 0; i < Corpora.SIZE; i++) {
+            births[i] = new Date(-1262304000000L + (long) (random.nextDouble() * 2208988800000L));
+            starts[i] = new Date(946684800000L + (long) (random.nextDouble() * 946684800000L));
+            ends[i] = new Date(starts[i].getTime() + (long) (random.nextDouble() * 63072000000L));
+            offsets[i] = BigInteger.valueOf(random.nextInt(500) - 100);
+        }
+
+        List<String> holidays = new ArrayList<>();
+        for (int year = 1999; year <= 2033; year++) {
+            for (int h = 0; h < 10; h++)
+                holidays.add(LocalDate.ofYearDay(year, 1 + random.nextInt(365)) + " Holiday " + h);
+        }
+        referenceDir = Files.createTempDirectory("corticon-benchmarks");
+        Files.write(referenceDir.resolve(LIST_NAME + ".txt"), holidays, StandardCharsets.UTF_8);
+        previousReferenceDir = System.setProperty("corticon.samples.referenceDir", referenceDir.toString());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (previousReferenceDir == null)
+            System.clearProperty("corticon.samples.referenceDir");
+        else
+            System.setProperty("corticon.samples.referenceDir", previousReferenceDir);
+        Files.deleteIfExists(referenceDir.resolve(LIST_NAME + ".txt"));
+        Files.deleteIfExists(referenceDir);
+    }
+
+    private int next() {
+        return cursor++ & Corpora.MASK;
+    }
+
+    @Benchmark
+    public BigInteger dayOfYear() {
+        return DateOperators.dayOfYear(starts[next()]);
+    }
+
+    @Benchmark
+    public BigInteger ageInYears() {
+        int i = next();
+        return DateOperators.ageInYears(births[i], starts[i]);
+    }
+
+    @Benchmark
+    public Boolean isBusinessDay() {
+        return DateOperators.isBusinessDay(starts[next()], LIST_NAME);
+    }
+
+    @Benchmark
+    public BigInteger businessDaysBetween() {
+        int i = next();
+        return DateOperators.businessDaysBetween(starts[i], ends[i], LIST_NAME);
+    }
+
+    @Benchmark
+    public Date addBusinessDays() {
+        int i = next();
+        return DateOperators.addBusinessDays(starts[i], offsets[i], LIST_NAME);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.corticon.samples.extensions.DecimalOperators;
+
+/**
+ * Decimal operators on values that include the awkward cases: zero with a
+ * scale, very large and very small magnitudes, long fractions.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DecimalOperatorsBenchmark {
+
+    private static final BigInteger TWO_DIGITS = BigInteger.valueOf(2);
+
+    private BigDecimal[] values;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        values = Corpora.decimals(Corpora.SIZE, 71);
+    }
+
+    @Benchmark
+    public BigDecimal truncFloor() {
+        return DecimalOperators.truncFloor(values[cursor++ & Corpora.MASK], TWO_DIGITS);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.corticon.services.dataobject.ICcDataObject;
+
+/**
+ * Array-backed set of data objects, in insertion order, with identity
+ * membership. add and remove scan the array, which suits association sets of
+ * a few members; the manager fills its per-name sets with {@link #append},
+ * which does not check membership.
+ */
+final class EntitySet extends AbstractSet<ICcDataObject> {
+
+    private ICcDataObject[] elements;
+    private int size;
+    private int modCount;
+
+    EntitySet(int capacity) {
+        elements = new ICcDataObject[Math.max(capacity, 1)];
+    }
+
+    EntitySet() {
+        this(4);
+    }
+
+    /** Adds an object known not to be in the set. */
+    void append(ICcDataObject dataObject) {
+        if (size == elements.length)
+            elements = Arrays.copyOf(elements, size + (size >> 1) + 1);
+        elements[size++] = dataObject;
+        modCount++;
+    }
+
+    ICcDataObject get(int index) {
+        return elements[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public boolean add(ICcDataObject dataObject) {
+        if (indexOf(dataObject) >= 0)
+            return false;
+        append(dataObject);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index < 0)
+            return false;
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        elements[--size] = null;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+        modCount++;
+    }
+
+    private int indexOf(Object o) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == o)
+                return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public Iterator<ICcDataObject> iterator() {
+        return new Iterator<ICcDataObject>() {
+            private final int expectedModCount = modCount;
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public ICcDataObject next() {
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                if (next >= size)
+                    throw new NoSuchElementException();
+                return elements[next++];
+            }
+        };
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An entity name and the attribute names seen on it so far, each with a
+ * fixed slot number. Data objects of the type store their values in an
+ * array indexed by slot instead of a map per object, which keeps millions of
+ * synthetic entities small.
+ */
+final class EntityType {
+
+    private final String name;
+    private final Map<String, Integer> slots = new HashMap<>();
+
+    EntityType(String name) {
+        this.name = name;
+    }
+
+    String name() {
+        return name;
+    }
+
+    /** Returns the slot of an attribute, or -1 if no object of the type has set it. */
+    int slot(String attributeName) {
+        Integer slot = slots.get(attributeName);
+        return slot == null ? -1 : slot;
+    }
+
+    /** Returns the slot of an attribute, assigning the next one if it is new. */
+    int slotForWrite(String attributeName) {
+        Integer slot = slots.get(attributeName);
+        if (slot == null) {
+            slot = slots.size();
+            slots.put(attributeName, slot);
+        }
+        return slot;
+    }
+
+    int slotCount() {
+        return slots.size();
+    }
+}
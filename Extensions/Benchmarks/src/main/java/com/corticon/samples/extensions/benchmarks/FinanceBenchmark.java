@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.corticon.samples.extensions.Finance;
+
+/**
+ * Present and future value of amounts up to ten million at rates of 0-15%
+ * over 1-40 years.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class FinanceBenchmark {
+
+    private BigDecimal[] amounts;
+    private BigDecimal[] rates;
+    private BigInteger[] years;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        amounts = Corpora.decimalsBetween(Corpora.SIZE, 0, 10_000_000, 91);
+        rates = Corpora.decimalsBetween(Corpora.SIZE, 0, 0.15, 92);
+        Random random = new Random(93);
+        years = new BigInteger[Corpora.SIZE];
+        for (int i = 0; i < Corpora.SIZE; i++)
+            years[i] = BigInteger.valueOf(1 + random.nextInt(40));
+    }
+
+    private int next() {
+        return cursor++ & Corpora.MASK;
+    }
+
+    @Benchmark
+    public BigDecimal getPresentValue() {
+        int i = next();
+        return Finance.getPresentValue(amounts[i], rates[i], years[i]);
+    }
+
+    @Benchmark
+    public BigDecimal getFutureValue() {
+        int i = next();
+        return Finance.getFutureValue(amounts[i], rates[i], years[i]);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.corticon.samples.extensions.FuzzyLookupOperators;
+
+/**
+ * Fuzzy lookups of typo variants against a collection and against a named
+ * reference list of the same entries.
+ *
+ * The collection index is built on the first call and then found in the
+ * operator cache, which is keyed by the collection content; so every call
+ * still hashes and compares the whole collection, as it would for each rule
+ * pass. {@link #ngramMatchesCopiedCollection} passes a fresh copy of the
+ * collection, as the server does per request. The reference list is
+ * written to a temporary directory that {@code corticon.samples.referenceDir}
+ * points at for the duration of the trial.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class FuzzyLookupOperatorsBenchmark {
+
+    private static final String LIST_NAME = "benchmarkCompanies";
+    private static final BigInteger TRIGRAMS = BigInteger.valueOf(3);
+    private static final BigInteger MAX_DISTANCE = BigInteger.valueOf(2);
+    private static final BigInteger MAX_RESULTS = BigInteger.valueOf(5);
+    private static final BigDecimal THRESHOLD = new BigDecimal("0.5");
+
+    @Param({ "1000", "100000" })
+    public int entries;
+
+    private String[] collection;
+    private String[] queries;
+    private Path referenceDir;
+    private String previousReferenceDir;
+    private int cursor;
+
+    @Setup
+    public void setUp() throws IOException {
+        collection = Corpora.companyNames(entries, 31);
+        String[] sample = new String[Corpora.SIZE];
+        for (int i = 0; i < Corpora.SIZE; i++)
+            sample[i] = collection[(int) ((i * 2654435761L) % entries)];
+        queries = Corpora.variants(sample, 32);
+
+        referenceDir = Files.createTempDirectory("corticon-benchmarks");
+        Files.write(referenceDir.resolve(LIST_NAME + ".txt"), Arrays.asList(collection), StandardCharsets.UTF_8);
+        previousReferenceDir = System.setProperty("corticon.samples.referenceDir", referenceDir.toString());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (previousReferenceDir == null)
+            System.clearProperty("corticon.samples.referenceDir");
+        else
+            System.setProperty("corticon.samples.referenceDir", previousReferenceDir);
+        Files.deleteIfExists(referenceDir.resolve(LIST_NAME + ".txt"));
+        Files.deleteIfExists(referenceDir);
+    }
+
+    private String nextQuery() {
+        return queries[cursor++ & Corpora.MASK];
+    }
+
+    @Benchmark
+    public String bestNgramMatch() {
+        return FuzzyLookupOperators.bestNgramMatch(collection, nextQuery(), TRIGRAMS, THRESHOLD);
+    }
+
+    @Benchmark
+    public String ngramMatches() {
+        return FuzzyLookupOperators.ngramMatches(collection, nextQuery(), TRIGRAMS, THRESHOLD, MAX_RESULTS);
+    }
+
+    @Benchmark
+    public String ngramMatchesCopiedCollection() {
+        return FuzzyLookupOperators.ngramMatches(collection.clone(), nextQuery(), TRIGRAMS, THRESHOLD, MAX_RESULTS);
+    }
+
+    @Benchmark
+    public String bestNgramMatchInList() {
+        return FuzzyLookupOperators.bestNgramMatchInList(nextQuery(), LIST_NAME, TRIGRAMS, THRESHOLD);
+    }
+
+    @Benchmark
+    public BigDecimal bestNgramMatchScoreInList() {
+        return FuzzyLookupOperators.bestNgramMatchScoreInList(nextQuery(), LIST_NAME, TRIGRAMS, THRESHOLD);
+    }
+
+    @Benchmark
+    public String nearestByEditDistance() {
+        return FuzzyLookupOperators.nearestByEditDistance(collection, nextQuery(), MAX_DISTANCE);
+    }
+
+    @Benchmark
+    public String nearestByEditDistanceMatches() {
+        return FuzzyLookupOperators.nearestByEditDistanceMatches(collection, nextQuery(), MAX_DISTANCE, MAX_RESULTS);
+    }
+
+    @Benchmark
+    public String nearestByEditDistanceInList() {
+        return FuzzyLookupOperators.nearestByEditDistanceInList(nextQuery(), LIST_NAME, MAX_DISTANCE);
+    }
+}
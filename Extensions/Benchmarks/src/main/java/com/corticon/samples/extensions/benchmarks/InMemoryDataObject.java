@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import com.corticon.services.dataobject.ICcDataObject;
+
+/**
+ * Compact data object for driving the service callouts and operators outside
+ * a Corticon server: attribute values in an array indexed by the slots of
+ * its {@link EntityType}, and associations in a short list of role names
+ * with their {@link EntitySet}s.
+ *
+ * Not thread-safe, like the payload of a single Decision Service execution.
+ */
+class InMemoryDataObject implements ICcDataObject {
+
+    private static final Object[] NO_VALUES = {};
+    private static final String[] NO_ROLES = {};
+    private static final EntitySet[] NO_ASSOCIATIONS = {};
+
+    private final EntityType type;
+    private Object[] values = NO_VALUES;
+    private String[] roles = NO_ROLES;
+    private EntitySet[] associations = NO_ASSOCIATIONS;
+
+    InMemoryDataObject(EntityType type) {
+        this.type = type;
+    }
+
+    @Override
+    public String getEntityName() {
+        return type.name();
+    }
+
+    @Override
+    public Object getAttributeValue(String attributeName) {
+        int slot = type.slot(attributeName);
+        return slot >= 0 && slot < values.length ? values[slot] : null;
+    }
+
+    @Override
+    public void setAttributeValue(String attributeName, Object value) {
+        int slot = type.slotForWrite(attributeName);
+        if (slot >= values.length)
+            values = Arrays.copyOf(values, Math.max(slot + 1, type.slotCount()));
+        values[slot] = value;
+    }
+
+    @Override
+    public Set<ICcDataObject> getAssociations(String roleName) {
+        int role = role(roleName);
+        return role < 0 ? Collections.<ICcDataObject>emptySet() : associations[role];
+    }
+
+    @Override
+    public void addAssociation(String roleName, ICcDataObject dataObject) {
+        int role = role(roleName);
+        if (role < 0) {
+            role = roles.length;
+            roles = Arrays.copyOf(roles, role + 1);
+            associations = Arrays.copyOf(associations, role + 1);
+            roles[role] = roleName;
+            associations[role] = new EntitySet();
+        }
+        associations[role].add(dataObject);
+    }
+
+    @Override
+    public void removeAssociation(String roleName, ICcDataObject dataObject) {
+        int role = role(roleName);
+        if (role >= 0)
+            associations[role].remove(dataObject);
+    }
+
+    private int role(String roleName) {
+        for (int i = 0; i < roles.length; i++) {
+            if (roles[i] == roleName || roles[i].equals(roleName))
+                return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return type.name() + "@" + Integer.toHexString(System.identityHashCode(this));
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.corticon.services.dataobject.ICcDataObject;
+import com.corticon.services.dataobject.ICcDataObjectManager;
+import com.corticon.services.metadata.decisionservice.IDecisionServiceMetadata;
+
+/**
+ * In-memory data object manager: entities grouped by entity name in
+ * insertion order, and the messages posted by the callouts.
+ *
+ * Posted messages are kept so their allocation is measured, but the list is
+ * cleared every {@link #MESSAGE_CAPACITY} messages so that a callout over
+ * millions of entities does not fill the heap; {@link #messageCount()} keeps
+ * the total.
+ *
+ * Not thread-safe: give each thread its own manager, as the server gives
+ * each execution its own payload.
+ */
+class InMemoryDataObjectManager implements ICcDataObjectManager {
+
+    static final int MESSAGE_CAPACITY = 1 << 16;
+
+    static final class Message {
+        final String severity;
+        final String text;
+        final ICcDataObject entity;
+
+        Message(String severity, String text, ICcDataObject entity) {
+            this.severity = severity;
+            this.text = text;
+            this.entity = entity;
+        }
+    }
+
+    private final Map<String, EntityType> types = new HashMap<>();
+    private final Map<String, EntitySet> entities = new HashMap<>();
+    private final List<Message> messages = new ArrayList<>();
+    private final IDecisionServiceMetadata metadata;
+    private long messageCount;
+
+    InMemoryDataObjectManager(IDecisionServiceMetadata metadata) {
+        this.metadata = metadata;
+    }
+
+    InMemoryDataObjectManager() {
+        this(new InMemoryDecisionServiceMetadata());
+    }
+
+    /** Adds a new entity and returns it. */
+    InMemoryDataObject add(String entityName) {
+        EntityType type = types.get(entityName);
+        if (type == null) {
+            type = new EntityType(entityName);
+            types.put(entityName, type);
+        }
+        InMemoryDataObject entity = new InMemoryDataObject(type);
+        EntitySet named = entities.get(entityName);
+        if (named == null) {
+            named = new EntitySet(16);
+            entities.put(entityName, named);
+        }
+        named.append(entity);
+        return entity;
+    }
+
+    /** Removes all entities of the given name. */
+    void clear(String entityName) {
+        entities.remove(entityName);
+    }
+
+    /** Returns the number of entities of the given name. */
+    int count(String entityName) {
+        EntitySet named = entities.get(entityName);
+        return named == null ? 0 : named.size();
+    }
+
+    /** Returns the most recent messages, at most {@link #MESSAGE_CAPACITY}. */
+    List<Message> messages() {
+        return messages;
+    }
+
+    /** Returns the number of messages posted since the manager was created. */
+    long messageCount() {
+        return messageCount;
+    }
+
+    @Override
+    public Set<ICcDataObject> getEntitiesByName(String entityName) {
+        EntitySet named = entities.get(entityName);
+        return named == null ? Collections.<ICcDataObject>emptySet() : named;
+    }
+
+    @Override
+    public ICcDataObject createEntity(String entityName) {
+        return add(entityName);
+    }
+
+    @Override
+    public void removeEntity(ICcDataObject dataObject) {
+        EntitySet named = entities.get(dataObject.getEntityName());
+        if (named != null)
+            named.remove(dataObject);
+    }
+
+    @Override
+    public void postMessage(String severity, String message, ICcDataObject dataObject) {
+        if (messages.size() == MESSAGE_CAPACITY)
+            messages.clear();
+        messages.add(new Message(severity, message, dataObject));
+        messageCount++;
+    }
+
+    @Override
+    public IDecisionServiceMetadata getDecisionServiceMetadata() {
+        return metadata;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import com.corticon.services.metadata.decisionservice.IDecisionServiceMetadata;
+
+/**
+ * Fixed Decision Service metadata, as a deployed service would report it.
+ */
+class InMemoryDecisionServiceMetadata implements IDecisionServiceMetadata {
+
+    @Override
+    public String getDecisionServiceName() {
+        return "CustomerMatching";
+    }
+
+    @Override
+    public Boolean getContainsServiceCallouts() {
+        return Boolean.TRUE;
+    }
+
+    @Override
+    public String getDecisionServiceVersionDisplay() {
+        return "3.2";
+    }
+
+    @Override
+    public String getEffectiveDateStart() {
+        return "2026-01-01";
+    }
+
+    @Override
+    public String getEffectiveDateStop() {
+        return "2026-12-31";
+    }
+
+    @Override
+    public int getRuleAssetMajorVersionNumber() {
+        return 3;
+    }
+
+    @Override
+    public int getRuleAssetMinorVersionNumber() {
+        return 2;
+    }
+
+    @Override
+    public int getRuleCount() {
+        return 148;
+    }
+
+    @Override
+    public boolean isAutoReloadRules() {
+        return true;
+    }
+
+    @Override
+    public boolean isConfiguredForDatabaseAccess() {
+        return false;
+    }
+
+    @Override
+    public boolean isConfiguredForObjectExecution() {
+        return false;
+    }
+
+    @Override
+    public boolean isDeployedAsEds() {
+        return true;
+    }
+
+    @Override
+    public boolean isDeployedAsRuleflow() {
+        return false;
+    }
+
+    @Override
+    public boolean isDeployedThroughStudioTester() {
+        return false;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.corticon.samples.extensions.JaroWinklerDistance;
+
+/**
+ * Jaro-Winkler on matching pairs (a string and its variant) and on unrelated
+ * pairs, where the minScore form can stop early.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class JaroWinklerDistanceBenchmark {
+
+    @Param({ "names", "longText" })
+    public String corpus;
+
+    @Param({ "variant", "unrelated" })
+    public String pairs;
+
+    private String[] left;
+    private String[] right;
+    private final BigDecimal minScore = new BigDecimal("0.9");
+    private final JaroWinklerDistance distance = new JaroWinklerDistance();
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        left = "names".equals(corpus) ? Corpora.shortNames(Corpora.SIZE, 21) : Corpora.longTexts(Corpora.SIZE, 22);
+        if ("variant".equals(pairs))
+            right = Corpora.variants(left, 23);
+        else
+            right = "names".equals(corpus) ? Corpora.shortNames(Corpora.SIZE, 24) : Corpora.longTexts(Corpora.SIZE, 25);
+    }
+
+    private int next() {
+        return cursor++ & Corpora.MASK;
+    }
+
+    @Benchmark
+    public BigDecimal compareWithJaroWinkler() {
+        int i = next();
+        return JaroWinklerDistance.compareWithJaroWinkler(left[i], right[i]);
+    }
+
+    @Benchmark
+    public BigDecimal compareWithJaroWinklerMinScore() {
+        int i = next();
+        return JaroWinklerDistance.compareWithJaroWinkler(left[i], right[i], minScore);
+    }
+
+    @Benchmark
+    public Double apply() {
+        int i = next();
+        return distance.apply(left[i], right[i]);
+    }
+}
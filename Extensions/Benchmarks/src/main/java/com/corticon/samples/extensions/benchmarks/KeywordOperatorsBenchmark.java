@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.corticon.samples.extensions.KeywordOperators;
+
+/**
+ * Keyword searches in free-text fields against a collection of company names
+ * and against a named reference list of the same names.
+ *
+ * The automaton over the collection is found in the operator cache after the
+ * first call, so every call still hashes and compares the whole collection.
+ * {@link #containsEachKeyword} is the loop of one {@code String.contains} per
+ * keyword that the operators replace.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class KeywordOperatorsBenchmark {
+
+    private static final String LIST_NAME = "benchmarkKeywords";
+
+    @Param({ "100", "10000" })
+    public int keywords;
+
+    private String[] collection;
+    private String[] texts;
+    private Path referenceDir;
+    private String previousReferenceDir;
+    private int cursor;
+
+    @Setup
+    public void setUp() throws IOException {
+        collection = Corpora.companyNames(keywords, 41);
+        texts = Corpora.longTexts(Corpora.SIZE, 42);
+
+        referenceDir = Files.createTempDirectory("corticon-benchmarks");
+        Files.write(referenceDir.resolve(LIST_NAME + ".txt"), Arrays.asList(collection), StandardCharsets.UTF_8);
+        previousReferenceDir = System.setProperty("corticon.samples.referenceDir", referenceDir.toString());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (previousReferenceDir == null)
+            System.clearProperty("corticon.samples.referenceDir");
+        else
+            System.setProperty("corticon.samples.referenceDir", previousReferenceDir);
+        Files.deleteIfExists(referenceDir.resolve(LIST_NAME + ".txt"));
+        Files.deleteIfExists(referenceDir);
+    }
+
+    private String nextText() {
+        return texts[cursor++ & Corpora.MASK];
+    }
+
+    @Benchmark
+    public Boolean containsAnyKeyword() {
+        return KeywordOperators.containsAnyKeyword(collection, nextText(), "exact");
+    }
+
+    @Benchmark
+    public boolean containsEachKeyword() {
+        String text = nextText();
+        for (String keyword : collection) {
+            if (text.contains(keyword))
+                return true;
+        }
+        return false;
+    }
+
+    @Benchmark
+    public String matchedKeywordsNormalized() {
+        return KeywordOperators.matchedKeywords(collection, nextText(), "normalized");
+    }
+
+    @Benchmark
+    public String keywordPositions() {
+        return KeywordOperators.keywordPositions(collection, nextText(), "ignoreCase");
+    }
+
+    @Benchmark
+    public Boolean containsAnyKeywordInList() {
+        return KeywordOperators.containsAnyKeywordInList(nextText(), LIST_NAME, "exact");
+    }
+
+    @Benchmark
+    public String matchedKeywordsInList() {
+        return KeywordOperators.matchedKeywordsInList(nextText(), LIST_NAME, "normalized");
+    }
+}
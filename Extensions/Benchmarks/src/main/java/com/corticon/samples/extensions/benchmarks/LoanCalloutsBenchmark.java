@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.corticon.samples.extensions.ServiceCallouts;
+
+/**
+ * The loan service callouts over the given number of 30-year monthly loans
+ * at 2-12% a year. One operation is one callout over all loans.
+ *
+ * buildAmortizationSchedule gets a fresh payload for every call, so each
+ * call creates all 360 installments of every loan. computeXirr reads 61
+ * dated cash flows per loan: the principal and five years of payments.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class LoanCalloutsBenchmark {
+
+    private static final long MONTH_MILLIS = 2_629_746_000L;
+
+    @Param({ "1", "100", "1000" })
+    public int loans;
+
+    private InMemoryDataObjectManager schedules;
+    private InMemoryDataObjectManager cashFlows;
+
+    @Setup(Level.Invocation)
+    public void newSchedulePayload() {
+        schedules = loans(loans, 0);
+    }
+
+    @Setup
+    public void setUp() {
+        cashFlows = loans(loans, 60);
+    }
+
+    private static InMemoryDataObjectManager loans(int count, int payments) {
+        Random random = new Random(141);
+        InMemoryDataObjectManager manager = new InMemoryDataObjectManager();
+        for (int i = 0; i < count; i++) {
+            double principal = 10_000 + random.nextInt(490_000);
+            double annualRate = 0.02 + random.nextInt(1000) / 10_000.0;
+            InMemoryDataObject loan = manager.add("Loan");
+            loan.setAttributeValue("principal", BigDecimal.valueOf(principal));
+            loan.setAttributeValue("annualRate", BigDecimal.valueOf(annualRate));
+            loan.setAttributeValue("term", 360L);
+            double rate = annualRate / 12;
+            BigDecimal payment = BigDecimal.valueOf(principal * rate / (1 - Math.pow(1 + rate, -360))).setScale(2, RoundingMode.HALF_UP);
+            long start = 1_767_225_600_000L + random.nextInt(365) * 86_400_000L;
+            for (int k = 0; k <= payments; k++) {
+                InMemoryDataObject flow = manager.add("CashFlow");
+                flow.setAttributeValue("date", new Date(start + k * MONTH_MILLIS));
+                flow.setAttributeValue("amount", k == 0 ? BigDecimal.valueOf(-principal) : payment);
+                loan.addAssociation("cashFlows", flow);
+            }
+        }
+        return manager;
+    }
+
+    @Benchmark
+    public InMemoryDataObjectManager buildAmortizationSchedule() {
+        ServiceCallouts.buildAmortizationSchedule(schedules, null);
+        return schedules;
+    }
+
+    @Benchmark
+    public InMemoryDataObjectManager computeXirr() {
+        ServiceCallouts.computeXirr(cashFlows, null);
+        return cashFlows;
+    }
+}
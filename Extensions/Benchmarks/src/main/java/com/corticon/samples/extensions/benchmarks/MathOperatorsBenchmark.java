@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.corticon.samples.extensions.MathOperators;
+
+/**
+ * Math operators. The trigonometric and logarithmic functions get values
+ * inside their domains, the others the general decimal corpus. The decimal
+ * functions compute to 34 digits, the precision of DECIMAL128.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class MathOperatorsBenchmark {
+
+    private BigDecimal[] values;
+    private BigDecimal[] unitInterval;
+    private BigDecimal[] positive;
+    private BigDecimal[] exponents;
+    private int cursor;
+
+    private static final BigInteger DIGITS = BigInteger.valueOf(34);
+
+    @Setup
+    public void setUp() {
+        values = Corpora.decimals(Corpora.SIZE, 81);
+        unitInterval = Corpora.decimalsBetween(Corpora.SIZE, -1, 1, 82);
+        positive = Corpora.decimalsBetween(Corpora.SIZE, 0.001, 1_000_000, 83);
+        exponents = Corpora.decimalsBetween(Corpora.SIZE, -20, 20, 84);
+    }
+
+    private int next() {
+        return cursor++ & Corpora.MASK;
+    }
+
+    @Benchmark
+    public BigDecimal getCircumference() {
+        return MathOperators.getCircumference(positive[next()]);
+    }
+
+    @Benchmark
+    public BigDecimal getFarenheight() {
+        return MathOperators.getFarenheight(exponents[next()]);
+    }
+
+    @Benchmark
+    public BigDecimal abs() {
+        return MathOperators.abs(values[next()]);
+    }
+
+    @Benchmark
+    public BigDecimal acos() {
+        return MathOperators.acos(unitInterval[next()]);
+    }
+
+    @Benchmark
+    public BigDecimal asin() {
+        return MathOperators.asin(unitInterval[next()]);
+    }
+
+    @Benchmark
+    public BigDecimal atan() {
+        return MathOperators.atan(values[next()]);
+    }
+
+    @Benchmark
+    public BigDecimal cbrt() {
+        return MathOperators.cbrt(values[next()]);
+    }
+
+    @Benchmark
+    public BigDecimal ceil() {
+        return MathOperators.ceil(values[next()]);
+    }
+
+    @Benchmark
+    public BigDecimal cos() {
+        return MathOperators.cos(exponents[next()]);
+    }
+
+    @Benchmark
+    public BigDecimal cosh() {
+        return MathOperators.cosh(exponents[next()]);
+    }
+
+    @Benchmark
+    public BigDecimal exp() {
+        return MathOperators.exp(exponents[next()]);
+    }
+
+    @Benchmark
+    public BigDecimal expm1() {
+        return MathOperators.expm1(exponents[next()]);
+    }
+
+    @Benchmark
+    public BigDecimal floor() {
+        return MathOperators.floor(values[next()]);
+    }
+
+    @Benchmark
+    public BigDecimal exponent() {
+        return MathOperators.exponent(values[next()]);
+    }
+
+    @Benchmark
+    public BigDecimal loge() {
+        return MathOperators.loge(positive[next()]);
+    }
+
+    @Benchmark
+    public BigDecimal log10() {
+        return MathOperators.log10(positive[next()]);
+    }
+
+    @Benchmark
+    public BigDecimal log1p() {
+        return MathOperators.log1p(positive[next()]);
+    }
+
+    @Benchmark
+    public BigDecimal decimalExp() {
+        return MathOperators.decimalExp(exponents[next()], DIGITS);
+    }
+
+    @Benchmark
+    public BigDecimal decimalLn() {
+        return MathOperators.decimalLn(positive[next()], DIGITS);
+    }
+
+    @Benchmark
+    public BigDecimal decimalSqrt() {
+        return MathOperators.decimalSqrt(positive[next()], DIGITS);
+    }
+
+    @Benchmark
+    public BigDecimal decimalSin() {
+        return MathOperators.decimalSin(exponents[next()], DIGITS);
+    }
+
+    @Benchmark
+    public BigDecimal decimalCos() {
+        return MathOperators.decimalCos(exponents[next()], DIGITS);
+    }
+}
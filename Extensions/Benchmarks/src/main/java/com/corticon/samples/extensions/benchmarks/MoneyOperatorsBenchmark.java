@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.corticon.samples.extensions.MoneyOperators;
+
+/**
+ * Money operators on amounts with two to four decimal places.
+ * percentageOfDivide computes a percentage with the exact divide by 100
+ * the operator avoids. splitInstallments computes every share of an amount
+ * split into 10,000 installments.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class MoneyOperatorsBenchmark {
+
+    private static final BigInteger TWO_DIGITS = BigInteger.valueOf(2);
+    private static final BigInteger INSTALLMENTS = BigInteger.valueOf(10_000);
+    private static final BigDecimal CASH_INCREMENT = new BigDecimal("0.05");
+    private static final BigDecimal PERCENT = new BigDecimal("7.5");
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+
+    private BigDecimal[] amounts;
+    private BigInteger[] indexes;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(91);
+        amounts = new BigDecimal[Corpora.SIZE];
+        indexes = new BigInteger[Corpora.SIZE];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = BigDecimal.valueOf(random.nextInt(100_000_000) - 10_000_000, 2 + random.nextInt(3));
+            indexes[i] = BigInteger.valueOf(1 + random.nextInt(10_000));
+        }
+    }
+
+    private int next() {
+        return cursor++ & Corpora.MASK;
+    }
+
+    @Benchmark
+    public BigDecimal truncateAmount() {
+        return MoneyOperators.truncateAmount(amounts[next()], TWO_DIGITS);
+    }
+
+    @Benchmark
+    public BigDecimal roundToIncrement() {
+        return MoneyOperators.roundToIncrement(amounts[next()], CASH_INCREMENT);
+    }
+
+    @Benchmark
+    public BigDecimal percentageOf() {
+        return MoneyOperators.percentageOf(amounts[next()], PERCENT, TWO_DIGITS);
+    }
+
+    @Benchmark
+    public BigDecimal percentageOfDivide() {
+        return amounts[next()].multiply(PERCENT).divide(ONE_HUNDRED).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public BigDecimal allocateShare() {
+        int i = next();
+        return MoneyOperators.allocateShare(amounts[i], INSTALLMENTS, indexes[i], TWO_DIGITS);
+    }
+
+    @Benchmark
+    public BigDecimal splitInstallments() {
+        BigDecimal amount = amounts[next()];
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 1; i <= 10_000; i++)
+            total = total.add(MoneyOperators.allocateShare(amount, INSTALLMENTS, BigInteger.valueOf(i), TWO_DIGITS));
+        return total;
+    }
+}
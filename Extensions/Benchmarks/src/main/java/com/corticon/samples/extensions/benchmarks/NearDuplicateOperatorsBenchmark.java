@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.corticon.samples.extensions.NearDuplicateOperators;
+
+/**
+ * Near-duplicate clustering of a company-name collection with about 20%
+ * near-duplicates, per algorithm and blocking strategy. One operation is one
+ * whole collection. NONE blocking compares all pairs and is only run on the
+ * small collection.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class NearDuplicateOperatorsBenchmark {
+
+    @Param({ "1000", "20000" })
+    public int size;
+
+    @Param({ "LEVENSHTEIN", "JAROWINKLER", "NGRAM", "TOKENS", "DOUBLEMETAPHONE" })
+    public String algorithm;
+
+    @Param({ "PHONETIC", "NGRAM", "SORTED", "NONE" })
+    public String blocking;
+
+    private String[] collection;
+    private final BigDecimal threshold = new BigDecimal("0.85");
+
+    @Setup
+    public void setUp() {
+        if ("NONE".equals(blocking) && size > 1000)
+            throw new IllegalStateException("NONE blocking is quadratic; run it with -p size=1000");
+        collection = Corpora.collection(size, 0.2, 41);
+    }
+
+    @Benchmark
+    public BigInteger nearDuplicateCount() {
+        return NearDuplicateOperators.nearDuplicateCount(collection, algorithm, threshold, blocking);
+    }
+
+    @Benchmark
+    public String nearDuplicateClusters() {
+        return NearDuplicateOperators.nearDuplicateClusters(collection, algorithm, threshold, blocking);
+    }
+}
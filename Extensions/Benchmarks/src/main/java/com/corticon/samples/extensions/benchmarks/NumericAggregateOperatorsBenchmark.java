@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.corticon.samples.extensions.NumericAggregateOperators;
+
+/**
+ * Aggregates over position values of a portfolio: amounts between 100 and
+ * 10 million with two to six fractional digits. 50000 is the size of a large
+ * portfolio; 1000000 is past the default parallel threshold.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class NumericAggregateOperatorsBenchmark {
+
+    @Param({ "1000", "50000", "1000000" })
+    public int size;
+
+    private BigDecimal[] collection;
+
+    @Setup
+    public void setUp() {
+        collection = Corpora.decimalsBetween(size, 100, 10000000, 137);
+    }
+
+    @Benchmark
+    public BigDecimal exactSum() {
+        return NumericAggregateOperators.exactSum(collection);
+    }
+
+    @Benchmark
+    public BigDecimal exactMean() {
+        return NumericAggregateOperators.exactMean(collection);
+    }
+
+    @Benchmark
+    public BigDecimal exactVariance() {
+        return NumericAggregateOperators.exactVariance(collection);
+    }
+
+    @Benchmark
+    public BigDecimal fastSum() {
+        return NumericAggregateOperators.fastSum(collection);
+    }
+
+    @Benchmark
+    public BigDecimal fastMean() {
+        return NumericAggregateOperators.fastMean(collection);
+    }
+
+    @Benchmark
+    public BigDecimal fastVariance() {
+        return NumericAggregateOperators.fastVariance(collection);
+    }
+
+    @Benchmark
+    public BigDecimal minValue() {
+        return NumericAggregateOperators.minValue(collection);
+    }
+
+    @Benchmark
+    public BigDecimal maxValue() {
+        return NumericAggregateOperators.maxValue(collection);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.corticon.samples.extensions.QuantileOperators;
+
+/**
+ * Quantiles of a collection by t-digest against sorting a copy, and the
+ * named-digest feed and query a rule would run on every execution.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class QuantileOperatorsBenchmark {
+
+    private static final BigDecimal P99 = new BigDecimal("0.99");
+    private static final String DIGEST = "benchmark";
+
+    @Param({ "1000", "50000" })
+    public int size;
+
+    private BigDecimal[] collection;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        collection = Corpora.decimalsBetween(size, 100, 10000000, 139);
+        QuantileOperators.addToDigest(collection, DIGEST);
+    }
+
+    @TearDown
+    public void tearDown() {
+        QuantileOperators.resetDigest(DIGEST);
+    }
+
+    @Benchmark
+    public BigDecimal quantile() {
+        return QuantileOperators.quantile(collection, P99);
+    }
+
+    /** The exact p99 by sorting, for comparison. */
+    @Benchmark
+    public BigDecimal sortedQuantile() {
+        BigDecimal[] sorted = collection.clone();
+        Arrays.sort(sorted);
+        return sorted[(int) Math.ceil(0.99 * sorted.length) - 1];
+    }
+
+    @Benchmark
+    public BigInteger addValueToDigest() {
+        return QuantileOperators.addValueToDigest(DIGEST, collection[cursor++ % size]);
+    }
+
+    @Benchmark
+    public BigDecimal digestQuantile() {
+        return QuantileOperators.digestQuantile(DIGEST, P99);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.corticon.samples.extensions.ServiceCallouts;
+
+/**
+ * The sample service callouts over an in-memory payload of the given number
+ * of entities per entity type (Customer with three orders each, Stock,
+ * Policy, Property). One operation is one callout over the whole payload.
+ *
+ * Sleep runs with a sleepInterval of 0, so it measures the callout overhead
+ * only. getEnvironmentDetails creates a SystemInfo entity per call; they are
+ * removed after each iteration.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ServiceCalloutsBenchmark {
+
+    @Param({ "1", "100", "10000" })
+    public int entities;
+
+    private InMemoryDataObjectManager manager;
+
+    @Setup
+    public void setUp() {
+        manager = SyntheticPayload.generate(entities, 3, 121);
+    }
+
+    @TearDown(Level.Iteration)
+    public void removeCreatedEntities() {
+        manager.clear("SystemInfo");
+        manager.messages().clear();
+    }
+
+    @Benchmark
+    public InMemoryDataObjectManager assignHub() {
+        ServiceCallouts.assignHub(manager);
+        return manager;
+    }
+
+    @Benchmark
+    public InMemoryDataObjectManager setPolicyPrice() {
+        ServiceCallouts.setPolicyPrice(manager);
+        return manager;
+    }
+
+    @Benchmark
+    public InMemoryDataObjectManager setStockPrice() {
+        ServiceCallouts.setStockPrice(manager);
+        return manager;
+    }
+
+    @Benchmark
+    public InMemoryDataObjectManager sleep() {
+        ServiceCallouts.Sleep(manager);
+        return manager;
+    }
+
+    @Benchmark
+    public InMemoryDataObjectManager getAppraisalValue() {
+        ServiceCallouts.getAppraisalValue(manager);
+        return manager;
+    }
+
+    @Benchmark
+    public InMemoryDataObjectManager getEnvironmentDetails() {
+        ServiceCallouts.getEnvironmentDetails(manager);
+        return manager;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.corticon.samples.extensions.SimilarityAnalysisOperators;
+
+/**
+ * Pairwise string similarity operators on name pairs and long text pairs.
+ * Each pair is an input and a typo/transliteration variant of it, so scores
+ * spread over the whole 0-1 range.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SimilarityAnalysisOperatorsBenchmark {
+
+    private static final BigInteger TRIGRAMS = BigInteger.valueOf(3);
+    private static final BigInteger SIGNATURE_SIZE = BigInteger.valueOf(128);
+
+    @Param({ "names", "companies", "longText" })
+    public String corpus;
+
+    private String[] left;
+    private String[] right;
+    private String[] leftKeys;
+    private String[] rightKeys;
+    private String[] leftSignatures;
+    private String[] rightSignatures;
+    private final BigDecimal minSimilarity = new BigDecimal("0.85");
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        switch (corpus) {
+        case "names":
+            left = Corpora.shortNames(Corpora.SIZE, 11);
+            break;
+        case "companies":
+            left = Corpora.companyNames(Corpora.SIZE, 12);
+            break;
+        default:
+            left = Corpora.longTexts(Corpora.SIZE, 13);
+            break;
+        }
+        right = Corpora.variants(left, 14);
+        leftKeys = new String[Corpora.SIZE];
+        rightKeys = new String[Corpora.SIZE];
+        leftSignatures = new String[Corpora.SIZE];
+        rightSignatures = new String[Corpora.SIZE];
+        for (int i = 0; i < Corpora.SIZE; i++) {
+            leftKeys[i] = SimilarityAnalysisOperators.doubleMetaphoneKeys(left[i]);
+            rightKeys[i] = SimilarityAnalysisOperators.doubleMetaphoneKeys(right[i]);
+            leftSignatures[i] = SimilarityAnalysisOperators.ngramMinHash(left[i], TRIGRAMS, SIGNATURE_SIZE);
+            rightSignatures[i] = SimilarityAnalysisOperators.ngramMinHash(right[i], TRIGRAMS, SIGNATURE_SIZE);
+        }
+    }
+
+    private int next() {
+        return cursor++ & Corpora.MASK;
+    }
+
+    @Benchmark
+    public BigDecimal levenshtein() {
+        int i = next();
+        return SimilarityAnalysisOperators.compareWithLevenshtein(left[i], right[i]);
+    }
+
+    @Benchmark
+    public BigDecimal levenshteinWithThreshold() {
+        int i = next();
+        return SimilarityAnalysisOperators.compareWithLevenshtein(left[i], right[i], minSimilarity);
+    }
+
+    @Benchmark
+    public BigDecimal ngram() {
+        int i = next();
+        return SimilarityAnalysisOperators.compareWithNgram(left[i], right[i], TRIGRAMS);
+    }
+
+    @Benchmark
+    public String ngramMinHash() {
+        return SimilarityAnalysisOperators.ngramMinHash(left[next()], TRIGRAMS, SIGNATURE_SIZE);
+    }
+
+    @Benchmark
+    public BigDecimal compareMinHash() {
+        int i = next();
+        return SimilarityAnalysisOperators.compareMinHash(leftSignatures[i], rightSignatures[i]);
+    }
+
+    @Benchmark
+    public BigDecimal doubleMetaphone() {
+        int i = next();
+        return SimilarityAnalysisOperators.compareWithDoubleMetaphone(left[i], right[i]);
+    }
+
+    @Benchmark
+    public String doubleMetaphoneKeys() {
+        return SimilarityAnalysisOperators.doubleMetaphoneKeys(left[next()]);
+    }
+
+    @Benchmark
+    public BigDecimal compareDoubleMetaphoneKeys() {
+        int i = next();
+        return SimilarityAnalysisOperators.compareDoubleMetaphoneKeys(leftKeys[i], rightKeys[i]);
+    }
+
+    @Benchmark
+    public BigDecimal tokenization() {
+        int i = next();
+        return SimilarityAnalysisOperators.compareWithTokenization(left[i], right[i]);
+    }
+
+    @Benchmark
+    public BigDecimal weightedTokens() {
+        int i = next();
+        return SimilarityAnalysisOperators.compareWithWeightedTokens(left[i], right[i]);
+    }
+}
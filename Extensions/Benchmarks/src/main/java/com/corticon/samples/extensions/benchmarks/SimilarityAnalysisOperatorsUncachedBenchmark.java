@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The pairwise similarity benchmarks with the text normalizer cache reduced
+ * to a single entry, so every call normalizes its inputs.
+ *
+ * The rotating inputs are fewer than the 4096 strings the cache holds by
+ * default, and the name corpora have fewer than 1000 distinct values, so in
+ * {@link SimilarityAnalysisOperatorsBenchmark} normalization is almost always
+ * a cache hit. This variant measures the cost for values seen for the first
+ * time.
+ */
+@Fork(value = 1, jvmArgsAppend = "-Dcorticon.samples.normalizerCacheSize=0")
+@State(Scope.Thread)
+public class SimilarityAnalysisOperatorsUncachedBenchmark extends SimilarityAnalysisOperatorsBenchmark {
+}
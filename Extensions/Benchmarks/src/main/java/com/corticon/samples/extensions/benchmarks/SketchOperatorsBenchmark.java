@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.corticon.samples.extensions.SketchOperators;
+
+/**
+ * Sketch operators over collections whose values follow a Zipf-like
+ * distribution over 100000 distinct values, like currency codes or product
+ * categories in transaction data.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SketchOperatorsBenchmark {
+
+    private static final BigInteger TOP_TEN = BigInteger.TEN;
+
+    @Param({ "10000", "1000000" })
+    public int size;
+
+    private String[] collection;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(131);
+        collection = new String[size];
+        for (int i = 0; i < size; i++)
+            collection[i] = "value-" + (int) Math.pow(100000, random.nextDouble());
+    }
+
+    @Benchmark
+    public BigInteger approxDistinctCount() {
+        return SketchOperators.approxDistinctCount(collection);
+    }
+
+    @Benchmark
+    public String approxTopValues() {
+        return SketchOperators.approxTopValues(collection, TOP_TEN);
+    }
+}
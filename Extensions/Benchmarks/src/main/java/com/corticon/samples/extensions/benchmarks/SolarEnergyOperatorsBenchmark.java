@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.corticon.samples.extensions.SolarEnergyOperators;
+
+/**
+ * Solar geometry operators over the physically meaningful input ranges.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SolarEnergyOperatorsBenchmark {
+
+    private BigDecimal[] angles;
+    private BigDecimal[] latitudes;
+    private BigDecimal[] declinations;
+    private BigDecimal[] solarTimes;
+    private BigDecimal[] zenithAngles;
+    private Integer[] days;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        angles = Corpora.decimalsBetween(Corpora.SIZE, -180, 180, 101);
+        latitudes = Corpora.decimalsBetween(Corpora.SIZE, -66, 66, 102);
+        declinations = Corpora.decimalsBetween(Corpora.SIZE, -23.45, 23.45, 103);
+        solarTimes = Corpora.decimalsBetween(Corpora.SIZE, 5, 21, 104);
+        zenithAngles = Corpora.decimalsBetween(Corpora.SIZE, 0, 89, 105);
+        Random random = new Random(106);
+        days = new Integer[Corpora.SIZE];
+        for (int i = 0; i < Corpora.SIZE; i++)
+            days[i] = 1 + random.nextInt(365);
+    }
+
+    private int next() {
+        return cursor++ & Corpora.MASK;
+    }
+
+    @Benchmark
+    public BigDecimal sinDegrees() {
+        return SolarEnergyOperators.sinDegrees(angles[next()]);
+    }
+
+    @Benchmark
+    public BigDecimal cosDegrees() {
+        return SolarEnergyOperators.cosDegrees(angles[next()]);
+    }
+
+    @Benchmark
+    public BigDecimal calculateElevationAngle() {
+        int i = next();
+        return SolarEnergyOperators.calculateElevationAngle(declinations[i], latitudes[i], angles[i]);
+    }
+
+    @Benchmark
+    public BigDecimal calculateSolarDeclination() {
+        return SolarEnergyOperators.calculateSolarDeclination(days[next()]);
+    }
+
+    @Benchmark
+    public BigDecimal calculateHourAngle() {
+        return SolarEnergyOperators.calculateHourAngle(solarTimes[next()]);
+    }
+
+    @Benchmark
+    public BigDecimal calculateAirMass() {
+        return SolarEnergyOperators.calculateAirMass(zenithAngles[next()]);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Generates the payload the sample service callouts work on: Customers with
+ * associated Orders, Stocks, Policies, Properties and one Config entity.
+ *
+ * Values are drawn from a seeded random generator, so the same arguments
+ * always produce the same payload. Stock symbols include ones without a
+ * price, so setStockPrice posts both Info and Warning messages.
+ */
+final class SyntheticPayload {
+
+    static final String[] STOCK_SYMBOLS = { "MSFT", "ORCL", "IBM", "HP", "GOOG", "PRGS", "SAP" };
+    static final String[] POLICY_TYPES = { "A", "B", "C", "D" };
+
+    private SyntheticPayload() {
+    }
+
+    /**
+     * Returns a manager holding the given number of Customers, Stocks,
+     * Policies and Properties, with ordersPerCustomer Orders associated with
+     * each Customer through the "orders" role.
+     */
+    static InMemoryDataObjectManager generate(int entities, int ordersPerCustomer, long seed) {
+        Random random = new Random(seed);
+        InMemoryDataObjectManager manager = new InMemoryDataObjectManager();
+        long orderId = 0;
+        for (int i = 0; i < entities; i++) {
+            InMemoryDataObject customer = manager.add("Customer");
+            customer.setAttributeValue("customerId", (long) i);
+            for (int k = 0; k < ordersPerCustomer; k++) {
+                InMemoryDataObject order = manager.add("Order");
+                order.setAttributeValue("orderId", orderId++);
+                customer.addAssociation("orders", order);
+                order.addAssociation("customer", customer);
+            }
+            manager.add("Stock").setAttributeValue("symbol", STOCK_SYMBOLS[random.nextInt(STOCK_SYMBOLS.length)]);
+            manager.add("Policy").setAttributeValue("type", POLICY_TYPES[random.nextInt(POLICY_TYPES.length)]);
+            manager.add("Property").setAttributeValue("propertyId", (long) i);
+        }
+        manager.add("Config").setAttributeValue("sleepInterval", 0L);
+        return manager;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions.benchmarks;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.corticon.samples.extensions.UtilityOperators;
+
+/**
+ * Utility operators: great-circle distance between random coordinates, the
+ * clock, and the Decision Service metadata accessors against an in-memory
+ * data object manager.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class UtilityOperatorsBenchmark {
+
+    private BigDecimal[] latitudes;
+    private BigDecimal[] longitudes;
+    private InMemoryDataObjectManager manager;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        latitudes = Corpora.decimalsBetween(Corpora.SIZE, -90, 90, 111);
+        longitudes = Corpora.decimalsBetween(Corpora.SIZE, -180, 180, 112);
+        manager = new InMemoryDataObjectManager();
+    }
+
+    @Benchmark
+    public BigDecimal calcDistance() {
+        int i = cursor++ & Corpora.MASK;
+        int j = (i + 1) & Corpora.MASK;
+        return UtilityOperators.calcDistance(latitudes[i], longitudes[i], latitudes[j], longitudes[j]);
+    }
+
+    @Benchmark
+    public BigInteger getMillis() {
+        return UtilityOperators.getMillis();
+    }
+
+    @Benchmark
+    public String getName() {
+        return UtilityOperators.getName(manager);
+    }
+
+    @Benchmark
+    public String getVersionDisplay() {
+        return UtilityOperators.getVersionDisplay(manager);
+    }
+
+    @Benchmark
+    public BigInteger getRuleCount() {
+        return UtilityOperators.getRuleCount(manager);
+    }
+
+    @Benchmark
+    public Boolean deployedEDS() {
+        return UtilityOperators.deployedEDS(manager);
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.services.dataobject;
+
+import java.util.Set;
+
+/**
+ * Benchmark stand-in for the Corticon data object API. Declares only the
+ * members the sample service callouts use.
+ */
+public interface ICcDataObject {
+    Object getAttributeValue(String attributeName);
+
+    void setAttributeValue(String attributeName, Object value);
+
+    Set<ICcDataObject> getAssociations(String roleName);
+
+    void addAssociation(String roleName, ICcDataObject dataObject);
+
+    void removeAssociation(String roleName, ICcDataObject dataObject);
+
+    String getEntityName();
+}
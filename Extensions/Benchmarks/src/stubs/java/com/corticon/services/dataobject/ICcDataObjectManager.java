@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.services.dataobject;
+
+import java.util.Set;
+
+import com.corticon.services.metadata.decisionservice.IDecisionServiceMetadata;
+
+/**
+ * Benchmark stand-in for the Corticon data object manager API. Declares only
+ * the members the sample service callouts and operators use.
+ */
+public interface ICcDataObjectManager {
+    Set<ICcDataObject> getEntitiesByName(String entityName);
+
+    ICcDataObject createEntity(String entityName);
+
+    void removeEntity(ICcDataObject dataObject);
+
+    void postMessage(String severity, String message, ICcDataObject dataObject);
+
+    IDecisionServiceMetadata getDecisionServiceMetadata();
+}
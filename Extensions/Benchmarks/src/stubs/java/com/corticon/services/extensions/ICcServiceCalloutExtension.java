@@ -0,0 +1,12 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.services.extensions;
+
+/**
+ * Benchmark stand-in for the Corticon extension marker interface of the same
+ * name in CcExtensionApi.jar.
+ */
+public interface ICcServiceCalloutExtension {
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.services.metadata.decisionservice;
+
+/**
+ * Benchmark stand-in for the Corticon Decision Service metadata API. Declares
+ * only the members UtilityOperators uses.
+ */
+public interface IDecisionServiceMetadata {
+    String getDecisionServiceName();
+
+    Boolean getContainsServiceCallouts();
+
+    String getDecisionServiceVersionDisplay();
+
+    String getEffectiveDateStart();
+
+    String getEffectiveDateStop();
+
+    int getRuleAssetMajorVersionNumber();
+
+    int getRuleAssetMinorVersionNumber();
+
+    int getRuleCount();
+
+    boolean isAutoReloadRules();
+
+    boolean isConfiguredForDatabaseAccess();
+
+    boolean isConfiguredForObjectExecution();
+
+    boolean isDeployedAsEds();
+
+    boolean isDeployedAsRuleflow();
+
+    boolean isDeployedThroughStudioTester();
+}
@@ -4,9 +4,7 @@
  */
 package com.corticon.samples.extensions;
 
-import java.util.Calendar;
 import java.util.Date;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.math.BigInteger;
 
@@ -32,6 +30,9 @@ public class AttributeOperators implements ICcStringExtension, ICcDateTimeExtens
 	/**
 	 * Determine if a date is a leap year.
 	 * 
+	 * The year is taken in the zone of the other date operators (see
+	 * {@link CivilDates}) without allocating a Calendar.
+	 * 
 	 * @param d A date.
 	 * 
 	 * @return true if the date is a leap year.
@@ -42,24 +43,22 @@ public class AttributeOperators implements ICcStringExtension, ICcDateTimeExtens
 		if (d == null)
 			return null;
 
-		Calendar c = Calendar.getInstance();
-		c.setTime(d);
-
-		int year = c.get(Calendar.YEAR);
-		if ((year % 400 == 0) || ((year % 4 == 0) && (year % 100 != 0)))
-			return true;
-		else
-			return false;
+		long year = CivilDates.year(CivilDates.civil(CivilDates.epochDay(d.getTime())));
+		return Boolean.valueOf(CivilDates.isLeapYear(year));
 	}
 
 	/**
 	 * Replaces all occurrences of a substring in a string with another string.
 	 * 
+	 * The search string is a regular expression, compiled once and cached. A
+	 * search string without metacharacters, with a replacement that has no
+	 * group references, is replaced literally without a regular expression.
+	 * 
 	 * @param s A string.
 	 * @param searchString The substring to look for in s.
 	 * @param replacement The string to replace it with.
 	 * @return The original string with all instances of searchString replace by
-	 * replacement.
+	 * replacement, or null if searchString is not a valid regular expression.
 	 */
 	@OperatorFolder(lang = { "en" }, values = { "String" })
 	@Description(lang = { "en" }, values = { "Replace all occurences of a substring with a string with another string." })
@@ -72,24 +71,70 @@ public class AttributeOperators implements ICcStringExtension, ICcDateTimeExtens
 		if (searchString == null)
 			return s;
 
-		String r = s.replaceAll(searchString, replacement);
-		return r;
+		if (replacement == null)
+			return null;
+
+		if (!searchString.isEmpty() && PatternCache.isLiteral(searchString)
+				&& replacement.indexOf('$') < 0 && replacement.indexOf('\\') < 0)
+			return replaceLiteral(s, searchString, replacement);
+
+		Pattern pattern = PatternCache.get(searchString);
+		if (pattern == null)
+			return null;
+
+		try {
+			return pattern.matcher(s).replaceAll(replacement);
+		} catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+			return null; // replacement refers to a group the pattern does not have
+		}
+	}
+
+	private static String replaceLiteral(String s, String searchString, String replacement) {
+		int index = s.indexOf(searchString);
+		if (index < 0)
+			return s;
+
+		StringBuilder sb = new StringBuilder(s.length() + Math.max(0, replacement.length() - searchString.length()) * 4);
+		int start = 0;
+		do {
+			sb.append(s, start, index).append(replacement);
+			start = index + searchString.length();
+			index = s.indexOf(searchString, start);
+		} while (index >= 0);
+		return sb.append(s, start, s.length()).toString();
 	}
 
+	/**
+	 * Determine if a string matches a regular expression. The expression is
+	 * compiled once and cached, including expressions that fail to compile.
+	 * 
+	 * @param strInput A string.
+	 * @param strPattern The regular expression.
+	 * @return true if the whole string matches, or null if either argument is
+	 * null or the expression is not valid.
+	 */
 	@OperatorFolder(lang = { "en" }, values = { "String" })
 	@Description(lang = { "en" }, values = { "Returns true if the input string matches the supplied regular expression." })
 	public static Boolean regex(String strInput, @ArgumentName(lang = { "en" }, values = { "Regular expression" }) String strPattern){
-		String patternStr = strPattern; 
-		Pattern pattern = Pattern.compile(patternStr); 
-		Matcher matcher = pattern.matcher(strInput); 
-		return new Boolean(matcher.matches());
+		if (strInput == null || strPattern == null)
+			return null;
+
+		Pattern pattern = PatternCache.get(strPattern);
+		if (pattern == null)
+			return null;
+
+		return Boolean.valueOf(pattern.matcher(strInput).matches());
 	}
 
 	@OperatorFolder(lang = { "en" }, values = { "String" })
     @Description(lang = { "en" }, values = { "Determine whether the specified string contains any blanks." })
     public static Boolean containsBlanks(String astrThis) 
     {
-       if (astrThis.indexOf(" ") >= 0) {
+       if (astrThis == null) {
+          return null;
+       }
+
+       if (astrThis.indexOf(' ') >= 0) {
           return Boolean.TRUE;
        }
  
@@ -121,13 +166,13 @@ public class AttributeOperators implements ICcStringExtension, ICcDateTimeExtens
           return Boolean.FALSE;
        }
        
-       for (int liIndex=0; liIndex< astrThis.length(); liIndex++) {
-          if (!Character.isDigit(astrThis.charAt(liIndex))) {
-             return Boolean.FALSE;
-          }
+       // ASCII digits are scanned in bulk; the rest is checked against every Unicode digit
+       int liFirst = CharKernels.get().firstNonAsciiDigit(astrThis, 0, astrThis.length());
+       if (liFirst == astrThis.length()) {
+          return Boolean.TRUE;
        }
  
-       return Boolean.TRUE;
+       return Boolean.valueOf(CharClass.digits().indexOfNotIn(astrThis, liFirst) < 0);
     }
     
     @OperatorFolder(lang = { "en" }, values = { "String" })
@@ -149,35 +194,44 @@ public class AttributeOperators implements ICcStringExtension, ICcDateTimeExtens
           return Boolean.FALSE;
        }
  
-       char[] lchArrayThis = astrThis.toCharArray();
-       
-       for (int liIndexThis = 0; liIndexThis < lchArrayThis.length; liIndexThis++) 
+       //  The character set is compiled once and cached; the string is scanned once
+       return Boolean.valueOf(CharClass.of(astrCharcterSet).indexOfNotIn(astrThis, 0) < 0);
+    }
+
+    @OperatorFolder(lang = { "en" }, values = { "String" })
+    @Description(lang = { "en" }, values = { "Remove every character that is contained in the passed in String from the specified string" })
+    public static String stripChars(String astrThis, @ArgumentName(lang = { "en" }, values = { "characterSet" }) String astrCharacterSet) 
+    {
+       if (astrThis == null || astrCharacterSet == null) 
        {
-          String lstrThisCharacter = String.valueOf(lchArrayThis[liIndexThis]);
-          
-          boolean lbFoundMatch = false;
-          for (int liIndexCharacterSet = 0; liIndexCharacterSet < astrCharcterSet.length(); liIndexCharacterSet++)
-          {
-             char[] lchArrayCharacterSet = astrCharcterSet.toCharArray();
-             
-             String lstrCharacterSetValue = String.valueOf(lchArrayCharacterSet[liIndexCharacterSet]);
+          return null;
+       }
  
-             //  Check to see if they are equal
-             if (lstrThisCharacter.equals(lstrCharacterSetValue))
-             {
-                lbFoundMatch = true;
-                break;
-             }
-          }
+       return CharClass.of(astrCharacterSet).strip(astrThis);
+    }
+
+    @OperatorFolder(lang = { "en" }, values = { "String" })
+    @Description(lang = { "en" }, values = { "Count the characters of the specified string that are contained in the passed in String" })
+    public static BigInteger countCharsIn(String astrThis, @ArgumentName(lang = { "en" }, values = { "characterSet" }) String astrCharacterSet) 
+    {
+       if (astrThis == null || astrCharacterSet == null) 
+       {
+          return null;
+       }
  
-          //  If there was no match found for the ThisCharacter, return false
-          if (lbFoundMatch == false)
-          {
-             return Boolean.FALSE;
-          }
+       return BigInteger.valueOf(CharClass.of(astrCharacterSet).count(astrThis));
+    }
+
+    @OperatorFolder(lang = { "en" }, values = { "String" })
+    @Description(lang = { "en" }, values = { "Returns the position (one-based) of the first character of the specified string that is not contained in the passed in String, or 0 if there is none" })
+    public static BigInteger firstCharNotIn(String astrThis, @ArgumentName(lang = { "en" }, values = { "characterSet" }) String astrCharacterSet) 
+    {
+       if (astrThis == null || astrCharacterSet == null) 
+       {
+          return null;
        }
  
-       //  If the method has not kicked out from the above loop, then everything did match up.
-       return Boolean.TRUE;
+       //  One-based like characterAt, so the result can be passed to it
+       return BigInteger.valueOf(CharClass.of(astrCharacterSet).indexOfNotIn(astrThis, 0) + 1);
     }
 }
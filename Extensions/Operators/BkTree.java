@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Burkhard-Keller tree over a fixed list of reference strings, for finding
+ * the entries within a Levenshtein distance of a query without comparing the
+ * query with every entry.
+ *
+ * Entries are compared case-insensitively. Entries with the same lower-cased
+ * key share a node. Each node remembers the largest distance to any of its
+ * children, so the distance from the query to a node is only computed up to
+ * maxDistance plus that edge: beyond it no child can be within reach.
+ */
+final class BkTree {
+
+    static final class Match {
+        final int entry;
+        final int distance;
+
+        Match(int entry, int distance) {
+            this.entry = entry;
+            this.distance = distance;
+        }
+    }
+
+    private final String[] entries;
+
+    // Node arrays; node 0 is the root
+    private final String[] keys;
+    private final int[] firstEntry;
+    private final int[] nextEntry;
+    private final int[] firstChild;
+    private final int[] nextSibling;
+    private final int[] edge;
+    private final int[] maxEdge;
+    private final int nodeCount;
+
+    private static final ThreadLocal<int[]> STACK = ThreadLocal.withInitial(() -> new int[64]);
+
+    BkTree(String[] entries) {
+        this.entries = entries;
+        int size = entries.length;
+        this.keys = new String[size];
+        this.firstEntry = new int[size];
+        this.nextEntry = new int[size];
+        this.firstChild = new int[size];
+        this.nextSibling = new int[size];
+        this.edge = new int[size];
+        this.maxEdge = new int[size];
+
+        Map<String, Integer> nodes = new HashMap<>();
+        int[] lastEntry = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            nextEntry[i] = -1;
+            if (entries[i] == null)
+                continue;
+            String key = entries[i].toLowerCase(Locale.ROOT);
+            Integer existing = nodes.get(key);
+            if (existing != null) {
+                nextEntry[lastEntry[existing]] = i;
+                lastEntry[existing] = i;
+                continue;
+            }
+            int node = count++;
+            nodes.put(key, node);
+            keys[node] = key;
+            firstEntry[node] = i;
+            lastEntry[node] = i;
+            firstChild[node] = -1;
+            nextSibling[node] = -1;
+            if (node > 0)
+                insert(node);
+        }
+        this.nodeCount = count;
+    }
+
+    private void insert(int node) {
+        int parent = 0;
+        while (true) {
+            int d = LevenshteinEngine.distance(keys[node], keys[parent]);
+            int child = firstChild[parent];
+            while (child >= 0 && edge[child] != d)
+                child = nextSibling[child];
+            if (child < 0) {
+                edge[node] = d;
+                nextSibling[node] = firstChild[parent];
+                firstChild[parent] = node;
+                if (d > maxEdge[parent])
+                    maxEdge[parent] = d;
+                return;
+            }
+            parent = child;
+        }
+    }
+
+    String entry(int index) {
+        return entries[index];
+    }
+
+    /**
+     * Returns up to limit entries within maxDistance of the query, nearest
+     * first. Ties keep the order of the reference list.
+     */
+    List<Match> search(String query, int maxDistance, int limit) {
+        List<Match> matches = new ArrayList<>();
+        if (nodeCount == 0 || limit <= 0 || maxDistance < 0)
+            return matches;
+        String q = query.toLowerCase(Locale.ROOT);
+
+        // Candidates sorted by (distance, entry); the radius shrinks once limit are found
+        int radius = maxDistance;
+        int[] stack = STACK.get();
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            int d = LevenshteinEngine.boundedDistance(q, keys[node], radius + maxEdge[node]);
+            if (d < 0)
+                continue;
+            if (d <= radius) {
+                for (int e = firstEntry[node]; e >= 0; e = nextEntry[e])
+                    insertSorted(matches, new Match(e, d), limit);
+                if (matches.size() == limit)
+                    radius = matches.get(limit - 1).distance;
+            }
+            for (int child = firstChild[node]; child >= 0; child = nextSibling[child]) {
+                if (edge[child] >= d - radius && edge[child] <= d + radius) {
+                    if (top == stack.length) {
+                        stack = Arrays.copyOf(stack, top * 2);
+                        STACK.set(stack);
+                    }
+                    stack[top++] = child;
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static void insertSorted(List<Match> matches, Match match, int limit) {
+        int pos = matches.size();
+        while (pos > 0) {
+            Match prev = matches.get(pos - 1);
+            if (prev.distance < match.distance || (prev.distance == match.distance && prev.entry < match.entry))
+                break;
+            pos--;
+        }
+        if (pos >= limit)
+            return;
+        matches.add(pos, match);
+        if (matches.size() > limit)
+            matches.remove(limit);
+    }
+}
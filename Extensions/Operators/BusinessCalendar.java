@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+
+/**
+ * Business days: Monday to Friday, except the holidays of a list.
+ *
+ * Holidays are read from the entries of a reference list, one ISO date
+ * (2026-12-25) at the start of each entry; the rest of the entry, such as
+ * the name of the holiday, and entries that do not start with a date are
+ * ignored. Holidays falling on a weekend change nothing and are dropped.
+ *
+ * Weekdays are counted in closed form, five per week, and holidays by binary
+ * search in the sorted holiday days, so counting and adding business days
+ * take the same time for a week as for a decade.
+ *
+ * A calendar is immutable and can be shared between threads.
+ */
+final class BusinessCalendar {
+
+    static final BusinessCalendar WEEKDAYS = new BusinessCalendar(new long[0]);
+
+    private final long[] holidays;
+
+    private BusinessCalendar(long[] holidays) {
+        this.holidays = holidays;
+    }
+
+    static BusinessCalendar parse(String[] entries) {
+        long[] days = new long[entries.length];
+        int count = 0;
+        for (String entry : entries) {
+            int end = 0;
+            while (end < entry.length() && !Character.isWhitespace(entry.charAt(end)))
+                end++;
+            try {
+                long day = LocalDate.parse(entry.substring(0, end)).toEpochDay();
+                if (CivilDates.dayOfWeek(day) <= 5)
+                    days[count++] = day;
+            } catch (DateTimeParseException ex) {
+                // Not a holiday entry
+            }
+        }
+        Arrays.sort(days, 0, count);
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (unique == 0 || days[i] != days[unique - 1])
+                days[unique++] = days[i];
+        }
+        return new BusinessCalendar(Arrays.copyOf(days, unique));
+    }
+
+    boolean isBusinessDay(long day) {
+        return CivilDates.dayOfWeek(day) <= 5 && Arrays.binarySearch(holidays, day) < 0;
+    }
+
+    /**
+     * Returns the number of business days after from up to and including to,
+     * or minus the number after to up to and including from if to is earlier.
+     */
+    long count(long from, long to) {
+        if (to < from)
+            return -count(to, from);
+        return weekdaysThrough(to) - weekdaysThrough(from) - (holidaysThrough(to) - holidaysThrough(from));
+    }
+
+    /**
+     * Returns the day that is the given number of business days after day,
+     * or before it if days is negative; day itself if days is 0.
+     */
+    long add(long day, long days) {
+        if (days == 0)
+            return day;
+        // Skip as many more weekdays as there are holidays among those
+        // skipped, until that number no longer grows
+        long n = Math.abs(days);
+        long weekdays = n;
+        while (true) {
+            long target;
+            long skipped;
+            if (days > 0) {
+                target = nthWeekday(weekdaysThrough(day) + weekdays);
+                skipped = holidaysThrough(target) - holidaysThrough(day);
+            } else {
+                target = nthWeekday(weekdaysThrough(day - 1) - weekdays + 1);
+                skipped = holidaysThrough(day - 1) - holidaysThrough(target - 1);
+            }
+            if (n + skipped == weekdays)
+                return target;
+            weekdays = n + skipped;
+        }
+    }
+
+    // Weekdays from an arbitrary Monday through day; the differences are what count
+    private static long weekdaysThrough(long day) {
+        // day + 3 is a multiple of 7 on Mondays
+        long d = day + 3;
+        return Math.floorDiv(d, 7) * 5 + Math.min(Math.floorMod(d, 7) + 1, 5);
+    }
+
+    // The weekday through which weekdaysThrough counts n
+    private static long nthWeekday(long n) {
+        long q = Math.floorDiv(n - 1, 5);
+        return q * 7 + Math.floorMod(n - 1, 5) - 3;
+    }
+
+    private long holidaysThrough(long day) {
+        int i = Arrays.binarySearch(holidays, day);
+        return i >= 0 ? i + 1 : -i - 1;
+    }
+}
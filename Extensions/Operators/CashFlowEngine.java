@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Discounted cash-flow arithmetic shared by the cash-flow operators and the
+ * loan service callouts: net present value, internal rate of return for
+ * periodic and for dated cash flows, and the level payment of a loan.
+ *
+ * Present values are computed in double. Periodic flows are discounted by
+ * Horner's rule, one multiplication per period and no Math.pow. As a
+ * decimal, a present value keeps only the decimal places that the rounding
+ * error of that sum leaves exact, so it does not show noise such as
+ * 0.1000000000000010.
+ *
+ * A rate of return is found by Newton's method. When Newton leaves the
+ * range of rates, stalls, or takes too many steps, the rate is bracketed
+ * between rates with present values of opposite sign and found by
+ * bisection, taking Newton steps where they stay inside the bracket.
+ *
+ * Flows whose sign changes once, in the order of time, have exactly one
+ * rate of return. For those, Newton starts from the last rate found, which
+ * in a batch of similar loans is a few iterations away. Flows whose sign
+ * changes more than once can have several rates of return; the search for
+ * them always starts from {@link #DEFAULT_GUESS}, so that the same flows
+ * always give the same rate.
+ *
+ * The rate found is then settled on the grid of {@link #RATE_DECIMALS}
+ * decimal places: it is the grid point whose cell, half a step to either
+ * side, holds the change of sign of the present value. That point depends
+ * only on the flows, not on where or how the search went, so a rate is
+ * reproducible to the last digit returned.
+ */
+public final class CashFlowEngine {
+
+    /** The largest rate per period searched, 100,000%. */
+    static final double MAX_RATE = 1000;
+
+    /** The decimal places a rate of return is settled to. */
+    public static final int RATE_DECIMALS = 12;
+
+    /** The starting rate for flows that can have more than one rate of return. */
+    static final double DEFAULT_GUESS = 0.1;
+
+    private static final double RATE_STEP = 1e-12;
+    private static final int SETTLE_STEPS = 64;
+
+    private static final int NEWTON_STEPS = 32;
+    private static final int BRACKETED_STEPS = 200;
+    private static final double TOLERANCE = 1e-13;
+
+    // Rates at which the present value is sampled when looking for a bracket
+    private static final double[] BRACKET_RATES = {
+        -0.99, -0.98, -0.96, -0.94, -0.92, -0.9, -0.85, -0.8, -0.7, -0.6, -0.5, -0.4, -0.3, -0.2, -0.15, -0.1,
+        -0.05, -0.02, -0.01, 0, 0.005, 0.01, 0.02, 0.05, 0.1, 0.2, 0.5, 1, 2, 5, 10, 100, MAX_RATE
+    };
+
+    private static final MathContext WORK = MathContext.DECIMAL128;
+
+    // The last rate found for flows with one rate of return; read and
+    // written without synchronization, since it only changes where the
+    // search starts, not the rate it settles on
+    private static volatile double lastRate = DEFAULT_GUESS;
+
+    private CashFlowEngine() {
+    }
+
+    /**
+     * Returns the value at period 0 of the flows, the first at period 0 and
+     * each next one period later, discounted at the rate per period.
+     */
+    public static double npv(double rate, double[] flows) {
+        double discount = 1 / (1 + rate);
+        double value = 0;
+        for (int i = flows.length - 1; i >= 0; i--)
+            value = value * discount + flows[i];
+        return value;
+    }
+
+    /**
+     * Returns {@link #npv} as a decimal to the decimal places its rounding
+     * error allows, at most {@code -Dcorticon.samples.mathPrecision}
+     * significant digits, or null if it is not finite.
+     */
+    public static BigDecimal decimalNpv(double rate, double[] flows) {
+        double discount = 1 / (1 + rate);
+        double value = 0;
+        double magnitude = 0;
+        for (int i = flows.length - 1; i >= 0; i--) {
+            value = value * discount + flows[i];
+            magnitude = magnitude * discount + Math.abs(flows[i]);
+        }
+        if (Double.isNaN(value) || Double.isInfinite(value) || Double.isInfinite(magnitude))
+            return null;
+        // Each step of Horner's rule adds at most two roundings, relative to
+        // the sum of the absolute values of the terms
+        double error = magnitude * (flows.length + 2) * 0x1p-52;
+        if (error == 0)
+            return BigDecimal.ZERO;
+        int places = -(int) Math.floor(Math.log10(error));
+        return plain(BigDecimal.valueOf(value).setScale(places, RoundingMode.HALF_EVEN).round(DecimalMath.CONTEXT));
+    }
+
+    /**
+     * Returns the value at the first date of flows on the given days after
+     * it, discounted at the annual rate over years of 365 days.
+     */
+    public static double xnpv(double rate, double[] flows, double[] days) {
+        double value = 0;
+        for (int i = 0; i < flows.length; i++)
+            value += flows[i] * Math.pow(1 + rate, -days[i] / 365);
+        return value;
+    }
+
+    /**
+     * Returns the rate per period at which the periodic flows have a present
+     * value of 0, a multiple of 10^-12, or NaN if there is none: the flows
+     * need at least one positive and one negative amount.
+     */
+    public static double irr(double[] flows) {
+        return solve(flows, null);
+    }
+
+    /**
+     * Returns the annual rate at which the flows on the given days after the
+     * first one have a present value of 0, a multiple of 10^-12, or NaN if
+     * there is none.
+     */
+    public static double xirr(double[] flows, double[] days) {
+        return solve(flows, days);
+    }
+
+    /** Returns a rate found by {@link #irr} or {@link #xirr} as a decimal, or null for NaN. */
+    public static BigDecimal decimalRate(double rate) {
+        if (Double.isNaN(rate))
+            return null;
+        return plain(BigDecimal.valueOf(rate).setScale(RATE_DECIMALS, RoundingMode.HALF_EVEN));
+    }
+
+    // Without trailing zeros, and without an exponent for whole numbers
+    private static BigDecimal plain(BigDecimal value) {
+        BigDecimal stripped = value.stripTrailingZeros();
+        return stripped.scale() < 0 ? stripped.setScale(0) : stripped;
+    }
+
+    /**
+     * Returns the level payment per period that repays the principal with
+     * interest at the rate per period over the number of periods, rounded
+     * half up to the decimal places.
+     */
+    public static BigDecimal payment(BigDecimal principal, BigDecimal rate, int periods, int digits) {
+        if (rate.signum() == 0)
+            return principal.divide(BigDecimal.valueOf(periods), digits, RoundingMode.HALF_UP);
+        // principal * rate / (1 - (1 + rate)^-periods)
+        BigDecimal growth = BigDecimal.ONE.add(rate).pow(periods, WORK);
+        BigDecimal annuity = BigDecimal.ONE.subtract(BigDecimal.ONE.divide(growth, WORK));
+        return principal.multiply(rate).divide(annuity, WORK).setScale(digits, RoundingMode.HALF_UP);
+    }
+
+    private static double solve(double[] flows, double[] days) {
+        int changes = signChanges(flows, days);
+        if (changes == 0)
+            return Double.NaN;
+        double start = changes == 1 ? lastRate : DEFAULT_GUESS;
+        double rate = newton(flows, days, start);
+        if (Double.isNaN(rate))
+            rate = bracketed(flows, days, start);
+        if (Double.isNaN(rate))
+            return Double.NaN;
+        rate = settle(flows, days, rate);
+        if (changes == 1)
+            lastRate = rate;
+        return rate;
+    }
+
+    // The number of changes of sign of the flows in the order of time, zeros skipped
+    private static int signChanges(double[] flows, double[] days) {
+        int[] order = new int[flows.length];
+        for (int i = 0; i < order.length; i++)
+            order[i] = i;
+        if (days != null) {
+            // Insertion sort: dated flows are few, and usually in order already
+            for (int i = 1; i < order.length; i++) {
+                int k = i;
+                while (k > 0 && days[order[k - 1]] > days[order[k]]) {
+                    int swap = order[k];
+                    order[k] = order[k - 1];
+                    order[k - 1] = swap;
+                    k--;
+                }
+            }
+        }
+        int changes = 0;
+        double previous = 0;
+        for (int i : order) {
+            double flow = flows[i];
+            if (flow != 0) {
+                if (previous != 0 && (flow > 0) != (previous > 0))
+                    changes++;
+                previous = flow;
+            }
+        }
+        return changes;
+    }
+
+    /*
+     * Returns the multiple of RATE_STEP whose cell holds the change of sign
+     * near the rate: the cells are walked from the one holding the rate, in
+     * the direction the present value falls toward 0. Each present value is
+     * taken at a fixed cell boundary, so the walk ends on the same cell from
+     * wherever it starts nearby.
+     */
+    private static double settle(double[] flows, double[] days, double rate) {
+        long cell = Math.round(rate / RATE_STEP);
+        for (int step = 0; step < SETTLE_STEPS; step++) {
+            double below = value(flows, days, (cell - 0.5) * RATE_STEP);
+            double above = value(flows, days, (cell + 0.5) * RATE_STEP);
+            if (below == 0 || above == 0 || (below > 0) != (above > 0))
+                return cell * RATE_STEP;
+            // Both on one side of 0: move toward the side nearer to it
+            boolean rising = above > below;
+            cell += (below > 0) == rising ? -1 : 1;
+        }
+        return Math.round(rate / RATE_STEP) * RATE_STEP;
+    }
+
+    private static double newton(double[] flows, double[] days, double rate) {
+        double[] valueAndSlope = new double[2];
+        for (int step = 0; step < NEWTON_STEPS; step++) {
+            evaluate(flows, days, rate, valueAndSlope);
+            if (valueAndSlope[0] == 0)
+                return rate;
+            double next = rate - valueAndSlope[0] / valueAndSlope[1];
+            if (!(next > -1 && next <= MAX_RATE))
+                return Double.NaN;
+            if (Math.abs(next - rate) <= TOLERANCE * (1 + Math.abs(next)))
+                return next;
+            rate = next;
+        }
+        return Double.NaN;
+    }
+
+    private static double bracketed(double[] flows, double[] days, double start) {
+        // The pair of neighbouring rates with values of opposite sign nearest
+        // to the start
+        double lo = Double.NaN;
+        double hi = Double.NaN;
+        double previousRate = Double.NaN;
+        double previousValue = Double.NaN;
+        for (double rate : BRACKET_RATES) {
+            double value = value(flows, days, rate);
+            if (value == 0)
+                return rate;
+            if (previousValue * value < 0 && (Double.isNaN(lo) || distance(previousRate, rate, start) < distance(lo, hi, start))) {
+                lo = previousRate;
+                hi = rate;
+            }
+            previousRate = rate;
+            previousValue = value;
+        }
+        if (Double.isNaN(lo))
+            return Double.NaN;
+        // Keep value(lo) negative, so the sign of a value tells which end it replaces
+        if (value(flows, days, lo) > 0) {
+            double swap = lo;
+            lo = hi;
+            hi = swap;
+        }
+        double[] valueAndSlope = new double[2];
+        double rate = (lo + hi) / 2;
+        for (int step = 0; step < BRACKETED_STEPS; step++) {
+            evaluate(flows, days, rate, valueAndSlope);
+            if (valueAndSlope[0] == 0)
+                return rate;
+            if (valueAndSlope[0] < 0)
+                lo = rate;
+            else
+                hi = rate;
+            double next = rate - valueAndSlope[0] / valueAndSlope[1];
+            // Bisect when the Newton step leaves the bracket
+            if (!(next > Math.min(lo, hi) && next < Math.max(lo, hi)))
+                next = (lo + hi) / 2;
+            if (Math.abs(next - rate) <= TOLERANCE * (1 + Math.abs(next)))
+                return next;
+            rate = next;
+        }
+        return rate;
+    }
+
+    private static double distance(double lo, double hi, double start) {
+        return start < lo ? lo - start : start > hi ? start - hi : 0;
+    }
+
+    private static double value(double[] flows, double[] days, double rate) {
+        return days == null ? npv(rate, flows) : xnpv(rate, flows, days);
+    }
+
+    // The present value and its derivative with respect to the rate
+    private static void evaluate(double[] flows, double[] days, double rate, double[] valueAndSlope) {
+        double discount = 1 / (1 + rate);
+        double value = 0;
+        double slope = 0;
+        if (days == null) {
+            // d/dr sum c_i d^i = -d * sum i c_i d^i, both by Horner's rule
+            for (int i = flows.length - 1; i >= 0; i--) {
+                value = value * discount + flows[i];
+                slope = slope * discount + i * flows[i];
+            }
+            slope = -slope * discount;
+        } else {
+            for (int i = 0; i < flows.length; i++) {
+                double years = days[i] / 365;
+                double term = flows[i] * Math.pow(discount, years);
+                value += term;
+                slope -= years * term;
+            }
+            slope *= discount;
+        }
+        valueAndSlope[0] = value;
+        valueAndSlope[1] = slope;
+    }
+}
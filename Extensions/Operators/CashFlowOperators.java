@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.math.BigDecimal;
+
+import com.corticon.services.extensions.ArgumentName;
+import com.corticon.services.extensions.Description;
+import com.corticon.services.extensions.ICcCollectionExtension;
+import com.corticon.services.extensions.OperatorFolder;
+import com.corticon.services.extensions.TopLevelFolder;
+
+/**
+ * This class provides net present value and internal rate of return
+ * operators over a collection of periodic cash flows, such as the
+ * installments of a loan: one amount per period, in the order of the
+ * collection, the first at period 0. Payments out are negative.
+ *
+ * The values are computed in double by {@link CashFlowEngine}, in one pass
+ * over the flows per evaluation. A present value is returned to the decimal
+ * places its rounding error leaves exact, at most
+ * {@code -Dcorticon.samples.mathPrecision} significant digits (default 16);
+ * a rate of return to 12 decimal places, the same for the same flows
+ * whatever was computed before.
+ * A null entry counts as a flow of 0, so the periods after it keep their
+ * place.
+ */
+@TopLevelFolder("Sample Extended Operators")
+public class CashFlowOperators implements ICcCollectionExtension {
+
+    /**
+     * Compute the net present value of a collection of periodic cash flows.
+     *
+     * @param collection The cash flows, the first at period 0.
+     * @param rate The discount rate per period, such as 0.005 for 0.5% a
+     * month.
+     * @return The present value at period 0, or null if the rate is -1 or
+     * less.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Finance" })
+    @Description(lang = { "en" }, values = {
+        "Returns the net present value of the cash flows in the collection, one per period in the order of the collection,\n" +
+        "the first at period 0 and not discounted, discounted at the rate per period. Null entries count as 0."
+    })
+    public static BigDecimal npv(BigDecimal[] collection,
+            @ArgumentName(lang = { "en" }, values = { "rate" }) BigDecimal rate) {
+        if (collection == null || rate == null || rate.compareTo(BigDecimal.ONE.negate()) <= 0)
+            return null;
+        return CashFlowEngine.decimalNpv(rate.doubleValue(), flows(collection));
+    }
+
+    /**
+     * Compute the internal rate of return of a collection of periodic cash
+     * flows.
+     *
+     * @param collection The cash flows, the first at period 0.
+     * @return The rate per period at which the net present value is 0, to
+     * 12 decimal places, or null if the flows do not include both positive and negative amounts or
+     * no rate is found.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Finance" })
+    @Description(lang = { "en" }, values = {
+        "Returns the internal rate of return per period of the cash flows in the collection, one per period in the order\n" +
+        "of the collection: the rate at which their net present value is 0. Returns null if the flows are not both\n" +
+        "positive and negative, or no rate is found."
+    })
+    public static BigDecimal irr(BigDecimal[] collection) {
+        if (collection == null)
+            return null;
+        return CashFlowEngine.decimalRate(CashFlowEngine.irr(flows(collection)));
+    }
+
+    private static double[] flows(BigDecimal[] collection) {
+        double[] flows = new double[collection.length];
+        for (int i = 0; i < flows.length; i++)
+            flows[i] = collection[i] == null ? 0 : collection[i].doubleValue();
+        return flows;
+    }
+}
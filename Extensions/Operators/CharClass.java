@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * A set of characters compiled for one-pass matching.
+ *
+ * ASCII characters are looked up in a 128-bit bitmap; any other code point
+ * is found by binary search in a sorted table of ranges. Strings are scanned
+ * by code point, so a supplementary character (a surrogate pair) is one
+ * character of the set; an unpaired surrogate stands for itself.
+ *
+ * Sets given as strings are compiled once and kept in an
+ * {@link OperatorCache} of {@code -Dcorticon.samples.charClassCacheSize}
+ * entries (default 1024), so the character set argument of a rule is
+ * compiled only the first time it is seen.
+ */
+final class CharClass {
+
+    private static final OperatorCache<String, CharClass> CLASSES =
+            new OperatorCache<>(ExtensionSettings.getInt("charClassCacheSize", 1024));
+
+    // Unicode has decimal digits only in the first two planes
+    private static final int LAST_DIGIT_PLANE_END = 0x1FFFF;
+
+    // Built on first use: it takes a scan of both planes
+    private static final class Digits {
+        static final CharClass CLASS = matching(Character::isDigit, LAST_DIGIT_PLANE_END);
+    }
+
+    private final long low;
+    private final long high;
+    private final int[] starts;
+    private final int[] ends;
+
+    private CharClass(long low, long high, int[] starts, int[] ends) {
+        this.low = low;
+        this.high = high;
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    /** Returns the class of the characters in set, compiled on first use. */
+    static CharClass of(String set) {
+        return CLASSES.computeIfAbsent(set, CharClass::compile);
+    }
+
+    /** Returns the class of every code point for which Character.isDigit is true. */
+    static CharClass digits() {
+        return Digits.CLASS;
+    }
+
+    private static CharClass compile(String set) {
+        long low = 0;
+        long high = 0;
+        int[] others = new int[set.length()];
+        int count = 0;
+        for (int i = 0; i < set.length();) {
+            int cp = set.codePointAt(i);
+            i += Character.charCount(cp);
+            if (cp < 64)
+                low |= 1L << cp;
+            else if (cp < 128)
+                high |= 1L << cp;
+            else
+                others[count++] = cp;
+        }
+        Arrays.sort(others, 0, count);
+
+        int[] starts = new int[count];
+        int[] ends = new int[count];
+        int ranges = 0;
+        for (int i = 0; i < count; i++) {
+            int cp = others[i];
+            if (ranges > 0 && cp <= ends[ranges - 1] + 1) {
+                ends[ranges - 1] = Math.max(ends[ranges - 1], cp);
+            } else {
+                starts[ranges] = cp;
+                ends[ranges] = cp;
+                ranges++;
+            }
+        }
+        return new CharClass(low, high, Arrays.copyOf(starts, ranges), Arrays.copyOf(ends, ranges));
+    }
+
+    private static CharClass matching(IntPredicate predicate, int last) {
+        long low = 0;
+        long high = 0;
+        for (int cp = 0; cp < 128; cp++) {
+            if (predicate.test(cp)) {
+                if (cp < 64)
+                    low |= 1L << cp;
+                else
+                    high |= 1L << cp;
+            }
+        }
+        int[] starts = new int[16];
+        int[] ends = new int[16];
+        int ranges = 0;
+        for (int cp = 128; cp <= last; cp++) {
+            if (!predicate.test(cp))
+                continue;
+            if (ranges > 0 && ends[ranges - 1] == cp - 1) {
+                ends[ranges - 1] = cp;
+            } else {
+                if (ranges == starts.length) {
+                    starts = Arrays.copyOf(starts, ranges * 2);
+                    ends = Arrays.copyOf(ends, ranges * 2);
+                }
+                starts[ranges] = cp;
+                ends[ranges] = cp;
+                ranges++;
+            }
+        }
+        return new CharClass(low, high, Arrays.copyOf(starts, ranges), Arrays.copyOf(ends, ranges));
+    }
+
+    boolean contains(int cp) {
+        if (cp < 128)
+            // Shifts use the low six bits of cp, so one shift serves both words
+            return (((cp < 64 ? low : high) >>> cp) & 1) != 0;
+        int lo = 0;
+        int hi = starts.length - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (cp < starts[mid])
+                hi = mid - 1;
+            else if (cp > ends[mid])
+                lo = mid + 1;
+            else
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the index of the first character at or after from that is not
+     * in the class, or -1 if there is none.
+     */
+    int indexOfNotIn(String s, int from) {
+        for (int i = from; i < s.length();) {
+            char c = s.charAt(i);
+            if (c < 128) {
+                if ((((c < 64 ? low : high) >>> c) & 1) == 0)
+                    return i;
+                i++;
+            } else {
+                int cp = s.codePointAt(i);
+                if (!contains(cp))
+                    return i;
+                i += Character.charCount(cp);
+            }
+        }
+        return -1;
+    }
+
+    /** Returns the number of characters of s that are in the class. */
+    int count(String s) {
+        int count = 0;
+        for (int i = 0; i < s.length();) {
+            char c = s.charAt(i);
+            if (c < 128) {
+                count += (int) ((c < 64 ? low : high) >>> c) & 1;
+                i++;
+            } else {
+                int cp = s.codePointAt(i);
+                if (contains(cp))
+                    count++;
+                i += Character.charCount(cp);
+            }
+        }
+        return count;
+    }
+
+    /** Returns s without the characters that are in the class. */
+    String strip(String s) {
+        StringBuilder sb = null;
+        int kept = 0;
+        for (int i = 0; i < s.length();) {
+            int cp = s.codePointAt(i);
+            int next = i + Character.charCount(cp);
+            if (contains(cp)) {
+                if (sb == null)
+                    sb = new StringBuilder(s.length());
+                sb.append(s, kept, i);
+                kept = next;
+            }
+            i = next;
+        }
+        return sb == null ? s : sb.append(s, kept, s.length()).toString();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+/**
+ * Character scanning kernels shared by the string operators: common prefix
+ * and suffix lengths, and digit checks.
+ *
+ * This class is the portable scalar implementation. On JDK 16 and later,
+ * with {@code --add-modules jdk.incubator.vector} on the server command line,
+ * {@code VectorCharKernels} (in the {@code vector} source folder) provides
+ * SIMD versions of the same kernels. The implementation is chosen once at
+ * startup with {@code -Dcorticon.samples.charKernels}:
+ * <ul>
+ * <li>{@code auto} (default): the vector kernels when they can be loaded,
+ * the scalar ones otherwise;</li>
+ * <li>{@code vector}: the vector kernels, falling back to scalar with a
+ * message on standard error if they cannot be loaded;</li>
+ * <li>{@code scalar}: always the scalar kernels.</li>
+ * </ul>
+ */
+class CharKernels {
+
+    private static final String VECTOR_KERNELS = "com.corticon.samples.extensions.VectorCharKernels";
+
+    private static final CharKernels INSTANCE = load(ExtensionSettings.getString("charKernels", "auto"));
+
+    CharKernels() {
+    }
+
+    static CharKernels get() {
+        return INSTANCE;
+    }
+
+    private static CharKernels load(String mode) {
+        if ("scalar".equalsIgnoreCase(mode))
+            return new CharKernels();
+        try {
+            return (CharKernels) Class.forName(VECTOR_KERNELS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException ex) {
+            if ("vector".equalsIgnoreCase(mode))
+                System.err.println("corticon.samples.charKernels=vector: vector kernels unavailable (" + ex + "), using scalar kernels");
+            return new CharKernels();
+        }
+    }
+
+    /** Returns the name of the active implementation. */
+    String name() {
+        return "scalar";
+    }
+
+    /**
+     * Returns the number of equal characters at the start of the two regions,
+     * comparing at most max characters.
+     */
+    int commonPrefix(String a, int aFrom, String b, int bFrom, int max) {
+        int i = 0;
+        while (i < max && a.charAt(aFrom + i) == b.charAt(bFrom + i))
+            i++;
+        return i;
+    }
+
+    /**
+     * Returns the number of equal characters before aEnd and bEnd, comparing
+     * at most max characters.
+     */
+    int commonSuffix(String a, int aEnd, String b, int bEnd, int max) {
+        int i = 0;
+        while (i < max && a.charAt(aEnd - 1 - i) == b.charAt(bEnd - 1 - i))
+            i++;
+        return i;
+    }
+
+    /**
+     * Returns the index of the first character in [from, to) that is not an
+     * ASCII digit, or to if there is none.
+     */
+    int firstNonAsciiDigit(String s, int from, int to) {
+        int i = from;
+        while (i < to) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9')
+                break;
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+
+/**
+ * Calendar arithmetic on epoch days (days since 1970-01-01) for the date
+ * operators, without Calendar or LocalDate objects.
+ *
+ * A date value is a point in time; its calendar day is taken in the zone
+ * {@code -Dcorticon.samples.dateZone} (default: the server's time zone), as
+ * Calendar.getInstance() would. The zone's rules are resolved once, and its
+ * UTC offsets from 1900 to 2100 are kept in a table of transitions, so
+ * finding the day of a date is a binary search and a division. Dates outside
+ * that range ask the ZoneRules.
+ *
+ * Days are converted to year, month and day with the proleptic Gregorian
+ * algorithm java.time uses, computed in integers. A civil date is packed
+ * into a long as year << 9 | month << 5 | day.
+ */
+final class CivilDates {
+
+    static final long DAY_MILLIS = 86_400_000L;
+
+    private static final ZoneId ZONE = zone(ExtensionSettings.getString("dateZone", null));
+    private static final ZoneRules RULES = ZONE.getRules();
+
+    // 1900-01-01 and 2100-01-01 UTC
+    private static final long TABLE_START = -2_208_988_800_000L;
+    private static final long TABLE_END = 4_102_444_800_000L;
+
+    // offsets[i] applies from transitions[i - 1] (or TABLE_START) up to transitions[i]
+    private static final long[] TRANSITIONS;
+    private static final int[] OFFSETS;
+
+    // Days before the first of each month in a common year, January first
+    private static final int[] DAYS_BEFORE_MONTH = { 0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334 };
+
+    static {
+        long[] transitions = new long[64];
+        int[] offsets = new int[65];
+        int count = 0;
+        offsets[0] = RULES.getOffset(Instant.ofEpochMilli(TABLE_START)).getTotalSeconds() * 1000;
+        if (!RULES.isFixedOffset()) {
+            ZoneOffsetTransition t = RULES.nextTransition(Instant.ofEpochMilli(TABLE_START));
+            while (t != null && t.toEpochSecond() * 1000 < TABLE_END) {
+                if (count == transitions.length) {
+                    transitions = Arrays.copyOf(transitions, count * 2);
+                    offsets = Arrays.copyOf(offsets, count * 2 + 1);
+                }
+                transitions[count] = t.toEpochSecond() * 1000;
+                offsets[++count] = t.getOffsetAfter().getTotalSeconds() * 1000;
+                t = RULES.nextTransition(t.getInstant());
+            }
+        }
+        TRANSITIONS = Arrays.copyOf(transitions, count);
+        OFFSETS = Arrays.copyOf(offsets, count + 1);
+    }
+
+    private CivilDates() {
+    }
+
+    private static ZoneId zone(String zone) {
+        if (zone != null) {
+            try {
+                return ZoneId.of(zone);
+            } catch (DateTimeException ex) {
+                // Fall back to the server's zone
+            }
+        }
+        return ZoneId.systemDefault();
+    }
+
+    /** Returns the zone calendar days are taken in. */
+    static ZoneId zone() {
+        return ZONE;
+    }
+
+    /** Returns the offset of the date zone from UTC at the instant, in milliseconds. */
+    static int offsetMillis(long millis) {
+        if (millis < TABLE_START || millis >= TABLE_END)
+            return RULES.getOffset(Instant.ofEpochMilli(millis)).getTotalSeconds() * 1000;
+        int i = Arrays.binarySearch(TRANSITIONS, millis);
+        return OFFSETS[i >= 0 ? i + 1 : -i - 1];
+    }
+
+    /** Returns the milliseconds since 1970-01-01T00:00 local time. */
+    static long localMillis(long millis) {
+        return millis + offsetMillis(millis);
+    }
+
+    static long epochDay(long millis) {
+        return Math.floorDiv(localMillis(millis), DAY_MILLIS);
+    }
+
+    /**
+     * Returns the instant at the local time of day on the epoch day, as
+     * LocalDateTime.atZone does: a time that occurs twice takes the earlier
+     * offset, a time in a gap is moved forward by the length of the gap.
+     */
+    static long toMillis(long epochDay, long millisOfDay) {
+        long local = epochDay * DAY_MILLIS + millisOfDay;
+        int before = offsetMillis(local - DAY_MILLIS);
+        int after = offsetMillis(local + DAY_MILLIS);
+        if (before != after && offsetMillis(local - before) != before && offsetMillis(local - after) == after)
+            return local - after;
+        return local - before;
+    }
+
+    /** Returns the civil date of an epoch day, packed as year << 9 | month << 5 | day. */
+    static long civil(long epochDay) {
+        // Days from 0000-03-01, so that the leap day ends the year
+        long z = epochDay + 719_468;
+        long era = Math.floorDiv(z, 146_097);
+        long doe = z - era * 146_097;
+        long yoe = (doe - doe / 1460 + doe / 36_524 - doe / 146_096) / 365;
+        long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        long mp = (5 * doy + 2) / 153;
+        long day = doy - (153 * mp + 2) / 5 + 1;
+        long month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+        return (year << 9) | (month << 5) | day;
+    }
+
+    static long year(long civil) {
+        return civil >> 9;
+    }
+
+    static int month(long civil) {
+        return (int) (civil >> 5) & 0xF;
+    }
+
+    static int dayOfMonth(long civil) {
+        return (int) civil & 0x1F;
+    }
+
+    /** Returns the month and day as month * 32 + day, which orders like the dates within a year. */
+    static int monthDay(long civil) {
+        return (int) civil & 0x1FF;
+    }
+
+    static int dayOfYear(long civil) {
+        int month = month(civil);
+        return DAYS_BEFORE_MONTH[month - 1] + dayOfMonth(civil) + (month > 2 && isLeapYear(year(civil)) ? 1 : 0);
+    }
+
+    static boolean isLeapYear(long year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /** Returns the ISO day of the week, 1 for Monday to 7 for Sunday. */
+    static int dayOfWeek(long epochDay) {
+        // 1970-01-01 was a Thursday
+        return (int) Math.floorMod(epochDay + 3, 7) + 1;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.util.Arrays;
+
+/**
+ * Cache key identifying a collection of strings by its content.
+ *
+ * Lookups wrap the caller's array without copying it; only keys that are
+ * stored in a cache take a {@link #snapshot()}, so a rule that later changes
+ * the collection cannot corrupt a cached entry.
+ */
+final class CollectionKey {
+
+    private final String[] values;
+    private final Object qualifier;
+    private final int hash;
+
+    private CollectionKey(String[] values, Object qualifier, int hash) {
+        this.values = values;
+        this.qualifier = qualifier;
+        this.hash = hash;
+    }
+
+    static CollectionKey lookup(String[] values, Object qualifier) {
+        return new CollectionKey(values, qualifier, 31 * Arrays.hashCode(values) + qualifier.hashCode());
+    }
+
+    CollectionKey snapshot() {
+        return new CollectionKey(values.clone(), qualifier, hash);
+    }
+
+    String[] values() {
+        return values;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (!(obj instanceof CollectionKey))
+            return false;
+        CollectionKey other = (CollectionKey) obj;
+        return hash == other.hash && qualifier.equals(other.qualifier) && Arrays.equals(values, other.values);
+    }
+}
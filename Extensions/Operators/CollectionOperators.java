@@ -5,11 +5,11 @@
 package com.corticon.samples.extensions;
 
 import java.math.BigInteger;
-import java.util.HashSet;
 
 import com.corticon.services.extensions.ArgumentName;
 import com.corticon.services.extensions.Description;
 import com.corticon.services.extensions.ICcCollectionExtension;
+import com.corticon.services.extensions.ICcStandAloneExtension;
 import com.corticon.services.extensions.OperatorFolder;
 import com.corticon.services.extensions.TopLevelFolder;
 
@@ -23,11 +23,16 @@ import com.corticon.services.extensions.TopLevelFolder;
  * interest rate.
  */
 @TopLevelFolder("Sample Extended Operators")
-public class CollectionOperators implements ICcCollectionExtension {
+public class CollectionOperators implements ICcCollectionExtension, ICcStandAloneExtension {
 
 	/**
 	 * Determine if a collection of strings contains any duplicates.
 	 * 
+	 * Strings are screened by a 64-bit hash in a primitive open-addressing
+	 * table and only compared when their hashes are equal; the scan stops at
+	 * the first duplicate. Large collections are scanned in parallel (see
+	 * {@link DuplicateScanner}). Two null entries count as duplicates.
+	 * 
 	 * @param collection The collection of strings.
 	 * 
 	 * @return true if the collection contains any duplicates, false otherwise.
@@ -38,14 +43,7 @@ public class CollectionOperators implements ICcCollectionExtension {
 		if ((collection == null))
 			return null;
 
-		HashSet<String> set = new HashSet<String>();
-		for (String s : collection) {
-			if (!set.add(s)) {
-				return true;
-			}
-		}
-
-		return false;
+		return DuplicateScanner.containsDuplicates(collection);
 	}
 
 	/**
@@ -53,8 +51,10 @@ public class CollectionOperators implements ICcCollectionExtension {
 	 * strings.
 	 * 
 	 * @param collection The collection of strings.
+	 * @param searchString The string to count.
 	 * 
-	 * @return true if the collection contains any duplicates, false otherwise.
+	 * @return The number of entries equal to searchString; null entries never
+	 * match.
 	 */
 	@OperatorFolder(lang = { "en" }, values = { "Collection" })
 	@Description(lang = { "en" }, values = { "Returns the number of times the specified string occurs in the collection of strings." })
@@ -65,11 +65,106 @@ public class CollectionOperators implements ICcCollectionExtension {
 
 		int count = 0;
 		for (String s : collection) {
-			if (s.equals(searchString)) {
+			if (searchString.equals(s)) {
 				count++;
 			}
 		}
 		return BigInteger.valueOf(count);
 	}
 
+	/**
+	 * Count the occurrences of several strings in a collection of strings in
+	 * a single scan.
+	 * 
+	 * @param collection The collection of strings.
+	 * @param keys The strings to count, separated by "|"; a key containing
+	 * "|", "=" or a backslash has a backslash before each of them.
+	 * 
+	 * @return "key=count" for each key, in the order given, separated by "|"
+	 * and escaped as in {@link HistogramFormat}; null entries never match.
+	 */
+	@OperatorFolder(lang = { "en" }, values = { "Collection" })
+	@Description(lang = { "en" }, values = { "Returns the number of times each of the '|'-separated keys occurs in the collection of strings,\n"
+			+ "as 'key=count' entries in the order of the keys, separated by '|'. The collection is scanned once.\n"
+			+ "A '|', '=' or '\\' in a key is written, and must be given, with a backslash before it." })
+	public static String occurrenceCounts(String[] collection,
+			@ArgumentName(lang = { "en" }, values = { "keys" }) String keys) {
+		if ((collection == null) || (keys == null))
+			return null;
+
+		String[] keyList = HistogramFormat.split(keys);
+		FrequencyTable table = new FrequencyTable(keyList.length);
+		int[] ids = new int[keyList.length];
+		for (int i = 0; i < keyList.length; i++)
+			ids[i] = table.add(keyList[i], DuplicateScanner.key(keyList[i]));
+		for (String s : collection) {
+			if (s != null) {
+				int id = table.find(s, DuplicateScanner.key(s));
+				if (id >= 0)
+					table.increment(id);
+			}
+		}
+
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < keyList.length; i++)
+			HistogramFormat.append(sb, keyList[i], table.count(ids[i]));
+		return sb.toString();
+	}
+
+	/**
+	 * Count the occurrences of every distinct string in a collection of
+	 * strings.
+	 * 
+	 * @param collection The collection of strings.
+	 * 
+	 * @return "value=count" for each distinct value, most frequent first (ties
+	 * in alphabetical order), separated by "|" and escaped as in
+	 * {@link HistogramFormat}; null entries are not counted.
+	 */
+	@OperatorFolder(lang = { "en" }, values = { "Collection" })
+	@Description(lang = { "en" }, values = { "Returns the number of times each distinct value occurs in the collection of strings,\n"
+			+ "as 'value=count' entries separated by '|', most frequent first. Read a count with histogramCount.\n"
+			+ "A '|', '=' or '\\' in a value is written with a backslash before it." })
+	public static String valueHistogram(String[] collection) {
+		if (collection == null)
+			return null;
+
+		FrequencyTable table = new FrequencyTable(16);
+		for (String s : collection) {
+			if (s != null)
+				table.increment(table.add(s, DuplicateScanner.key(s)));
+		}
+
+		StringBuilder sb = new StringBuilder();
+		Integer[] order = table.byCount();
+		for (Integer id : order)
+			HistogramFormat.append(sb, table.value(id), table.count(id));
+		return sb.toString();
+	}
+
+	/**
+	 * Read the count of a value from a histogram returned by valueHistogram
+	 * or occurrenceCounts.
+	 * 
+	 * @param histogram The histogram, "value=count" entries separated by "|"
+	 * and escaped as in {@link HistogramFormat}.
+	 * @param key The value to look up, without escapes.
+	 * 
+	 * @return The count of key, 0 if the histogram has no entry for it, or
+	 * null if the histogram is malformed.
+	 */
+	@OperatorFolder(lang = { "en" }, values = { "Collection" })
+	@Description(lang = { "en" }, values = { "Returns the count of the key in a histogram produced by valueHistogram or occurrenceCounts,\n"
+			+ "or 0 if the key does not occur in it. The key is given as it is, without backslashes." })
+	public static BigInteger histogramCount(
+			@ArgumentName(lang = { "en" }, values = { "histogram" }) String histogram,
+			@ArgumentName(lang = { "en" }, values = { "key" }) String key) {
+		if ((histogram == null) || (key == null))
+			return null;
+		if (histogram.isEmpty())
+			return BigInteger.ZERO;
+
+		return HistogramFormat.count(histogram, key);
+	}
+
 }
@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Inverse document frequencies of tokens, read from a memory-mapped file.
+ *
+ * The file is built offline from a corpus with one document (for example one
+ * customer name) per line:
+ * <pre>
+ * java -cp CorticonSampleExtensions.jar com.corticon.samples.extensions.CorpusStatistics names.txt names.idf
+ * </pre>
+ * and selected with {@code -Dcorticon.samples.corpusStats=/path/names.idf}.
+ * It is mapped read-only, so every server JVM on a host shares one copy in the
+ * page cache and none of it is on the heap. The file is checked for changes
+ * at most every {@code corticon.samples.referenceRefreshMillis} milliseconds;
+ * replace it by renaming a new file over it, never by rewriting it in place.
+ *
+ * Tokens are the maximal runs of letters and digits of the transliterated
+ * text (see {@link TextNormalizer#TRANSLITERATED}), lower-cased. They are
+ * hashed straight from the text into 64-bit keys, so looking up a token never
+ * creates a string. The IDF of a token occurring in df of N documents is
+ * {@code ln((N + 1) / (df + 1)) + 1}; tokens missing from the corpus get
+ * {@code df = 0}.
+ *
+ * File layout (big-endian): magic {@code "CIDF"}, version, document count
+ * (long), table capacity, token count, then an open-addressed table of
+ * {@code capacity} slots, each a token hash (long, 0 = empty) and its IDF
+ * (float).
+ */
+final class CorpusStatistics {
+
+    private static final int MAGIC = 0x43494446; // "CIDF"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 24;
+    private static final int SLOT_BYTES = 12;
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private static final Object LOCK = new Object();
+    private static volatile CorpusStatistics current;
+
+    private final Path path;
+    private final long lastModified;
+    private final long size;
+    private volatile long checkedAt;
+
+    private final ByteBuffer table;
+    private final int mask;
+    private final float unknownIdf;
+
+    private CorpusStatistics(Path path, long lastModified, long size, long checkedAt, ByteBuffer table, int capacity, long documentCount) {
+        this.path = path;
+        this.lastModified = lastModified;
+        this.size = size;
+        this.checkedAt = checkedAt;
+        this.table = table;
+        this.mask = capacity - 1;
+        this.unknownIdf = idf(documentCount, 0);
+    }
+
+    /**
+     * Returns the statistics file configured with
+     * {@code corticon.samples.corpusStats}, or null when none is configured or
+     * the file cannot be read.
+     */
+    static CorpusStatistics get() {
+        String configured = ExtensionSettings.getString("corpusStats", null);
+        if (configured == null)
+            return null;
+
+        long now = System.currentTimeMillis();
+        CorpusStatistics stats = current;
+        long refreshMillis = ExtensionSettings.getLong("referenceRefreshMillis", 10000L);
+        if (stats != null && stats.path.toString().equals(configured) && now - stats.checkedAt < refreshMillis)
+            return stats;
+
+        synchronized (LOCK) {
+            stats = current;
+            Path path = Paths.get(configured);
+            try {
+                long modified = Files.getLastModifiedTime(path).toMillis();
+                long length = Files.size(path);
+                if (stats != null && stats.path.equals(path) && stats.lastModified == modified && stats.size == length) {
+                    stats.checkedAt = now;
+                    return stats;
+                }
+                stats = open(path, modified, length, now);
+            } catch (IOException | RuntimeException ex) {
+                stats = null;
+            }
+            current = stats;
+            return stats;
+        }
+    }
+
+    private static CorpusStatistics open(Path path, long modified, long length, long now) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+        }
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        if (length < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION)
+            throw new IOException("Not a corpus statistics file: " + path);
+        long documents = buffer.getLong(8);
+        int capacity = buffer.getInt(16);
+        int tokens = buffer.getInt(20);
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1 || HEADER_BYTES + (long) capacity * SLOT_BYTES != length)
+            throw new IOException("Corrupt corpus statistics file: " + path);
+        // At least one empty slot, so that a lookup of a missing token ends
+        if (documents < 0 || tokens < 0 || tokens >= capacity)
+            throw new IOException("Corrupt corpus statistics file: " + path);
+        return new CorpusStatistics(path, modified, length, now, buffer, capacity, documents);
+    }
+
+    /**
+     * Returns the IDF of the token with the given hash.
+     */
+    float idf(long tokenHash) {
+        int p = slot(tokenHash);
+        // At most every slot once, even if the table was filled after it was checked
+        for (int probe = 0; probe <= mask; probe++) {
+            int offset = HEADER_BYTES + p * SLOT_BYTES;
+            long key = table.getLong(offset);
+            if (key == tokenHash)
+                return table.getFloat(offset + 8);
+            if (key == 0L)
+                return unknownIdf;
+            p = (p + 1) & mask;
+        }
+        return unknownIdf;
+    }
+
+    private int slot(long tokenHash) {
+        return (int) NgramFingerprint.mix(tokenHash) & mask;
+    }
+
+    static float idf(long documents, long documentFrequency) {
+        return (float) (Math.log((documents + 1.0) / (documentFrequency + 1.0)) + 1.0);
+    }
+
+    /**
+     * Reusable buffer holding the distinct token hashes of one text.
+     */
+    static final class TokenHashes {
+        long[] hashes = new long[16];
+        int size;
+
+        /**
+         * Replaces the contents with the sorted, distinct token hashes of
+         * already transliterated text.
+         */
+        void read(String text) {
+            size = 0;
+            long h = FNV_OFFSET;
+            boolean inToken = false;
+            int len = text.length();
+            for (int i = 0; i < len; ) {
+                int cp = text.codePointAt(i);
+                i += Character.charCount(cp);
+                if (Character.isLetterOrDigit(cp)) {
+                    int lower = Character.toLowerCase(cp);
+                    h = (h ^ (lower & 0xFFFF)) * FNV_PRIME;
+                    if (lower > 0xFFFF)
+                        h = (h ^ (lower >>> 16)) * FNV_PRIME;
+                    inToken = true;
+                } else if (inToken) {
+                    add(finish(h));
+                    h = FNV_OFFSET;
+                    inToken = false;
+                }
+            }
+            if (inToken)
+                add(finish(h));
+
+            Arrays.sort(hashes, 0, size);
+            int distinct = 0;
+            for (int i = 0; i < size; i++) {
+                if (distinct == 0 || hashes[i] != hashes[distinct - 1])
+                    hashes[distinct++] = hashes[i];
+            }
+            size = distinct;
+        }
+
+        private void add(long hash) {
+            if (size == hashes.length)
+                hashes = Arrays.copyOf(hashes, size * 2);
+            hashes[size++] = hash;
+        }
+    }
+
+    // 0 marks an empty table slot, so no token may hash to it
+    private static long finish(long h) {
+        return h == 0L ? 1L : h;
+    }
+
+    /**
+     * Builds a statistics file from a UTF-8 corpus with one document per line.
+     *
+     * @param args the corpus file and the statistics file to write
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: CorpusStatistics <corpus.txt> <statistics file>");
+            System.exit(2);
+        }
+
+        LongIntTable frequencies = new LongIntTable();
+        long documents = 0;
+        TokenHashes tokens = new TokenHashes();
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(args[0]), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty())
+                    continue;
+                documents++;
+                tokens.read(TextNormalizer.TRANSLITERATED.apply(line));
+                for (int i = 0; i < tokens.size; i++)
+                    frequencies.increment(tokens.hashes[i]);
+            }
+        }
+
+        int capacity = Integer.highestOneBit(Math.max(8, frequencies.size * 2 - 1)) << 1;
+        int mask = capacity - 1;
+        long[] keys = new long[capacity];
+        float[] idfs = new float[capacity];
+        for (int i = 0; i < frequencies.keys.length; i++) {
+            long key = frequencies.keys[i];
+            if (key == 0L)
+                continue;
+            int p = (int) NgramFingerprint.mix(key) & mask;
+            while (keys[p] != 0L)
+                p = (p + 1) & mask;
+            keys[p] = key;
+            idfs[p] = idf(documents, frequencies.values[i]);
+        }
+
+        Path target = Paths.get(args[1]);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (OutputStream os = Files.newOutputStream(temp);
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os, 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(documents);
+            out.writeInt(capacity);
+            out.writeInt(frequencies.size);
+            for (int p = 0; p < capacity; p++) {
+                out.writeLong(keys[p]);
+                out.writeFloat(idfs[p]);
+            }
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        System.out.println(documents + " documents, " + frequencies.size + " distinct tokens written to " + target);
+    }
+
+    /** Growable open-addressed long to int map used while building a file. */
+    private static final class LongIntTable {
+        long[] keys = new long[1024];
+        int[] values = new int[1024];
+        int size;
+
+        void increment(long key) {
+            int mask = keys.length - 1;
+            int p = (int) NgramFingerprint.mix(key) & mask;
+            while (keys[p] != 0L && keys[p] != key)
+                p = (p + 1) & mask;
+            if (keys[p] != 0L) {
+                values[p]++;
+                return;
+            }
+            keys[p] = key;
+            values[p] = 1;
+            if (++size * 2 > keys.length)
+                rehash();
+        }
+
+        private void rehash() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldKeys.length * 2];
+            int mask = keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] == 0L)
+                    continue;
+                int p = (int) NgramFingerprint.mix(oldKeys[i]) & mask;
+                while (keys[p] != 0L)
+                    p = (p + 1) & mask;
+                keys[p] = oldKeys[i];
+                values[p] = oldValues[i];
+            }
+        }
+    }
+}
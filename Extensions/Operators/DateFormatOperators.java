@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Date;
+import java.util.Locale;
+
+import com.corticon.services.extensions.ArgumentName;
+import com.corticon.services.extensions.Description;
+import com.corticon.services.extensions.ICcDateTimeExtension;
+import com.corticon.services.extensions.ICcStringExtension;
+import com.corticon.services.extensions.OperatorFolder;
+import com.corticon.services.extensions.TopLevelFolder;
+
+/**
+ * This class provides operators that read dates from strings and write
+ * dates as strings, with java.time patterns such as {@code dd.MM.yyyy}.
+ *
+ * Formatters are compiled once per pattern and locale and shared (see
+ * {@link DateFormats}). A parse pattern may list several patterns separated
+ * by '|', for feeds that mix formats; the list learns which pattern succeeds
+ * most often and tries it first.
+ *
+ * Dates without an offset or zone are read and written in the zone of the
+ * date operators ({@code -Dcorticon.samples.dateZone}, default: the
+ * server's time zone). Month and day names use the locale
+ * {@code -Dcorticon.samples.dateLocale} (default: en) unless one is given.
+ */
+@TopLevelFolder("Sample Extended Operators")
+public class DateFormatOperators implements ICcStringExtension, ICcDateTimeExtension {
+
+    /**
+     * Read a date from a string.
+     *
+     * @param s A string.
+     * @param pattern A date pattern, or several separated by '|'.
+     * @return The date, or null if no pattern reads the whole string or a
+     * pattern is not valid.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Date" })
+    @Description(lang = { "en" }, values = {
+        "Returns the date written in the string with the pattern, such as 'dd.MM.yyyy' or 'yyyy-MM-dd HH:mm'.\n" +
+        "Several patterns can be given separated by '|'; the first that reads the whole string is used.\n" +
+        "Returns null if no pattern fits or the date does not exist, such as 2026-02-30."
+    })
+    public static Date parseDate(String s,
+            @ArgumentName(lang = { "en" }, values = { "pattern" }) String pattern) {
+        return parse(s, pattern, DateFormats.defaultLocale());
+    }
+
+    /**
+     * Read a date from a string written in a given language.
+     *
+     * @param s A string.
+     * @param pattern A date pattern, or several separated by '|'.
+     * @param locale The language tag of the locale, such as de-DE.
+     * @return The date, or null if no pattern reads the whole string or a
+     * pattern is not valid.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Date" })
+    @Description(lang = { "en" }, values = {
+        "Returns the date written in the string with the pattern, reading month and day names in the locale,\n" +
+        "such as 'de-DE' for '3. März 2026' with 'd. MMMM yyyy'. Several patterns can be given separated by '|'."
+    })
+    public static Date parseLocalizedDate(String s,
+            @ArgumentName(lang = { "en" }, values = { "pattern" }) String pattern,
+            @ArgumentName(lang = { "en" }, values = { "locale" }) String locale) {
+        if (locale == null)
+            return null;
+        return parse(s, pattern, Locale.forLanguageTag(locale));
+    }
+
+    /**
+     * Write a date as a string.
+     *
+     * @param d A date.
+     * @param pattern A date pattern.
+     * @return The date written with the pattern, or null if the pattern is not
+     * valid.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Date" })
+    @Description(lang = { "en" }, values = {
+        "Returns the date written with the pattern, such as 'dd.MM.yyyy' or 'yyyy-MM-dd'T'HH:mm:ssXXX'.\n" +
+        "Returns null if the pattern is not valid."
+    })
+    public static String formatDate(Date d,
+            @ArgumentName(lang = { "en" }, values = { "pattern" }) String pattern) {
+        return format(d, pattern, DateFormats.defaultLocale());
+    }
+
+    /**
+     * Write a date as a string in a given language.
+     *
+     * @param d A date.
+     * @param pattern A date pattern.
+     * @param locale The language tag of the locale, such as de-DE.
+     * @return The date written with the pattern, or null if the pattern is not
+     * valid.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Date" })
+    @Description(lang = { "en" }, values = {
+        "Returns the date written with the pattern, with month and day names in the locale,\n" +
+        "such as 'fr-FR' for '3 mars 2026' with 'd MMMM yyyy'. Returns null if the pattern is not valid."
+    })
+    public static String formatLocalizedDate(Date d,
+            @ArgumentName(lang = { "en" }, values = { "pattern" }) String pattern,
+            @ArgumentName(lang = { "en" }, values = { "locale" }) String locale) {
+        if (locale == null)
+            return null;
+        return format(d, pattern, Locale.forLanguageTag(locale));
+    }
+
+    private static Date parse(String s, String pattern, Locale locale) {
+        if (s == null || pattern == null)
+            return null;
+        DateFormats.PatternList parser = DateFormats.parser(pattern, locale);
+        if (parser == null)
+            return null;
+        TemporalAccessor parsed = parser.parse(s.trim());
+        if (parsed == null)
+            return null;
+        Long millis = DateFormats.toMillis(parsed);
+        return millis == null ? null : new Date(millis);
+    }
+
+    private static String format(Date d, String pattern, Locale locale) {
+        if (d == null || pattern == null)
+            return null;
+        DateTimeFormatter formatter = DateFormats.formatter(pattern, locale);
+        if (formatter == null)
+            return null;
+        try {
+            return formatter.format(Instant.ofEpochMilli(d.getTime()).atZone(CivilDates.zone()));
+        } catch (DateTimeException ex) {
+            return null;
+        }
+    }
+}
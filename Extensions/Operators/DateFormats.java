@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * DateTimeFormatters shared by the date format operators.
+ *
+ * Formatters are compiled once per pattern and locale and kept in an
+ * {@link OperatorCache} of {@code -Dcorticon.samples.dateFormatCacheSize}
+ * entries (default 256). DateTimeFormatter is immutable, so a cached
+ * formatter serves every thread. Patterns that do not compile are cached as
+ * empty entries.
+ *
+ * Parsing is strict: a date such as 2026-02-30 is rejected rather than moved
+ * to the end of the month. So that strict parsing accepts the usual 'yyyy',
+ * year-of-era fields are read as proleptic years, which are the same for
+ * every year after 1 BC.
+ *
+ * A parse pattern may list several patterns separated by '|', tried in turn
+ * until one reads the whole string. The list remembers how often each
+ * pattern succeeds and moves the most successful ones to the front, so that
+ * a feed with one dominant format is usually read at the first try. Patterns
+ * that could read the same string, such as dd/MM/yyyy and MM/dd/yyyy, would
+ * then give results that depend on the order, so a list holding such a pair
+ * is always tried in the order given.
+ */
+final class DateFormats {
+
+    static final char PATTERN_DELIMITER = '|';
+
+    private static final int DECAY_HITS = 1024;
+
+    private static final class Key {
+        final String pattern;
+        final Locale locale;
+
+        Key(String pattern, Locale locale) {
+            this.pattern = pattern;
+            this.locale = locale;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key))
+                return false;
+            Key other = (Key) o;
+            return pattern.equals(other.pattern) && locale.equals(other.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return pattern.hashCode() * 31 + locale.hashCode();
+        }
+    }
+
+    /** Parse patterns tried in turn, most successful first. */
+    static final class PatternList {
+        private final DateTimeFormatter[] formatters;
+        private final boolean adaptive;
+        // Updated without synchronization: a lost count only delays a reordering
+        private final int[] hits;
+        private volatile int[] order;
+
+        PatternList(DateTimeFormatter[] formatters, boolean adaptive) {
+            this.formatters = formatters;
+            this.adaptive = adaptive;
+            this.hits = new int[formatters.length];
+            int[] order = new int[formatters.length];
+            for (int i = 0; i < order.length; i++)
+                order[i] = i;
+            this.order = order;
+        }
+
+        /** Returns the fields read by the first pattern that reads all of text, or null. */
+        TemporalAccessor parse(String text) {
+            int[] current = order;
+            for (int p = 0; p < current.length; p++) {
+                // The leading pattern of a learned order usually fits, so it is
+                // parsed straight away; the others are probed first
+                boolean probe = current.length > 1 && (p > 0 || !adaptive);
+                TemporalAccessor parsed = tryParse(formatters[current[p]], text, probe);
+                if (parsed != null) {
+                    if (adaptive)
+                        learn(current, p);
+                    return parsed;
+                }
+            }
+            return null;
+        }
+
+        private void learn(int[] current, int p) {
+            int i = current[p];
+            // Halving all counts now and then lets the order follow a feed
+            // whose formats change
+            if (++hits[i] == DECAY_HITS) {
+                for (int k = 0; k < hits.length; k++)
+                    hits[k] >>= 1;
+            }
+            if (p > 0 && hits[i] > hits[current[p - 1]]) {
+                int[] next = current.clone();
+                next[p] = next[p - 1];
+                next[p - 1] = i;
+                order = next;
+            }
+        }
+    }
+
+    private static final OperatorCache<Key, Optional<DateTimeFormatter>> FORMATTERS =
+            new OperatorCache<>(ExtensionSettings.getInt("dateFormatCacheSize", 256));
+    private static final OperatorCache<Key, Optional<PatternList>> PARSERS =
+            new OperatorCache<>(ExtensionSettings.getInt("dateFormatCacheSize", 256));
+
+    private static final Locale DEFAULT_LOCALE = Locale.forLanguageTag(ExtensionSettings.getString("dateLocale", "en"));
+
+    private DateFormats() {
+    }
+
+    static Locale defaultLocale() {
+        return DEFAULT_LOCALE;
+    }
+
+    /** Returns the formatter for the pattern, or null if it is not valid. */
+    static DateTimeFormatter formatter(String pattern, Locale locale) {
+        return FORMATTERS.computeIfAbsent(new Key(pattern, locale), DateFormats::compileFormatter).orElse(null);
+    }
+
+    /** Returns the parser for the pattern list, or null if a pattern is not valid. */
+    static PatternList parser(String patterns, Locale locale) {
+        return PARSERS.computeIfAbsent(new Key(patterns, locale), DateFormats::compileParser).orElse(null);
+    }
+
+    /**
+     * Returns the instant the parsed fields stand for: the instant itself if
+     * they include an offset or zone, or else the date and time in the date
+     * zone (see {@link CivilDates}), at midnight if there is no time. Returns
+     * null if the fields do not include a date.
+     */
+    static Long toMillis(TemporalAccessor parsed) {
+        if (parsed.isSupported(ChronoField.INSTANT_SECONDS)) {
+            long millis = parsed.getLong(ChronoField.INSTANT_SECONDS) * 1000;
+            return parsed.isSupported(ChronoField.MILLI_OF_SECOND) ? millis + parsed.getLong(ChronoField.MILLI_OF_SECOND) : millis;
+        }
+        LocalDate date = parsed.query(TemporalQueries.localDate());
+        if (date == null)
+            return null;
+        LocalTime time = parsed.query(TemporalQueries.localTime());
+        return CivilDates.toMillis(date.toEpochDay(), time == null ? 0 : time.toNanoOfDay() / 1_000_000);
+    }
+
+    private static Optional<DateTimeFormatter> compileFormatter(Key key) {
+        try {
+            return Optional.of(DateTimeFormatter.ofPattern(key.pattern, key.locale));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<PatternList> compileParser(Key key) {
+        List<String> patterns = split(key.pattern);
+        DateTimeFormatter[] formatters = new DateTimeFormatter[patterns.size()];
+        List<String> shapes = new ArrayList<>();
+        boolean adaptive = formatters.length > 1;
+        for (int i = 0; i < formatters.length; i++) {
+            String pattern = patterns.get(i);
+            if (pattern.isEmpty())
+                return Optional.empty();
+            try {
+                formatters[i] = DateTimeFormatter.ofPattern(prolepticYears(pattern), key.locale)
+                        .withResolverStyle(ResolverStyle.STRICT);
+            } catch (IllegalArgumentException ex) {
+                return Optional.empty();
+            }
+            String shape = shape(pattern);
+            if (shape == null || shapes.contains(shape))
+                adaptive = false;
+            shapes.add(shape);
+        }
+        return Optional.of(new PatternList(formatters, adaptive));
+    }
+
+    private static TemporalAccessor tryParse(DateTimeFormatter formatter, String text, boolean probe) {
+        // Rule out a pattern that does not fit without the exception parse()
+        // throws, then parse the one that does
+        if (probe) {
+            ParsePosition position = new ParsePosition(0);
+            if (formatter.parseUnresolved(text, position) == null || position.getIndex() != text.length())
+                return null;
+        }
+        try {
+            return formatter.parse(text);
+        } catch (DateTimeException ex) {
+            return null;
+        }
+    }
+
+    // Splits at the delimiters outside quoted literals
+    private static List<String> split(String patterns) {
+        List<String> parts = new ArrayList<>();
+        boolean quoted = false;
+        int start = 0;
+        for (int i = 0; i < patterns.length(); i++) {
+            char c = patterns.charAt(i);
+            if (c == '\'')
+                quoted = !quoted;
+            else if (c == PATTERN_DELIMITER && !quoted) {
+                parts.add(patterns.substring(start, i));
+                start = i + 1;
+            }
+        }
+        parts.add(patterns.substring(start));
+        return parts;
+    }
+
+    // Year-of-era (y) becomes proleptic year (u), which strict resolving
+    // accepts without an era field
+    private static String prolepticYears(String pattern) {
+        StringBuilder sb = new StringBuilder(pattern.length());
+        boolean quoted = false;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\'')
+                quoted = !quoted;
+            sb.append(c == 'y' && !quoted ? 'u' : c);
+        }
+        return sb.toString();
+    }
+
+    /*
+     * The shape of the strings a pattern reads: '9' for a run of digits, 'A'
+     * for a run of letters, other characters as they are. Two patterns with
+     * different shapes never read the same string. Returns null when the
+     * shape is not fixed: optional sections, padding, and zone and offset
+     * fields, which read punctuation.
+     */
+    private static String shape(String pattern) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                // A quoted literal, in which '' stands for a quote, or '' alone
+                int k = i + 1;
+                while (k < pattern.length()) {
+                    if (pattern.charAt(k) == '\'') {
+                        if (k + 1 < pattern.length() && pattern.charAt(k + 1) == '\'') {
+                            append(sb, '\'');
+                            k += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    append(sb, pattern.charAt(k++));
+                }
+                if (k == pattern.length())
+                    return null;
+                if (k == i + 1)
+                    append(sb, '\'');
+                i = k;
+            } else if ("[]{}#p".indexOf(c) >= 0 || "VvzOXxZ".indexOf(c) >= 0) {
+                return null;
+            } else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                int run = 1;
+                while (i + run < pattern.length() && pattern.charAt(i + run) == c)
+                    run++;
+                append(sb, isNumericField(c, run) ? '9' : 'A');
+                i += run - 1;
+            } else {
+                append(sb, c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean isNumericField(char letter, int run) {
+        if ("MLQqec".indexOf(letter) >= 0)
+            return run <= 2;
+        return "uyYdDHhKkmsSnNAgwWF".indexOf(letter) >= 0;
+    }
+
+    private static void append(StringBuilder sb, char c) {
+        char shape = Character.isDigit(c) ? '9' : Character.isLetter(c) ? 'A' : c;
+        if (!((shape == '9' || shape == 'A') && sb.length() > 0 && sb.charAt(sb.length() - 1) == shape))
+            sb.append(shape);
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.math.BigInteger;
+import java.util.Date;
+
+import com.corticon.services.extensions.ArgumentName;
+import com.corticon.services.extensions.Description;
+import com.corticon.services.extensions.ICcDateTimeExtension;
+import com.corticon.services.extensions.OperatorFolder;
+import com.corticon.services.extensions.TopLevelFolder;
+
+/**
+ * This class provides calendar operators on date attributes: business days,
+ * ages and days of the year.
+ *
+ * Dates are handled as epoch days by {@link CivilDates}, with no Calendar
+ * or java.time object per call. The calendar day of a date is taken in the
+ * zone {@code -Dcorticon.samples.dateZone} (default: the server's time zone).
+ *
+ * Business days are Monday to Friday except the holidays of a named
+ * reference list (see {@link ReferenceLists} and {@link BusinessCalendar}),
+ * parsed once per version of the list. An empty list name means no holidays.
+ */
+@TopLevelFolder("Sample Extended Operators")
+public class DateOperators implements ICcDateTimeExtension {
+
+    /**
+     * Determine the day of the year of a date.
+     *
+     * @param d A date.
+     * @return The day of the year, 1 for January 1st.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Date" })
+    @Description(lang = { "en" }, values = { "Returns the day of the year of the date, from 1 for January 1st to 365, or 366 in a leap year." })
+    public static BigInteger dayOfYear(Date d) {
+        if (d == null)
+            return null;
+        return BigInteger.valueOf(CivilDates.dayOfYear(CivilDates.civil(CivilDates.epochDay(d.getTime()))));
+    }
+
+    /**
+     * Determine the age in whole years on a date, such as the age of a
+     * policy holder on the claim date.
+     *
+     * @param d The date of birth.
+     * @param asOf The date to compute the age on.
+     * @return The number of completed years from d to asOf, negative if asOf
+     * is before d.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Date" })
+    @Description(lang = { "en" }, values = {
+        "Returns the number of whole years from the date to the asOf date, such as an age on a claim date.\n" +
+        "Someone born on February 29th completes a year on March 1st in common years."
+    })
+    public static BigInteger ageInYears(Date d,
+            @ArgumentName(lang = { "en" }, values = { "asOf" }) Date asOf) {
+        if (d == null || asOf == null)
+            return null;
+        long from = CivilDates.epochDay(d.getTime());
+        long to = CivilDates.epochDay(asOf.getTime());
+        return BigInteger.valueOf(to < from ? -completedYears(to, from) : completedYears(from, to));
+    }
+
+    /**
+     * Determine if a date is a business day.
+     *
+     * @param d A date.
+     * @param holidayList The name of the holiday reference list, or an empty
+     * string for none.
+     * @return true if the date is a weekday and not a holiday, or null if the
+     * list cannot be read.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Date" })
+    @Description(lang = { "en" }, values = {
+        "Returns true if the date is Monday to Friday and not in the named holiday list (<referenceDir>/<holidayList>.txt,\n" +
+        "one ISO date such as 2026-12-25 per line). An empty list name means no holidays."
+    })
+    public static Boolean isBusinessDay(Date d,
+            @ArgumentName(lang = { "en" }, values = { "holidayList" }) String holidayList) {
+        BusinessCalendar calendar = calendar(holidayList);
+        if (d == null || calendar == null)
+            return null;
+        return calendar.isBusinessDay(CivilDates.epochDay(d.getTime()));
+    }
+
+    /**
+     * Count the business days between two dates.
+     *
+     * @param d The first date.
+     * @param end The last date.
+     * @param holidayList The name of the holiday reference list, or an empty
+     * string for none.
+     * @return The number of business days after d up to and including end,
+     * negative if end is before d, or null if the list cannot be read.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Date" })
+    @Description(lang = { "en" }, values = {
+        "Returns the number of business days after the date up to and including the end date, negative if end is earlier.\n" +
+        "Business days are Monday to Friday except the days in the named holiday list; an empty list name means no holidays."
+    })
+    public static BigInteger businessDaysBetween(Date d,
+            @ArgumentName(lang = { "en" }, values = { "end" }) Date end,
+            @ArgumentName(lang = { "en" }, values = { "holidayList" }) String holidayList) {
+        BusinessCalendar calendar = calendar(holidayList);
+        if (d == null || end == null || calendar == null)
+            return null;
+        return BigInteger.valueOf(calendar.count(CivilDates.epochDay(d.getTime()), CivilDates.epochDay(end.getTime())));
+    }
+
+    /**
+     * Add business days to a date.
+     *
+     * @param d A date.
+     * @param days The number of business days to add, negative to subtract.
+     * @param holidayList The name of the holiday reference list, or an empty
+     * string for none.
+     * @return The date the given number of business days later, at the same
+     * time of day, or null if the list cannot be read.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Date" })
+    @Description(lang = { "en" }, values = {
+        "Returns the date the given number of business days after the date (before it if days is negative), at the same time of day.\n" +
+        "Business days are Monday to Friday except the days in the named holiday list; an empty list name means no holidays."
+    })
+    public static Date addBusinessDays(Date d,
+            @ArgumentName(lang = { "en" }, values = { "days" }) BigInteger days,
+            @ArgumentName(lang = { "en" }, values = { "holidayList" }) String holidayList) {
+        BusinessCalendar calendar = calendar(holidayList);
+        if (d == null || days == null || calendar == null || days.bitLength() > 31)
+            return null;
+        long local = CivilDates.localMillis(d.getTime());
+        long day = Math.floorDiv(local, CivilDates.DAY_MILLIS);
+        long target = calendar.add(day, days.longValue());
+        return new Date(CivilDates.toMillis(target, local - day * CivilDates.DAY_MILLIS));
+    }
+
+    private static long completedYears(long from, long to) {
+        long birth = CivilDates.civil(from);
+        long on = CivilDates.civil(to);
+        long years = CivilDates.year(on) - CivilDates.year(birth);
+        return CivilDates.monthDay(on) < CivilDates.monthDay(birth) ? years - 1 : years;
+    }
+
+    private static BusinessCalendar calendar(String holidayList) {
+        if (holidayList == null)
+            return null;
+        if (holidayList.isEmpty())
+            return BusinessCalendar.WEEKDAYS;
+        ReferenceLists.ReferenceList list = ReferenceLists.get(holidayList);
+        return list == null ? null : list.derive(BusinessCalendar.class, BusinessCalendar::parse);
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.function.IntFunction;
+
+/**
+ * Decimal results for the math operators, at a chosen precision.
+ *
+ * Functions computed in double are returned as the shortest decimal that
+ * reads back as the same double (BigDecimal.valueOf), rounded to
+ * {@link #CONTEXT}: {@code -Dcorticon.samples.mathPrecision} significant
+ * digits (default 16, as DECIMAL64), rounding half even. A double is good
+ * for about 16 digits, so more precision than that adds nothing there.
+ *
+ * For more digits than a double has, exp, ln, sqrt, sin and cos are also
+ * computed in BigDecimal arithmetic to any precision up to
+ * {@link #MAX_DIGITS}, with {@link #GUARD_DIGITS} extra digits of working
+ * precision, so that the result is correct to within an ulp. Pi, ln 2 and
+ * ln 10 are computed once at the highest precision asked for so far and
+ * rounded for each use.
+ */
+final class DecimalMath {
+
+    static final int MAX_DIGITS = 1000;
+    static final int GUARD_DIGITS = 10;
+
+    static final MathContext CONTEXT = new MathContext(
+            Math.max(1, Math.min(ExtensionSettings.getInt("mathPrecision", 16), MAX_DIGITS)), RoundingMode.HALF_EVEN);
+
+    // Beyond this, exp overflows the exponent range of a BigDecimal
+    private static final BigDecimal EXP_LIMIT = BigDecimal.valueOf(100_000_000);
+
+    private static final BigDecimal TWO = BigDecimal.valueOf(2);
+
+    /** A constant computed at the highest precision asked for so far. */
+    private static final class Constant {
+        private static final class Value {
+            final BigDecimal value;
+            final int digits;
+
+            Value(BigDecimal value, int digits) {
+                this.value = value;
+                this.digits = digits;
+            }
+        }
+
+        private final IntFunction<BigDecimal> series;
+        private volatile Value current = new Value(BigDecimal.ZERO, 0);
+
+        Constant(IntFunction<BigDecimal> series) {
+            this.series = series;
+        }
+
+        BigDecimal get(int digits) {
+            Value v = current;
+            if (v.digits < digits) {
+                synchronized (this) {
+                    v = current;
+                    if (v.digits < digits) {
+                        // Grow in steps, so rising demands do not recompute every time
+                        int target = Math.max(digits, Math.min(2 * v.digits, 4 * MAX_DIGITS));
+                        v = new Value(series.apply(target + GUARD_DIGITS), target);
+                        current = v;
+                    }
+                }
+            }
+            return v.value.round(new MathContext(digits, RoundingMode.HALF_EVEN));
+        }
+    }
+
+    // Machin: pi = 16 atan(1/5) - 4 atan(1/239)
+    private static final Constant PI = new Constant(digits ->
+            atanInverse(5, digits).multiply(BigDecimal.valueOf(16)).subtract(atanInverse(239, digits).multiply(BigDecimal.valueOf(4))));
+
+    // ln 2 = 2 atanh(1/3)
+    private static final Constant LN2 = new Constant(digits -> atanhInverse(3, digits).multiply(TWO));
+
+    // ln 10 = 3 ln 2 + ln 1.25, and ln 1.25 = 2 atanh(1/9)
+    private static final Constant LN10 = new Constant(digits ->
+            LN2.get(digits).multiply(BigDecimal.valueOf(3)).add(atanhInverse(9, digits).multiply(TWO)));
+
+    private DecimalMath() {
+    }
+
+    /** Returns the double as a decimal rounded to CONTEXT, or null if it is NaN or infinite. */
+    static BigDecimal fromDouble(double v) {
+        if (Double.isNaN(v) || Double.isInfinite(v))
+            return null;
+        return BigDecimal.valueOf(v).round(CONTEXT);
+    }
+
+    static BigDecimal pi(MathContext mc) {
+        return PI.get(mc.getPrecision()).round(mc);
+    }
+
+    /** Returns e to the power x, or null if the result is outside the range of a BigDecimal. */
+    static BigDecimal exp(BigDecimal x, MathContext mc) {
+        if (x.signum() == 0)
+            return BigDecimal.ONE.round(mc);
+        if (x.abs().compareTo(EXP_LIMIT) > 0)
+            return null;
+        // exp(x) = 2^k exp(r) with |r| <= ln 2 / 2; the error of r grows with k
+        int digits = mc.getPrecision() + GUARD_DIGITS + integerDigits(x);
+        MathContext work = new MathContext(digits, RoundingMode.HALF_EVEN);
+        BigDecimal ln2 = LN2.get(digits);
+        int k = x.divide(ln2, work).setScale(0, RoundingMode.HALF_EVEN).intValueExact();
+        BigDecimal r = x.subtract(ln2.multiply(BigDecimal.valueOf(k)), work);
+
+        // exp(r) = exp(r / 256)^256, whose series converges in a few terms
+        BigDecimal small = r.divide(BigDecimal.valueOf(256), work);
+        BigDecimal sum = BigDecimal.ONE;
+        BigDecimal term = BigDecimal.ONE;
+        BigDecimal epsilon = BigDecimal.ONE.movePointLeft(digits + 1);
+        for (int n = 1; term.abs().compareTo(epsilon) > 0; n++) {
+            term = term.multiply(small, work).divide(BigDecimal.valueOf(n), work);
+            sum = sum.add(term, work);
+        }
+        for (int i = 0; i < 8; i++)
+            sum = sum.multiply(sum, work);
+        return k == 0 ? sum.round(mc) : sum.multiply(TWO.pow(k, work), work).round(mc);
+    }
+
+    /** Returns the natural logarithm of x, or null if x is not positive. */
+    static BigDecimal ln(BigDecimal x, MathContext mc) {
+        if (x.signum() <= 0)
+            return null;
+        if (x.compareTo(BigDecimal.ONE) == 0)
+            return BigDecimal.ZERO;
+        // Near 1 the series converges fast; elsewhere x = u 2^-j 10^e with u
+        // near 1, and ln 10 and ln 2 carry the rest
+        BigDecimal u = x;
+        int e = 0;
+        int j = 0;
+        if (x.subtract(BigDecimal.ONE).abs().compareTo(BigDecimal.valueOf(5, 1)) >= 0) {
+            e = x.precision() - x.scale();
+            u = x.scaleByPowerOfTen(-e);
+            j = (int) Math.round(-Math.log(u.doubleValue()) / Math.log(2));
+            u = j >= 0 ? u.multiply(TWO.pow(j)) : u.divide(TWO.pow(-j));
+        }
+        int digits = mc.getPrecision() + GUARD_DIGITS + integerDigits(BigDecimal.valueOf(e));
+        MathContext work = new MathContext(digits, RoundingMode.HALF_EVEN);
+        BigDecimal result = lnNearOne(u, work);
+        if (e != 0)
+            result = result.add(LN10.get(digits).multiply(BigDecimal.valueOf(e)), work);
+        if (j != 0)
+            result = result.subtract(LN2.get(digits).multiply(BigDecimal.valueOf(j)), work);
+        return result.round(mc);
+    }
+
+    /** Returns the square root of x, or null if x is negative. */
+    static BigDecimal sqrt(BigDecimal x, MathContext mc) {
+        if (x.signum() < 0)
+            return null;
+        if (x.signum() == 0)
+            return BigDecimal.ZERO;
+        // Start from the double root of x scaled into range, then let Newton
+        // double the correct digits at each step
+        int half = (x.precision() - x.scale()) / 2;
+        BigDecimal y = BigDecimal.valueOf(Math.sqrt(x.scaleByPowerOfTen(-2 * half).doubleValue())).scaleByPowerOfTen(half);
+        int target = mc.getPrecision() + GUARD_DIGITS;
+        BigDecimal oneHalf = BigDecimal.valueOf(5, 1);
+        for (int digits = 8; ; digits = Math.min(2 * digits, target)) {
+            MathContext work = new MathContext(digits + 2, RoundingMode.HALF_EVEN);
+            y = y.add(x.divide(y, work)).multiply(oneHalf, work);
+            if (digits == target)
+                break;
+        }
+        return y.round(mc);
+    }
+
+    /** Returns the sine of x radians, or null if x has more than MAX_DIGITS integer digits. */
+    static BigDecimal sin(BigDecimal x, MathContext mc) {
+        return trig(x, mc, 0);
+    }
+
+    /** Returns the cosine of x radians, or null if x has more than MAX_DIGITS integer digits. */
+    static BigDecimal cos(BigDecimal x, MathContext mc) {
+        return trig(x, mc, 1);
+    }
+
+    // quarter 0 for sin, 1 for cos = sin(x + pi/2)
+    private static BigDecimal trig(BigDecimal x, MathContext mc, int quarter) {
+        int magnitude = integerDigits(x);
+        if (magnitude > MAX_DIGITS)
+            return null;
+        if (x.signum() == 0)
+            return (quarter == 0 ? BigDecimal.ZERO : BigDecimal.ONE).round(mc);
+        int digits = mc.getPrecision() + GUARD_DIGITS + magnitude;
+        while (true) {
+            MathContext work = new MathContext(digits, RoundingMode.HALF_EVEN);
+            BigDecimal halfPi = PI.get(digits).divide(TWO, work);
+            BigInteger k = x.divide(halfPi, work).setScale(0, RoundingMode.HALF_EVEN).toBigIntegerExact();
+            BigDecimal r = x.subtract(halfPi.multiply(new BigDecimal(k)), work);
+            int q = k.add(BigInteger.valueOf(quarter)).and(BigInteger.valueOf(3)).intValue();
+            BigDecimal result = q % 2 == 0 ? sinSeries(r, work) : cosSeries(r, work);
+            if (q >= 2)
+                result = result.negate();
+            // Near a zero of the function, the digits lost to the reduction of x
+            // show as a small result: retry with that many more
+            int lost = result.signum() == 0 ? digits : Math.max(0, result.scale() - result.precision());
+            int needed = mc.getPrecision() + GUARD_DIGITS + magnitude + lost;
+            if (k.signum() == 0 || needed - digits <= GUARD_DIGITS / 2 || digits >= 4 * MAX_DIGITS)
+                return result.round(mc);
+            digits = Math.min(needed, 4 * MAX_DIGITS);
+        }
+    }
+
+    private static BigDecimal sinSeries(BigDecimal r, MathContext work) {
+        BigDecimal r2 = r.multiply(r, work);
+        BigDecimal term = r;
+        BigDecimal sum = r;
+        BigDecimal epsilon = r.abs().movePointLeft(work.getPrecision() + 1);
+        for (int n = 2; term.abs().compareTo(epsilon) > 0; n += 2) {
+            term = term.multiply(r2, work).divide(BigDecimal.valueOf((long) n * (n + 1)), work).negate();
+            sum = sum.add(term, work);
+        }
+        return sum;
+    }
+
+    private static BigDecimal cosSeries(BigDecimal r, MathContext work) {
+        BigDecimal r2 = r.multiply(r, work);
+        BigDecimal term = BigDecimal.ONE;
+        BigDecimal sum = BigDecimal.ONE;
+        BigDecimal epsilon = BigDecimal.ONE.movePointLeft(work.getPrecision() + 1);
+        for (int n = 1; term.abs().compareTo(epsilon) > 0; n += 2) {
+            term = term.multiply(r2, work).divide(BigDecimal.valueOf((long) n * (n + 1)), work).negate();
+            sum = sum.add(term, work);
+        }
+        return sum;
+    }
+
+    // ln u = 2 atanh((u - 1) / (u + 1)), for u between about 0.5 and 1.5
+    private static BigDecimal lnNearOne(BigDecimal u, MathContext work) {
+        BigDecimal z = u.subtract(BigDecimal.ONE).divide(u.add(BigDecimal.ONE), work);
+        if (z.signum() == 0)
+            return BigDecimal.ZERO;
+        BigDecimal z2 = z.multiply(z, work);
+        BigDecimal power = z;
+        BigDecimal sum = z;
+        BigDecimal epsilon = z.abs().movePointLeft(work.getPrecision() + 1);
+        for (int n = 3; power.abs().compareTo(epsilon) > 0; n += 2) {
+            power = power.multiply(z2, work);
+            sum = sum.add(power.divide(BigDecimal.valueOf(n), work), work);
+        }
+        return sum.multiply(TWO, work);
+    }
+
+    // atan(1/n) to the given number of decimal places
+    private static BigDecimal atanInverse(int n, int scale) {
+        BigDecimal n2 = BigDecimal.valueOf((long) n * n);
+        BigDecimal power = BigDecimal.ONE.divide(BigDecimal.valueOf(n), scale, RoundingMode.HALF_EVEN);
+        BigDecimal sum = power;
+        for (int k = 3; power.signum() != 0; k += 2) {
+            power = power.divide(n2, scale, RoundingMode.HALF_EVEN);
+            BigDecimal term = power.divide(BigDecimal.valueOf(k), scale, RoundingMode.HALF_EVEN);
+            sum = (k & 2) != 0 ? sum.subtract(term) : sum.add(term);
+        }
+        return sum;
+    }
+
+    // atanh(1/n) to the given number of decimal places
+    private static BigDecimal atanhInverse(int n, int scale) {
+        BigDecimal n2 = BigDecimal.valueOf((long) n * n);
+        BigDecimal power = BigDecimal.ONE.divide(BigDecimal.valueOf(n), scale, RoundingMode.HALF_EVEN);
+        BigDecimal sum = power;
+        for (int k = 3; power.signum() != 0; k += 2) {
+            power = power.divide(n2, scale, RoundingMode.HALF_EVEN);
+            sum = sum.add(power.divide(BigDecimal.valueOf(k), scale, RoundingMode.HALF_EVEN));
+        }
+        return sum;
+    }
+
+    // Digits before the decimal point, 0 for |x| < 1
+    private static int integerDigits(BigDecimal x) {
+        return Math.max(0, x.precision() - x.scale());
+    }
+}
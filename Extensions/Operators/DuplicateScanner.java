@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Duplicate detection over a collection of strings without boxing.
+ *
+ * Each string is reduced to a 64-bit key (its cached hash code and length,
+ * mixed) held in a primitive open-addressing table next to the index of the
+ * string; the strings themselves are only compared when two keys are equal.
+ * The table is reused per thread, so a scan allocates nothing once the
+ * thread has seen a collection of the same size; tables of more than 65536
+ * slots (about 900 KB) are allocated for the call and not kept.
+ *
+ * Collections longer than {@code -Dcorticon.samples.collectionParallelThreshold}
+ * (default 65536) are scanned on the fork/join common pool: keys are computed
+ * in chunks, the indexes are scattered into partitions by key, and each
+ * partition is checked with a table of its own. Every task stops as soon as
+ * any of them has found a duplicate.
+ *
+ * Two null entries count as duplicates, as they do for a HashSet.
+ */
+final class DuplicateScanner {
+
+    static final int PARALLEL_THRESHOLD = ExtensionSettings.getInt("collectionParallelThreshold", 1 << 16);
+
+    // Per-thread tables above this many slots are not kept
+    private static final int MAX_RETAINED_SLOTS = 1 << 16;
+    private static final int CHECK_INTERVAL = 1024;
+
+    private static final ThreadLocal<Table> TABLE = ThreadLocal.withInitial(() -> new Table(64));
+
+    private DuplicateScanner() {
+    }
+
+    static boolean containsDuplicates(String[] values) {
+        if (values.length < 2)
+            return false;
+        if (values.length > PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1)
+            return new ParallelScan(values).run();
+
+        Table table = table(values.length);
+        try {
+            boolean seenNull = false;
+            for (int i = 0; i < values.length; i++) {
+                String s = values[i];
+                if (s == null) {
+                    if (seenNull)
+                        return true;
+                    seenNull = true;
+                } else if (!table.add(key(s), i, values)) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            table.clear();
+        }
+    }
+
+    /** Returns the non-zero 64-bit key of a string. */
+    static long key(String s) {
+        long h = NgramFingerprint.mix(((long) s.length() << 32) | (s.hashCode() & 0xFFFFFFFFL));
+        return h == 0 ? 1 : h;
+    }
+
+    private static Table table(int entries) {
+        int slots = Table.slotsFor(entries);
+        if (slots > MAX_RETAINED_SLOTS)
+            return new Table(slots);
+        Table table = TABLE.get();
+        if (table.keys.length < slots) {
+            table = new Table(slots);
+            TABLE.set(table);
+        }
+        return table;
+    }
+
+    /*
+     * Open-addressing table of keys with the index of the string each came
+     * from; 0 marks an empty slot. Only the slots in use are cleared.
+     */
+    private static final class Table {
+        final long[] keys;
+        final int[] indexes;
+        final int mask;
+        private final int[] used;
+        private int size;
+
+        Table(int slots) {
+            keys = new long[slots];
+            indexes = new int[slots];
+            used = new int[slots / 2];
+            mask = slots - 1;
+        }
+
+        /* Power of two with a load factor of at most one half. */
+        static int slotsFor(int entries) {
+            return Integer.highestOneBit(Math.max(entries, 32) - 1) << 2;
+        }
+
+        /*
+         * Adds values[index] under key, returning false if an equal string is
+         * already in the table.
+         */
+        boolean add(long key, int index, String[] values) {
+            int slot = (int) key & mask;
+            while (true) {
+                long k = keys[slot];
+                if (k == 0) {
+                    keys[slot] = key;
+                    indexes[slot] = index;
+                    used[size++] = slot;
+                    return true;
+                }
+                if (k == key && values[indexes[slot]].equals(values[index]))
+                    return false;
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        void clear() {
+            for (int i = 0; i < size; i++)
+                keys[used[i]] = 0;
+            size = 0;
+        }
+    }
+
+    /*
+     * Hash-partitioned scan: duplicates always have the same key and so land
+     * in the same partition, which makes the partitions independent.
+     */
+    private static final class ParallelScan {
+        private final String[] values;
+        private final long[] keys;
+        private final int chunks;
+        private final int partitionBits;
+        private final int partitions;
+        private final int[][] counts;
+        private final int[] nulls;
+        private final int[] order;
+        private final int[] partitionStart;
+        private final AtomicBoolean found = new AtomicBoolean();
+
+        ParallelScan(String[] values) {
+            this.values = values;
+            this.keys = new long[values.length];
+            int parallelism = ForkJoinPool.getCommonPoolParallelism();
+            this.chunks = parallelism * 4;
+            this.partitionBits = 32 - Integer.numberOfLeadingZeros(parallelism * 4 - 1);
+            this.partitions = 1 << partitionBits;
+            this.counts = new int[chunks][partitions];
+            this.nulls = new int[chunks];
+            this.order = new int[values.length];
+            this.partitionStart = new int[partitions + 1];
+        }
+
+        boolean run() {
+            invokeAll(chunk -> hashChunk(chunk), chunks);
+            int nullCount = 0;
+            for (int n : nulls)
+                nullCount += n;
+            if (nullCount > 1 || found.get())
+                return true;
+
+            // Offsets of each chunk within each partition
+            int offset = 0;
+            for (int p = 0; p < partitions; p++) {
+                partitionStart[p] = offset;
+                for (int c = 0; c < chunks; c++) {
+                    int count = counts[c][p];
+                    counts[c][p] = offset;
+                    offset += count;
+                }
+            }
+            partitionStart[partitions] = offset;
+
+            invokeAll(chunk -> scatterChunk(chunk), chunks);
+            invokeAll(partition -> checkPartition(partition), partitions);
+            return found.get();
+        }
+
+        private int chunkStart(int chunk) {
+            return (int) ((long) values.length * chunk / chunks);
+        }
+
+        private int partition(long key) {
+            return (int) (key >>> (64 - partitionBits));
+        }
+
+        private void hashChunk(int chunk) {
+            int[] chunkCounts = counts[chunk];
+            for (int i = chunkStart(chunk), end = chunkStart(chunk + 1); i < end; i++) {
+                String s = values[i];
+                if (s == null) {
+                    nulls[chunk]++;
+                } else {
+                    long key = key(s);
+                    keys[i] = key;
+                    chunkCounts[partition(key)]++;
+                }
+            }
+        }
+
+        private void scatterChunk(int chunk) {
+            int[] next = counts[chunk];
+            for (int i = chunkStart(chunk), end = chunkStart(chunk + 1); i < end; i++) {
+                if (values[i] != null)
+                    order[next[partition(keys[i])]++] = i;
+            }
+        }
+
+        private void checkPartition(int partition) {
+            int from = partitionStart[partition];
+            int to = partitionStart[partition + 1];
+            if (to - from < 2)
+                return;
+            Table table = table(to - from);
+            try {
+                for (int p = from; p < to; p++) {
+                    if ((p - from) % CHECK_INTERVAL == 0 && found.get())
+                        return;
+                    int i = order[p];
+                    if (!table.add(keys[i], i, values)) {
+                        found.set(true);
+                        return;
+                    }
+                }
+            } finally {
+                table.clear();
+            }
+        }
+
+        private interface Step {
+            void run(int part);
+        }
+
+        private void invokeAll(Step step, int parts) {
+            List<RecursiveAction> tasks = new ArrayList<>(parts);
+            for (int part = 0; part < parts; part++) {
+                int p = part;
+                tasks.add(new RecursiveAction() {
+                    private static final long serialVersionUID = 1L;
+
+                    @Override
+                    protected void compute() {
+                        if (!found.get())
+                            step.run(p);
+                    }
+                });
+            }
+            ForkJoinTask.invokeAll(tasks);
+        }
+    }
+}
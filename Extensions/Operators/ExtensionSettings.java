@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+/**
+ * Tuning switches shared by the sample extended operators.
+ *
+ * Every setting is read from a JVM system property prefixed with
+ * {@code corticon.samples.}, for example
+ * {@code -Dcorticon.samples.referenceDir=/opt/corticon/reference}.
+ * Missing or malformed values fall back to the supplied default.
+ */
+final class ExtensionSettings {
+
+    static final String PREFIX = "corticon.samples.";
+
+    private ExtensionSettings() {
+    }
+
+    static String getString(String name, String defaultValue) {
+        String value = System.getProperty(PREFIX + name);
+        return (value == null || value.trim().isEmpty()) ? defaultValue : value.trim();
+    }
+
+    static int getInt(String name, int defaultValue) {
+        String value = System.getProperty(PREFIX + name);
+        if (value == null)
+            return defaultValue;
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException ex) {
+            return defaultValue;
+        }
+    }
+
+    static long getLong(String name, long defaultValue) {
+        String value = System.getProperty(PREFIX + name);
+        if (value == null)
+            return defaultValue;
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException ex) {
+            return defaultValue;
+        }
+    }
+}
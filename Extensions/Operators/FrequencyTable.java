@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.util.Arrays;
+
+/**
+ * Counts of distinct strings in one pass, without boxing: an open-addressing
+ * table of 64-bit string keys (see {@link DuplicateScanner#key}) pointing at
+ * parallel arrays of values and counts. Strings are only compared when their
+ * keys are equal.
+ */
+final class FrequencyTable {
+
+    private String[] values;
+    private long[] hashes;
+    private long[] counts;
+    private int[] slots;
+    private int mask;
+    private int size;
+
+    FrequencyTable(int expectedValues) {
+        int capacity = Math.max(8, expectedValues);
+        values = new String[capacity];
+        hashes = new long[capacity];
+        counts = new long[capacity];
+        slots = new int[Integer.highestOneBit(capacity) << 2];
+        mask = slots.length - 1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    String value(int id) {
+        return values[id];
+    }
+
+    long count(int id) {
+        return counts[id];
+    }
+
+    /** Returns the id of value, or -1 if it is not in the table. */
+    int find(String value, long hash) {
+        int slot = (int) hash & mask;
+        for (int s = slots[slot]; s != 0; s = slots[slot]) {
+            if (hashes[s - 1] == hash && values[s - 1].equals(value))
+                return s - 1;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /** Returns the id of value, adding it with a count of 0 if it is new. */
+    int add(String value, long hash) {
+        int slot = (int) hash & mask;
+        for (int s = slots[slot]; s != 0; s = slots[slot]) {
+            if (hashes[s - 1] == hash && values[s - 1].equals(value))
+                return s - 1;
+            slot = (slot + 1) & mask;
+        }
+        if (size == values.length) {
+            grow();
+            return add(value, hash);
+        }
+        int id = size++;
+        values[id] = value;
+        hashes[id] = hash;
+        slots[slot] = id + 1;
+        return id;
+    }
+
+    void increment(int id) {
+        counts[id]++;
+    }
+
+    /** Returns the ids ordered by count, highest first, ties by value. */
+    Integer[] byCount() {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++)
+            order[i] = i;
+        Arrays.sort(order, (a, b) -> counts[a] != counts[b] ? Long.compare(counts[b], counts[a]) : values[a].compareTo(values[b]));
+        return order;
+    }
+
+    private void grow() {
+        int capacity = values.length * 2;
+        values = Arrays.copyOf(values, capacity);
+        hashes = Arrays.copyOf(hashes, capacity);
+        counts = Arrays.copyOf(counts, capacity);
+        slots = new int[slots.length * 2];
+        mask = slots.length - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = (int) hashes[id] & mask;
+            while (slots[slot] != 0)
+                slot = (slot + 1) & mask;
+            slots[slot] = id + 1;
+        }
+    }
+}
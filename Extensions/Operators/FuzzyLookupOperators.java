@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+
+import com.corticon.services.extensions.ArgumentName;
+import com.corticon.services.extensions.Description;
+import com.corticon.services.extensions.ICcCollectionExtension;
+import com.corticon.services.extensions.ICcStandAloneExtension;
+import com.corticon.services.extensions.OperatorFolder;
+import com.corticon.services.extensions.TopLevelFolder;
+
+/**
+ * This class provides one-to-many fuzzy lookup operators.
+ *
+ * Instead of comparing a value with every entry of a list, the operators
+ * build an inverted n-gram index (N-gram similarity) or a BK-tree (edit
+ * distance) over the list once and probe it for each lookup. Indexes over
+ * rule collections are cached by collection content; indexes over named
+ * reference lists (see {@link ReferenceLists}) are rebuilt only when the
+ * list file changes.
+ *
+ * Operators returning several matches join them with {@link #MATCH_DELIMITER},
+ * best match first.
+ */
+@TopLevelFolder("Sample Extended Operators")
+public class FuzzyLookupOperators implements ICcCollectionExtension, ICcStandAloneExtension {
+
+    static final String MATCH_DELIMITER = "|";
+
+    private static final OperatorCache<CollectionKey, NgramIndex> INDEXES =
+            new OperatorCache<>(ExtensionSettings.getInt("fuzzyIndexCacheSize", 32));
+
+    private static final String BK_TREE = "bktree";
+    private static final OperatorCache<CollectionKey, BkTree> TREES =
+            new OperatorCache<>(ExtensionSettings.getInt("fuzzyIndexCacheSize", 32));
+
+    /**
+     * Find the entry of a collection that is most similar to a query string.
+     *
+     * @param collection The collection of strings to search.
+     * @param query The string to look up.
+     * @param ngramSize The n-gram size.
+     * @param threshold The minimum similarity (0.0-1.0) of a match.
+     * @return The best matching entry, or null if no entry reaches the threshold.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Fuzzy lookup" })
+    @Description(lang = { "en" }, values = {
+        "Returns the entry of the collection with the highest N-gram similarity to the query string.\n" +
+        "Similarity is the same Jaccard score as compareWithNgram (case-insensitive, accent-normalized).\n" +
+        "Returns null if no entry reaches the threshold."
+    })
+    public static String bestNgramMatch(String[] collection,
+            @ArgumentName(lang = { "en" }, values = { "query" }) String query,
+            @ArgumentName(lang = { "en" }, values = { "n-gram size" }) BigInteger ngramSize,
+            @ArgumentName(lang = { "en" }, values = { "threshold" }) BigDecimal threshold) {
+        NgramIndex index = collectionIndex(collection, ngramSize);
+        List<NgramIndex.Match> matches = search(index, query, threshold, 1);
+        return (matches == null || matches.isEmpty()) ? null : index.entry(matches.get(0).entry);
+    }
+
+    /**
+     * Find the similarity of the entry of a collection that is most similar to
+     * a query string.
+     *
+     * @param collection The collection of strings to search.
+     * @param query The string to look up.
+     * @param ngramSize The n-gram size.
+     * @param threshold The minimum similarity (0.0-1.0) of a match.
+     * @return The score of the best match, or 0 if no entry reaches the threshold.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Fuzzy lookup" })
+    @Description(lang = { "en" }, values = {
+        "Returns the N-gram similarity (0.0-1.0) of the collection entry that best matches the query string.\n" +
+        "Returns 0 if no entry reaches the threshold."
+    })
+    public static BigDecimal bestNgramMatchScore(String[] collection,
+            @ArgumentName(lang = { "en" }, values = { "query" }) String query,
+            @ArgumentName(lang = { "en" }, values = { "n-gram size" }) BigInteger ngramSize,
+            @ArgumentName(lang = { "en" }, values = { "threshold" }) BigDecimal threshold) {
+        return bestScore(search(collectionIndex(collection, ngramSize), query, threshold, 1));
+    }
+
+    /**
+     * Find the entries of a collection that are similar to a query string.
+     *
+     * @param collection The collection of strings to search.
+     * @param query The string to look up.
+     * @param ngramSize The n-gram size.
+     * @param threshold The minimum similarity (0.0-1.0) of a match.
+     * @param maxResults The maximum number of matches to return.
+     * @return The matching entries, best first, separated by "|".
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Fuzzy lookup" })
+    @Description(lang = { "en" }, values = {
+        "Returns up to maxResults collection entries whose N-gram similarity to the query string reaches the threshold.\n" +
+        "Matches are ordered best first and separated by '|'. Returns an empty string if nothing matches."
+    })
+    public static String ngramMatches(String[] collection,
+            @ArgumentName(lang = { "en" }, values = { "query" }) String query,
+            @ArgumentName(lang = { "en" }, values = { "n-gram size" }) BigInteger ngramSize,
+            @ArgumentName(lang = { "en" }, values = { "threshold" }) BigDecimal threshold,
+            @ArgumentName(lang = { "en" }, values = { "maxResults" }) BigInteger maxResults) {
+        if (maxResults == null || maxResults.signum() <= 0)
+            return null;
+        NgramIndex index = collectionIndex(collection, ngramSize);
+        return join(index, search(index, query, threshold, maxResults.min(BigInteger.valueOf(Integer.MAX_VALUE)).intValue()));
+    }
+
+    /**
+     * Find the entry of a named reference list that is most similar to a query
+     * string.
+     *
+     * @param query The string to look up.
+     * @param listName The name of the reference list.
+     * @param ngramSize The n-gram size.
+     * @param threshold The minimum similarity (0.0-1.0) of a match.
+     * @return The best matching entry, or null if no entry reaches the threshold.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Fuzzy lookup" })
+    @Description(lang = { "en" }, values = {
+        "Returns the entry of the named reference list with the highest N-gram similarity to the query string.\n" +
+        "The list is loaded once from <referenceDir>/<listName>.txt and indexed once per n-gram size.\n" +
+        "Returns null if no entry reaches the threshold or the list cannot be read."
+    })
+    public static String bestNgramMatchInList(
+            @ArgumentName(lang = { "en" }, values = { "query" }) String query,
+            @ArgumentName(lang = { "en" }, values = { "list name" }) String listName,
+            @ArgumentName(lang = { "en" }, values = { "n-gram size" }) BigInteger ngramSize,
+            @ArgumentName(lang = { "en" }, values = { "threshold" }) BigDecimal threshold) {
+        NgramIndex index = listIndex(listName, ngramSize);
+        List<NgramIndex.Match> matches = search(index, query, threshold, 1);
+        return (matches == null || matches.isEmpty()) ? null : index.entry(matches.get(0).entry);
+    }
+
+    /**
+     * Find the similarity of the entry of a named reference list that is most
+     * similar to a query string.
+     *
+     * @param query The string to look up.
+     * @param listName The name of the reference list.
+     * @param ngramSize The n-gram size.
+     * @param threshold The minimum similarity (0.0-1.0) of a match.
+     * @return The score of the best match, or 0 if no entry reaches the threshold.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Fuzzy lookup" })
+    @Description(lang = { "en" }, values = {
+        "Returns the N-gram similarity (0.0-1.0) of the named reference list entry that best matches the query string.\n" +
+        "Returns 0 if no entry reaches the threshold."
+    })
+    public static BigDecimal bestNgramMatchScoreInList(
+            @ArgumentName(lang = { "en" }, values = { "query" }) String query,
+            @ArgumentName(lang = { "en" }, values = { "list name" }) String listName,
+            @ArgumentName(lang = { "en" }, values = { "n-gram size" }) BigInteger ngramSize,
+            @ArgumentName(lang = { "en" }, values = { "threshold" }) BigDecimal threshold) {
+        return bestScore(search(listIndex(listName, ngramSize), query, threshold, 1));
+    }
+
+    /**
+     * Find the entries of a named reference list that are similar to a query
+     * string.
+     *
+     * @param query The string to look up.
+     * @param listName The name of the reference list.
+     * @param ngramSize The n-gram size.
+     * @param threshold The minimum similarity (0.0-1.0) of a match.
+     * @param maxResults The maximum number of matches to return.
+     * @return The matching entries, best first, separated by "|".
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Fuzzy lookup" })
+    @Description(lang = { "en" }, values = {
+        "Returns up to maxResults entries of the named reference list whose N-gram similarity to the query string reaches the threshold.\n" +
+        "Matches are ordered best first and separated by '|'. Returns an empty string if nothing matches."
+    })
+    public static String ngramMatchesInList(
+            @ArgumentName(lang = { "en" }, values = { "query" }) String query,
+            @ArgumentName(lang = { "en" }, values = { "list name" }) String listName,
+            @ArgumentName(lang = { "en" }, values = { "n-gram size" }) BigInteger ngramSize,
+            @ArgumentName(lang = { "en" }, values = { "threshold" }) BigDecimal threshold,
+            @ArgumentName(lang = { "en" }, values = { "maxResults" }) BigInteger maxResults) {
+        if (maxResults == null || maxResults.signum() <= 0)
+            return null;
+        NgramIndex index = listIndex(listName, ngramSize);
+        return join(index, search(index, query, threshold, maxResults.min(BigInteger.valueOf(Integer.MAX_VALUE)).intValue()));
+    }
+
+    /**
+     * Find the entry of a collection nearest to a query string by edit distance.
+     *
+     * @param collection The collection of strings to search.
+     * @param query The string to look up.
+     * @param maxDistance The largest edit distance of a match.
+     * @return The nearest entry, or null if no entry is within maxDistance.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Fuzzy lookup" })
+    @Description(lang = { "en" }, values = {
+        "Returns the entry of the collection with the smallest Levenshtein distance to the query string (case-insensitive).\n" +
+        "The collection is indexed once in a BK-tree, so only a fraction of the entries are compared.\n" +
+        "Returns null if no entry is within maxDistance edits."
+    })
+    public static String nearestByEditDistance(String[] collection,
+            @ArgumentName(lang = { "en" }, values = { "query" }) String query,
+            @ArgumentName(lang = { "en" }, values = { "maxDistance" }) BigInteger maxDistance) {
+        BkTree tree = collectionTree(collection);
+        List<BkTree.Match> matches = search(tree, query, maxDistance, 1);
+        return (matches == null || matches.isEmpty()) ? null : tree.entry(matches.get(0).entry);
+    }
+
+    /**
+     * Find the entries of a collection nearest to a query string by edit distance.
+     *
+     * @param collection The collection of strings to search.
+     * @param query The string to look up.
+     * @param maxDistance The largest edit distance of a match.
+     * @param maxResults The maximum number of matches to return.
+     * @return The matching entries, nearest first, separated by "|".
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Fuzzy lookup" })
+    @Description(lang = { "en" }, values = {
+        "Returns up to maxResults collection entries within maxDistance Levenshtein edits of the query string (case-insensitive).\n" +
+        "Matches are ordered nearest first and separated by '|'. Returns an empty string if nothing matches."
+    })
+    public static String nearestByEditDistanceMatches(String[] collection,
+            @ArgumentName(lang = { "en" }, values = { "query" }) String query,
+            @ArgumentName(lang = { "en" }, values = { "maxDistance" }) BigInteger maxDistance,
+            @ArgumentName(lang = { "en" }, values = { "maxResults" }) BigInteger maxResults) {
+        if (maxResults == null || maxResults.signum() <= 0)
+            return null;
+        BkTree tree = collectionTree(collection);
+        return join(tree, search(tree, query, maxDistance, maxResults.min(BigInteger.valueOf(Integer.MAX_VALUE)).intValue()));
+    }
+
+    /**
+     * Find the entry of a named reference list nearest to a query string by
+     * edit distance.
+     *
+     * @param query The string to look up.
+     * @param listName The name of the reference list.
+     * @param maxDistance The largest edit distance of a match.
+     * @return The nearest entry, or null if no entry is within maxDistance.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Fuzzy lookup" })
+    @Description(lang = { "en" }, values = {
+        "Returns the entry of the named reference list with the smallest Levenshtein distance to the query string (case-insensitive).\n" +
+        "The list is loaded from <referenceDir>/<listName>.txt and its BK-tree is rebuilt only when the file changes.\n" +
+        "Returns null if no entry is within maxDistance edits or the list cannot be read."
+    })
+    public static String nearestByEditDistanceInList(
+            @ArgumentName(lang = { "en" }, values = { "query" }) String query,
+            @ArgumentName(lang = { "en" }, values = { "list name" }) String listName,
+            @ArgumentName(lang = { "en" }, values = { "maxDistance" }) BigInteger maxDistance) {
+        BkTree tree = listTree(listName);
+        List<BkTree.Match> matches = search(tree, query, maxDistance, 1);
+        return (matches == null || matches.isEmpty()) ? null : tree.entry(matches.get(0).entry);
+    }
+
+    /**
+     * Find the entries of a named reference list nearest to a query string by
+     * edit distance.
+     *
+     * @param query The string to look up.
+     * @param listName The name of the reference list.
+     * @param maxDistance The largest edit distance of a match.
+     * @param maxResults The maximum number of matches to return.
+     * @return The matching entries, nearest first, separated by "|".
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Fuzzy lookup" })
+    @Description(lang = { "en" }, values = {
+        "Returns up to maxResults entries of the named reference list within maxDistance Levenshtein edits of the query string.\n" +
+        "Matches are ordered nearest first and separated by '|'. Returns an empty string if nothing matches."
+    })
+    public static String nearestByEditDistanceMatchesInList(
+            @ArgumentName(lang = { "en" }, values = { "query" }) String query,
+            @ArgumentName(lang = { "en" }, values = { "list name" }) String listName,
+            @ArgumentName(lang = { "en" }, values = { "maxDistance" }) BigInteger maxDistance,
+            @ArgumentName(lang = { "en" }, values = { "maxResults" }) BigInteger maxResults) {
+        if (maxResults == null || maxResults.signum() <= 0)
+            return null;
+        BkTree tree = listTree(listName);
+        return join(tree, search(tree, query, maxDistance, maxResults.min(BigInteger.valueOf(Integer.MAX_VALUE)).intValue()));
+    }
+
+    private static NgramIndex collectionIndex(String[] collection, BigInteger ngramSize) {
+        if (collection == null || ngramSize == null || ngramSize.signum() <= 0 || ngramSize.bitLength() > 31)
+            return null;
+        int n = ngramSize.intValue();
+        CollectionKey key = CollectionKey.lookup(collection, n);
+        NgramIndex index = INDEXES.get(key);
+        if (index == null) {
+            CollectionKey stored = key.snapshot();
+            index = new NgramIndex(stored.values(), n);
+            INDEXES.put(stored, index);
+        }
+        return index;
+    }
+
+    private static NgramIndex listIndex(String listName, BigInteger ngramSize) {
+        if (ngramSize == null || ngramSize.signum() <= 0 || ngramSize.bitLength() > 31)
+            return null;
+        ReferenceLists.ReferenceList list = ReferenceLists.get(listName);
+        if (list == null)
+            return null;
+        int n = ngramSize.intValue();
+        return list.derive("ngram:" + n, entries -> new NgramIndex(entries, n));
+    }
+
+    private static BkTree collectionTree(String[] collection) {
+        if (collection == null)
+            return null;
+        CollectionKey key = CollectionKey.lookup(collection, BK_TREE);
+        BkTree tree = TREES.get(key);
+        if (tree == null) {
+            CollectionKey stored = key.snapshot();
+            tree = new BkTree(stored.values());
+            TREES.put(stored, tree);
+        }
+        return tree;
+    }
+
+    private static BkTree listTree(String listName) {
+        ReferenceLists.ReferenceList list = ReferenceLists.get(listName);
+        return list == null ? null : list.derive(BK_TREE, BkTree::new);
+    }
+
+    private static List<NgramIndex.Match> search(NgramIndex index, String query, BigDecimal threshold, int limit) {
+        if (index == null || query == null || threshold == null)
+            return null;
+        return index.search(query, threshold.doubleValue(), limit);
+    }
+
+    private static List<BkTree.Match> search(BkTree tree, String query, BigInteger maxDistance, int limit) {
+        if (tree == null || query == null || maxDistance == null || maxDistance.signum() < 0)
+            return null;
+        return tree.search(query, maxDistance.min(BigInteger.valueOf(Integer.MAX_VALUE / 4)).intValue(), limit);
+    }
+
+    private static BigDecimal bestScore(List<NgramIndex.Match> matches) {
+        if (matches == null)
+            return null;
+        return matches.isEmpty() ? BigDecimal.ZERO : BigDecimal.valueOf(matches.get(0).score);
+    }
+
+    private static String join(BkTree tree, List<BkTree.Match> matches) {
+        if (matches == null)
+            return null;
+        StringBuilder sb = new StringBuilder();
+        for (BkTree.Match match : matches) {
+            if (sb.length() > 0)
+                sb.append(MATCH_DELIMITER);
+            sb.append(tree.entry(match.entry));
+        }
+        return sb.toString();
+    }
+
+    private static String join(NgramIndex index, List<NgramIndex.Match> matches) {
+        if (matches == null)
+            return null;
+        StringBuilder sb = new StringBuilder();
+        for (NgramIndex.Match match : matches) {
+            if (sb.length() > 0)
+                sb.append(MATCH_DELIMITER);
+            sb.append(index.entry(match.entry));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The "value=count|value=count" text written by valueHistogram,
+ * occurrenceCounts and approxTopValues and read by histogramCount.
+ *
+ * A backslash, '|' or '=' in a value is written with a backslash before it,
+ * so {@code a|b} occurring once is {@code a\|b=1}. An entry ends at the
+ * first '|' without a backslash before it, and its value at the first such
+ * '='.
+ */
+final class HistogramFormat {
+
+    static final char DELIMITER = '|';
+    static final char SEPARATOR = '=';
+    static final char ESCAPE = '\\';
+
+    private HistogramFormat() {
+    }
+
+    /** Appends one entry, after a delimiter unless it is the first. */
+    static void append(StringBuilder sb, String value, long count) {
+        if (sb.length() > 0)
+            sb.append(DELIMITER);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ESCAPE || c == DELIMITER || c == SEPARATOR)
+                sb.append(ESCAPE);
+            sb.append(c);
+        }
+        sb.append(SEPARATOR).append(count);
+    }
+
+    /**
+     * Splits a list of values separated by '|', with the same escapes, into
+     * the values; a backslash at the end is kept as it is.
+     */
+    static String[] split(String values) {
+        List<String> list = new ArrayList<>();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < values.length(); i++) {
+            char c = values.charAt(i);
+            if (c == ESCAPE && i + 1 < values.length()) {
+                sb.append(values.charAt(++i));
+            } else if (c == DELIMITER) {
+                list.add(sb.toString());
+                sb.setLength(0);
+            } else {
+                sb.append(c);
+            }
+        }
+        list.add(sb.toString());
+        return list.toArray(new String[list.size()]);
+    }
+
+    /**
+     * Returns the count of the key in a non-empty histogram, 0 if it has no
+     * entry for the key, or null if an entry up to the one for the key is
+     * malformed. The entries are compared with the key as they are read, so
+     * nothing is allocated until the count is parsed.
+     */
+    static BigInteger count(String histogram, String key) {
+        int n = histogram.length();
+        int i = 0;
+        while (i <= n) {
+            // The value, compared with the key one unescaped char at a time
+            int k = 0;
+            boolean match = true;
+            while (true) {
+                if (i >= n)
+                    return null;
+                char c = histogram.charAt(i);
+                if (c == SEPARATOR)
+                    break;
+                if (c == DELIMITER)
+                    return null;
+                if (c == ESCAPE) {
+                    if (++i >= n)
+                        return null;
+                    c = histogram.charAt(i);
+                }
+                match &= k < key.length() && key.charAt(k) == c;
+                k++;
+                i++;
+            }
+            int countStart = ++i;
+            while (i < n && histogram.charAt(i) != DELIMITER)
+                i++;
+            if (match && k == key.length()) {
+                try {
+                    return new BigInteger(histogram.substring(countStart, i));
+                } catch (NumberFormatException ex) {
+                    return null;
+                }
+            }
+            i++;
+        }
+        return BigInteger.ZERO;
+    }
+}
@@ -1,27 +1,101 @@
-/* 
- * Copyright (c) 2016 by Progress Software Corporation and/or one of its 
+/*
+ * Copyright (c) 2016 by Progress Software Corporation and/or one of its
  * subsidiaries or affiliates. All rights reserved.
  */
-package myExtendedOperators;
-import java.util.Arrays;
+package com.corticon.samples.extensions;
 
+import java.math.BigDecimal;
+
+import com.corticon.services.extensions.ArgumentName;
 import com.corticon.services.extensions.Description;
-import com.corticon.services.extensions.ICcCollectionExtension;
-import com.corticon.services.extensions.ICcStringExtension;
+import com.corticon.services.extensions.ICcStandAloneExtension;
 import com.corticon.services.extensions.OperatorFolder;
 import com.corticon.services.extensions.TopLevelFolder;
 
 /**
  * A similarity algorithm indicating the percentage of matched characters between two character sequences.
- * 
-The Jaro measure is the weighted sum of percentage of matched characters
-from each file and transposed characters. Winkler increased this measure
+ *
+ * The Jaro measure is the weighted sum of percentage of matched characters
+ * from each file and transposed characters. Winkler increased this measure
  * for matching initial characters.
+ *
+ * The matching buffers are kept per thread, so a comparison does not
+ * allocate; buffers for strings of more than 65536 chars are allocated for
+ * the call and not kept.
  */
-@TopLevelFolder("myExtendedOperators")
-public class JaroWinklerDistance implements ICcCollectionExtension, ICcStringExtension {
+@TopLevelFolder("Sample Extended Operators")
+public class JaroWinklerDistance implements ICcStandAloneExtension {
+
+    private static final double DEFAULT_SCALING_FACTOR = 0.1;
+    private static final double PERCENTAGE_ROUND_VALUE = 100.0;
+
+    private static final class Scratch {
+        int[] matchIndexes = new int[0];
+        boolean[] matchFlags = new boolean[0];
+        // matches, transpositions, prefix, max length
+        final int[] mtp = new int[4];
+
+        void ensure(int minLength, int maxLength) {
+            if (matchIndexes.length < minLength)
+                matchIndexes = new int[minLength];
+            if (matchFlags.length < maxLength)
+                matchFlags = new boolean[maxLength];
+        }
+    }
 
-	/**
+    // Per-thread match arrays above this many chars are not kept
+    private static final int MAX_RETAINED_LENGTH = 1 << 16;
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    /**
+     * Compare two strings with the Jaro-Winkler similarity.
+     *
+     * @param str1 The first string.
+     * @param str2 The second string.
+     * @return The similarity rounded to two decimals, or null if either string is null.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Similarity text compare functions" })
+    @Description(lang = { "en" }, values = {
+        "Calculates the Jaro-Winkler similarity (0.00-1.00) between two strings, rounded to two decimals.\n" +
+        "Counts matching characters within half the longer length of each other and their transpositions,\n" +
+        "and boosts strings sharing a common prefix. Case-sensitive; returns 0 if either string is empty."
+    })
+    public static BigDecimal compareWithJaroWinkler(
+            @ArgumentName(lang = { "en" }, values = { "string 1" }) String str1,
+            @ArgumentName(lang = { "en" }, values = { "string 2" }) String str2) {
+        if (str1 == null || str2 == null)
+            return null;
+        return BigDecimal.valueOf(similarity(str1, str2, 0.0));
+    }
+
+    /**
+     * Compare two strings with the Jaro-Winkler similarity, giving up as soon
+     * as the minimum score can no longer be reached.
+     *
+     * @param str1 The first string.
+     * @param str2 The second string.
+     * @param minScore The minimum similarity of interest (0.0-1.0).
+     * @return The similarity rounded to two decimals if it reaches minScore, 0 otherwise.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Similarity text compare functions" })
+    @Description(lang = { "en" }, values = {
+        "Calculates the Jaro-Winkler similarity (0.00-1.00) between two strings, rounded to two decimals,\n" +
+        "if it is at least minScore; returns 0 otherwise.\n" +
+        "Stops matching as soon as the remaining characters can no longer reach minScore."
+    })
+    public static BigDecimal compareWithJaroWinkler(
+            @ArgumentName(lang = { "en" }, values = { "string 1" }) String str1,
+            @ArgumentName(lang = { "en" }, values = { "string 2" }) String str2,
+            @ArgumentName(lang = { "en" }, values = { "minScore" }) BigDecimal minScore) {
+        if (str1 == null || str2 == null || minScore == null)
+            return null;
+        double min = minScore.doubleValue();
+        double score = similarity(str1, str2, min);
+        return score >= min ? BigDecimal.valueOf(score) : BigDecimal.ZERO;
+    }
+
+    /**
      * <pre>
      * distance.apply(null, null)          = IllegalArgumentException
      * distance.apply("","")               = 0.0
@@ -39,42 +113,75 @@ public class JaroWinklerDistance implements ICcCollectionExtension, ICcStringExt
      * distance.apply("PENNSYLVANIA", "PENNCISYLVNIA")    = 0.88
      * </pre>
      *
+     * Kept for Java callers; rules use {@link #compareWithJaroWinkler}.
+     *
      * @param left the first String, must not be null
      * @param right the second String, must not be null
      * @return result distance
      * @throws IllegalArgumentException if either String input {@code null}
-	 */
-	@OperatorFolder(lang = { "en" }, values = { "Collection" })
-	@Description(lang = { "en" }, values = { "A similarity algorithm indicating the percentage of matched characters between two character sequences." })
+     */
     public Double apply(final CharSequence left, final CharSequence right) {
-        final double defaultScalingFactor = 0.1;
-        final double percentageRoundValue = 100.0;
-
         if (left == null || right == null) {
             throw new IllegalArgumentException("Strings must not be null");
         }
+        return similarity(left, right, 0.0);
+    }
 
-        int[] mtp = matches(left, right);
+    /**
+     * This method returns the Jaro-Winkler string matches, transpositions, prefix, max array.
+     *
+     * @param first the first string to be matched
+     * @param second the second string to be matched
+     * @return mtp array containing: matches, transpositions, prefix, and max length
+     */
+    protected static int[] matches(final CharSequence first, final CharSequence second) {
+        return matches(first, second, 0).clone();
+    }
+
+    /*
+     * Rounded Jaro-Winkler similarity, or -1 once the score is known to stay
+     * below minScore.
+     */
+    private static double similarity(CharSequence left, CharSequence right, double minScore) {
+        int[] mtp = matches(left, right, requiredMatches(left, right, minScore));
         double m = mtp[0];
-        if (m == 0) {
-            return 0D;
+        if (m <= 0) {
+            return m < 0 ? -1.0 : 0D;
         }
         double j = ((m / left.length() + m / right.length() + (m - mtp[1]) / m)) / 3;
-        double jw = j < 0.7D ? j : j + Math.min(defaultScalingFactor, 1D / mtp[3]) * mtp[2] * (1D - j);
-        return Math.round(jw * percentageRoundValue) / percentageRoundValue;
+        double jw = j < 0.7D ? j : j + Math.min(DEFAULT_SCALING_FACTOR, 1D / mtp[3]) * mtp[2] * (1D - j);
+        return Math.round(jw * PERCENTAGE_ROUND_VALUE) / PERCENTAGE_ROUND_VALUE;
     }
 
+    /*
+     * The fewest matching characters that can still reach minScore. With m
+     * matches the Jaro score is at most (m/|s1| + m/|s2| + 1) / 3 (no
+     * transpositions), and the Winkler boost at most c = min(0.1, 1/max) *
+     * prefix of that.
+     */
+    private static int requiredMatches(CharSequence first, CharSequence second, double minScore) {
+        if (minScore <= 0.0)
+            return 0;
+        int len1 = first.length();
+        int len2 = second.length();
+        int minLength = Math.min(len1, len2);
+        int maxLength = Math.max(len1, len2);
+        int prefix = CharKernels.get().commonPrefix(first.toString(), 0, second.toString(), 0, minLength);
+        double c = Math.min(DEFAULT_SCALING_FACTOR, 1D / maxLength) * prefix;
+        for (int m = 1; m <= minLength; m++) {
+            double jUpper = ((double) m / len1 + (double) m / len2 + 1.0) / 3;
+            double upper = jUpper + c * (1D - jUpper);
+            if (Math.round((upper + 1e-9) * PERCENTAGE_ROUND_VALUE) / PERCENTAGE_ROUND_VALUE >= minScore)
+                return m;
+        }
+        return minLength + 1;
+    }
 
-	/**
-	 * This method returns the Jaro-Winkler string matches, transpositions, prefix, max array.
-	 * 	 * 
-     * @param first the first string to be matched
-     * @param second the second string to be matched
-     * @return mtp array containing: matches, transpositions, prefix, and max length
-	 */
-	@OperatorFolder(lang = { "en" }, values = { "Collection" })
-	@Description(lang = { "en" }, values = { "Returns the number of times the specified string occurs in the collection of strings." })
-    protected static int[] matches(final CharSequence first, final CharSequence second) {
+    /*
+     * Fills the per-thread mtp array. Stops with matches = -1 as soon as the
+     * remaining characters cannot produce the required number of matches.
+     */
+    private static int[] matches(final CharSequence first, final CharSequence second, int required) {
         CharSequence max, min;
         if (first.length() > second.length()) {
             max = first;
@@ -83,14 +190,32 @@ public class JaroWinklerDistance implements ICcCollectionExtension, ICcStringExt
             max = second;
             min = first;
         }
-        int range = Math.max(max.length() / 2 - 1, 0);
-        int[] matchIndexes = new int[min.length()];
-        Arrays.fill(matchIndexes, -1);
-        boolean[] matchFlags = new boolean[max.length()];
+        int minLength = min.length();
+        int maxLength = max.length();
+        Scratch scratch = SCRATCH.get();
+        int[] mtp = scratch.mtp;
+        if (required > minLength) {
+            mtp[0] = -1;
+            return mtp;
+        }
+        int[] matchIndexes;
+        boolean[] matchFlags;
+        if (maxLength > MAX_RETAINED_LENGTH) {
+            matchIndexes = new int[minLength];
+            matchFlags = new boolean[maxLength];
+        } else {
+            scratch.ensure(minLength, maxLength);
+            matchIndexes = scratch.matchIndexes;
+            matchFlags = scratch.matchFlags;
+        }
+
+        int range = Math.max(maxLength / 2 - 1, 0);
         int matches = 0;
-        for (int mi = 0; mi < min.length(); mi++) {
+        int mi = 0;
+        for (; mi < minLength; mi++) {
+            matchIndexes[mi] = -1;
             char c1 = min.charAt(mi);
-            for (int xi = Math.max(mi - range, 0), xn = Math.min(mi + range + 1, max.length()); xi < xn; xi++) {
+            for (int xi = Math.max(mi - range, 0), xn = Math.min(mi + range + 1, maxLength); xi < xn; xi++) {
                 if (!matchFlags[xi] && c1 == max.charAt(xi)) {
                     matchIndexes[mi] = xi;
                     matchFlags[xi] = true;
@@ -98,35 +223,43 @@ public class JaroWinklerDistance implements ICcCollectionExtension, ICcStringExt
                     break;
                 }
             }
-        }
-        char[] ms1 = new char[matches];
-        char[] ms2 = new char[matches];
-        for (int i = 0, si = 0; i < min.length(); i++) {
-            if (matchIndexes[i] != -1) {
-                ms1[si] = min.charAt(i);
-                si++;
+            if (matches + (minLength - mi - 1) < required) {
+                mi++;
+                break;
             }
         }
-        for (int i = 0, si = 0; i < max.length(); i++) {
-            if (matchFlags[i]) {
-                ms2[si] = max.charAt(i);
-                si++;
-            }
+        if (matches + (minLength - mi) < required) {
+            clearFlags(matchIndexes, matchFlags, mi);
+            mtp[0] = -1;
+            return mtp;
         }
+
+        // Walk the matched characters of both strings in order, clearing the flags
         int transpositions = 0;
-        for (int mi = 0; mi < ms1.length; mi++) {
-            if (ms1[mi] != ms2[mi]) {
-                transpositions++;
+        int xi = 0;
+        for (int i = 0; i < minLength; i++) {
+            if (matchIndexes[i] != -1) {
+                while (!matchFlags[xi])
+                    xi++;
+                matchFlags[xi] = false;
+                if (min.charAt(i) != max.charAt(xi))
+                    transpositions++;
+                xi++;
             }
         }
-        int prefix = 0;
-        for (int mi = 0; mi < min.length(); mi++) {
-            if (first.charAt(mi) == second.charAt(mi)) {
-                prefix++;
-            } else {
-                break;
-            }
+
+        int prefix = CharKernels.get().commonPrefix(first.toString(), 0, second.toString(), 0, minLength);
+        mtp[0] = matches;
+        mtp[1] = transpositions / 2;
+        mtp[2] = prefix;
+        mtp[3] = maxLength;
+        return mtp;
+    }
+
+    private static void clearFlags(int[] matchIndexes, boolean[] matchFlags, int count) {
+        for (int i = 0; i < count; i++) {
+            if (matchIndexes[i] != -1)
+                matchFlags[matchIndexes[i]] = false;
         }
-        return new int[] { matches, transpositions / 2, prefix, max.length() };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Aho-Corasick automaton over a list of keywords: finds every occurrence of
+ * every keyword in one pass over a text, however many keywords there are.
+ *
+ * The keywords form a trie whose transitions are kept in one open-addressing
+ * table keyed by state and character. Each state has a failure link to the
+ * longest proper suffix of its path that is also a trie path, and an output
+ * link to the nearest state on its failure chain that ends a keyword, so a
+ * scan costs one amortized transition per character plus one step per match.
+ *
+ * Text and keywords are folded the same way, character by character:
+ * <ul>
+ * <li>{@link Folding#EXACT}: unchanged;</li>
+ * <li>{@link Folding#IGNORE_CASE}: lower-cased;</li>
+ * <li>{@link Folding#NORMALIZED}: lower-cased, transliterated and stripped of
+ * diacritics by a {@link TextNormalizer}, so the text "MÜLLER" matches the
+ * keyword "Mueller" and "Café" matches "cafe". A character may fold to several
+ * characters or none; positions always refer to the original text.</li>
+ * </ul>
+ *
+ * An automaton is immutable once built and can be shared between threads.
+ */
+final class KeywordAutomaton {
+
+    enum Folding {
+        EXACT, IGNORE_CASE, NORMALIZED;
+
+        /** Returns the folding named by a rule argument, or null. */
+        static Folding parse(String name) {
+            if (name == null)
+                return null;
+            switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "exact":
+                return EXACT;
+            case "ignorecase":
+                return IGNORE_CASE;
+            case "normalized":
+                return NORMALIZED;
+            default:
+                return null;
+            }
+        }
+    }
+
+    /** Receives the matches of a scan; returns false to stop the scan. */
+    interface MatchHandler {
+        boolean match(int keyword, int start);
+    }
+
+    // Lower-cases and transliterates, but keeps spaces and punctuation
+    private static final class Normalizer {
+        static final TextNormalizer INSTANCE = new TextNormalizer(
+                TextNormalizer.transliterations(ExtensionSettings.getString("transliteration", "german")), false, true, false);
+    }
+
+    private static final int ROOT = 0;
+
+    private final Folding folding;
+    private final String[] keywords;
+    private final int[] lengths;
+    private final int maxLength;
+
+    private final long[] transitionKeys;
+    private final int[] transitionTargets;
+    private final int[] failure;
+    private final int[] output;
+    private final int[] outputLink;
+    private int states;
+
+    /**
+     * Builds the automaton. Null and empty entries are skipped; entries that
+     * fold to the same keyword are reported as the first of them.
+     */
+    KeywordAutomaton(String[] entries, Folding folding) {
+        this.folding = folding;
+        Map<String, Integer> ids = new HashMap<>();
+        String[] kept = new String[entries.length];
+        String[] folded = new String[entries.length];
+        for (String entry : entries) {
+            if (entry == null || entry.isEmpty())
+                continue;
+            String f = fold(entry);
+            if (!f.isEmpty() && !ids.containsKey(f)) {
+                kept[ids.size()] = entry;
+                folded[ids.size()] = f;
+                ids.put(f, ids.size());
+            }
+        }
+        this.keywords = Arrays.copyOf(kept, ids.size());
+        this.lengths = new int[keywords.length];
+
+        int capacity = 1;
+        for (int k = 0; k < keywords.length; k++)
+            capacity += folded[k].length();
+        char[] labels = new char[capacity];
+        failure = new int[capacity];
+        output = new int[capacity];
+        outputLink = new int[capacity];
+        Arrays.fill(output, -1);
+        int slots = Integer.highestOneBit(Math.max(16, capacity * 2 - 1)) << 1;
+        transitionKeys = new long[slots];
+        transitionTargets = new int[slots];
+        states = 1;
+
+        int longest = 0;
+        for (int k = 0; k < keywords.length; k++) {
+            String f = folded[k];
+            int state = ROOT;
+            for (int i = 0; i < f.length(); i++) {
+                int next = next(state, f.charAt(i));
+                if (next < 0) {
+                    next = states++;
+                    labels[next] = f.charAt(i);
+                    put(state, f.charAt(i), next);
+                }
+                state = next;
+            }
+            output[state] = k;
+            lengths[k] = f.length();
+            longest = Math.max(longest, f.length());
+        }
+        maxLength = longest;
+        linkFailures(labels);
+    }
+
+    int size() {
+        return keywords.length;
+    }
+
+    String keyword(int id) {
+        return keywords[id];
+    }
+
+    /** Returns the length of the longest keyword after folding. */
+    int maxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Scans the text and reports each occurrence of each keyword, in the order
+     * in which the occurrences end, with the index in the text where it starts.
+     */
+    void scan(String text, MatchHandler handler) {
+        // Original index of each of the last maxLength folded characters
+        int[] origins = folding == Folding.NORMALIZED ? new int[Integer.highestOneBit(Math.max(1, maxLength)) << 1] : null;
+        int mask = origins == null ? 0 : origins.length - 1;
+        int state = ROOT;
+        int fed = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (folding == Folding.NORMALIZED && c >= 0x80) {
+                String f = Normalizer.INSTANCE.applyNonAscii(c);
+                for (int j = 0; j < f.length(); j++) {
+                    origins[fed & mask] = i;
+                    fed++;
+                    state = step(state, f.charAt(j));
+                    if (!report(state, fed, origins, mask, handler))
+                        return;
+                }
+                continue;
+            }
+            if (folding != Folding.EXACT)
+                c = c < 0x80 ? toLowerAscii(c) : Character.toLowerCase(c);
+            if (origins != null)
+                origins[fed & mask] = i;
+            fed++;
+            state = step(state, c);
+            if (!report(state, fed, origins, mask, handler))
+                return;
+        }
+    }
+
+    private boolean report(int state, int fed, int[] origins, int mask, MatchHandler handler) {
+        for (int s = output[state] >= 0 ? state : outputLink[state]; s > ROOT; s = outputLink[s]) {
+            int keyword = output[s];
+            int start = fed - lengths[keyword];
+            if (!handler.match(keyword, origins == null ? start : origins[start & mask]))
+                return false;
+        }
+        return true;
+    }
+
+    private int step(int state, char c) {
+        while (true) {
+            int next = next(state, c);
+            if (next >= 0)
+                return next;
+            if (state == ROOT)
+                return ROOT;
+            state = failure[state];
+        }
+    }
+
+    private void linkFailures(char[] labels) {
+        // Breadth-first, so every failure target is linked before it is used
+        int[][] children = childrenByState();
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : children[ROOT]) {
+            failure[child] = ROOT;
+            outputLink[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int child : children[state]) {
+                char c = labels[child];
+                int f = failure[state];
+                int target;
+                while ((target = next(f, c)) < 0 && f != ROOT)
+                    f = failure[f];
+                failure[child] = target >= 0 ? target : ROOT;
+                int link = failure[child];
+                outputLink[child] = output[link] >= 0 ? link : outputLink[link];
+                queue.add(child);
+            }
+        }
+    }
+
+    private int[][] childrenByState() {
+        int[] counts = new int[states];
+        for (int slot = 0; slot < transitionKeys.length; slot++) {
+            if (transitionKeys[slot] != 0)
+                counts[(int) (transitionKeys[slot] >>> 16) - 1]++;
+        }
+        int[][] children = new int[states][];
+        for (int s = 0; s < states; s++)
+            children[s] = new int[counts[s]];
+        Arrays.fill(counts, 0);
+        for (int slot = 0; slot < transitionKeys.length; slot++) {
+            long key = transitionKeys[slot];
+            if (key != 0) {
+                int parent = (int) (key >>> 16) - 1;
+                children[parent][counts[parent]++] = transitionTargets[slot];
+            }
+        }
+        return children;
+    }
+
+    private int next(int state, char c) {
+        long key = key(state, c);
+        int mask = transitionKeys.length - 1;
+        for (int slot = slot(key) & mask; transitionKeys[slot] != 0; slot = (slot + 1) & mask) {
+            if (transitionKeys[slot] == key)
+                return transitionTargets[slot];
+        }
+        return -1;
+    }
+
+    private void put(int state, char c, int target) {
+        long key = key(state, c);
+        int mask = transitionKeys.length - 1;
+        int slot = slot(key) & mask;
+        while (transitionKeys[slot] != 0)
+            slot = (slot + 1) & mask;
+        transitionKeys[slot] = key;
+        transitionTargets[slot] = target;
+    }
+
+    // State + 1 so that no key is 0, the empty-slot marker
+    private static long key(int state, char c) {
+        return ((long) (state + 1) << 16) | c;
+    }
+
+    private static int slot(long key) {
+        return (int) NgramFingerprint.mix(key);
+    }
+
+    private String fold(String s) {
+        if (folding == Folding.EXACT)
+            return s;
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80)
+                sb.append(toLowerAscii(c));
+            else if (folding == Folding.NORMALIZED)
+                sb.append(Normalizer.INSTANCE.applyNonAscii(c));
+            else
+                sb.append(Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+    private static char toLowerAscii(char c) {
+        return (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+    }
+}
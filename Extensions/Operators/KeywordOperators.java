@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.util.Arrays;
+
+import com.corticon.services.extensions.ArgumentName;
+import com.corticon.services.extensions.Description;
+import com.corticon.services.extensions.ICcCollectionExtension;
+import com.corticon.services.extensions.ICcStandAloneExtension;
+import com.corticon.services.extensions.OperatorFolder;
+import com.corticon.services.extensions.TopLevelFolder;
+
+/**
+ * This class provides operators that look for many keywords in a text at
+ * once, such as the terms of a compliance watch list in a free-text field.
+ *
+ * The keywords come from a rule collection or from a named reference list
+ * (see {@link ReferenceLists}). They are compiled into an Aho-Corasick
+ * automaton, which finds all of them in a single pass over the text, however
+ * many there are. Automata over rule collections are cached by collection
+ * content ({@code -Dcorticon.samples.keywordCacheSize}, default 32);
+ * automata over reference lists are rebuilt only when the list file changes.
+ *
+ * The matching argument is one of:
+ * <ul>
+ * <li>{@code exact}: characters must be equal;</li>
+ * <li>{@code ignoreCase}: upper and lower case are the same;</li>
+ * <li>{@code normalized}: case is ignored, accents are stripped and umlauts
+ * transliterated, so "MÜLLER" matches "Mueller".</li>
+ * </ul>
+ * Keywords match anywhere in the text, also inside longer words.
+ */
+@TopLevelFolder("Sample Extended Operators")
+public class KeywordOperators implements ICcCollectionExtension, ICcStandAloneExtension {
+
+    static final String MATCH_DELIMITER = "|";
+
+    private static final OperatorCache<CollectionKey, KeywordAutomaton> AUTOMATA =
+            new OperatorCache<>(ExtensionSettings.getInt("keywordCacheSize", 32));
+
+    /**
+     * Determine if a text contains any keyword of a collection.
+     *
+     * @param collection The keywords.
+     * @param text The text to search.
+     * @param matching exact, ignoreCase or normalized.
+     * @return true if at least one keyword occurs in the text.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Keyword matching" })
+    @Description(lang = { "en" }, values = {
+        "Returns true if any of the keywords in the collection occurs in the text.\n" +
+        "matching is 'exact', 'ignoreCase' or 'normalized' (case, accents and umlauts ignored).\n" +
+        "The text is scanned once, however many keywords there are."
+    })
+    public static Boolean containsAnyKeyword(String[] collection,
+            @ArgumentName(lang = { "en" }, values = { "text" }) String text,
+            @ArgumentName(lang = { "en" }, values = { "matching" }) String matching) {
+        return containsAny(collectionAutomaton(collection, matching), text);
+    }
+
+    /**
+     * Find the keywords of a collection that occur in a text.
+     *
+     * @param collection The keywords.
+     * @param text The text to search.
+     * @param matching exact, ignoreCase or normalized.
+     * @return The keywords found, in order of first occurrence, separated by
+     * "|"; an empty string if there are none.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Keyword matching" })
+    @Description(lang = { "en" }, values = {
+        "Returns the keywords of the collection that occur in the text, each once, in the order they are found,\n" +
+        "separated by '|'. Returns an empty string if none occurs.\n" +
+        "matching is 'exact', 'ignoreCase' or 'normalized' (case, accents and umlauts ignored)."
+    })
+    public static String matchedKeywords(String[] collection,
+            @ArgumentName(lang = { "en" }, values = { "text" }) String text,
+            @ArgumentName(lang = { "en" }, values = { "matching" }) String matching) {
+        return matched(collectionAutomaton(collection, matching), text);
+    }
+
+    /**
+     * Find every occurrence of the keywords of a collection in a text.
+     *
+     * @param collection The keywords.
+     * @param text The text to search.
+     * @param matching exact, ignoreCase or normalized.
+     * @return "keyword=position" for each occurrence (one-based position),
+     * by position, separated by "|"; an empty string if there are none.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Keyword matching" })
+    @Description(lang = { "en" }, values = {
+        "Returns every occurrence of the keywords of the collection in the text as 'keyword=position' entries\n" +
+        "(one-based position, as for characterAt) ordered by position and separated by '|'.\n" +
+        "matching is 'exact', 'ignoreCase' or 'normalized' (case, accents and umlauts ignored)."
+    })
+    public static String keywordPositions(String[] collection,
+            @ArgumentName(lang = { "en" }, values = { "text" }) String text,
+            @ArgumentName(lang = { "en" }, values = { "matching" }) String matching) {
+        return positions(collectionAutomaton(collection, matching), text);
+    }
+
+    /**
+     * Determine if a text contains any keyword of a named reference list.
+     *
+     * @param text The text to search.
+     * @param listName The name of the reference list.
+     * @param matching exact, ignoreCase or normalized.
+     * @return true if at least one keyword occurs in the text, or null if the
+     * list cannot be read.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Keyword matching" })
+    @Description(lang = { "en" }, values = {
+        "Returns true if any keyword of the named reference list (<referenceDir>/<listName>.txt) occurs in the text.\n" +
+        "matching is 'exact', 'ignoreCase' or 'normalized' (case, accents and umlauts ignored).\n" +
+        "Returns null if the list cannot be read."
+    })
+    public static Boolean containsAnyKeywordInList(
+            @ArgumentName(lang = { "en" }, values = { "text" }) String text,
+            @ArgumentName(lang = { "en" }, values = { "list name" }) String listName,
+            @ArgumentName(lang = { "en" }, values = { "matching" }) String matching) {
+        return containsAny(listAutomaton(listName, matching), text);
+    }
+
+    /**
+     * Find the keywords of a named reference list that occur in a text.
+     *
+     * @param text The text to search.
+     * @param listName The name of the reference list.
+     * @param matching exact, ignoreCase or normalized.
+     * @return The keywords found, in order of first occurrence, separated by
+     * "|"; an empty string if there are none, or null if the list cannot be
+     * read.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Keyword matching" })
+    @Description(lang = { "en" }, values = {
+        "Returns the keywords of the named reference list that occur in the text, each once, in the order they are found,\n" +
+        "separated by '|'. Returns an empty string if none occurs, or null if the list cannot be read."
+    })
+    public static String matchedKeywordsInList(
+            @ArgumentName(lang = { "en" }, values = { "text" }) String text,
+            @ArgumentName(lang = { "en" }, values = { "list name" }) String listName,
+            @ArgumentName(lang = { "en" }, values = { "matching" }) String matching) {
+        return matched(listAutomaton(listName, matching), text);
+    }
+
+    /**
+     * Find every occurrence of the keywords of a named reference list in a
+     * text.
+     *
+     * @param text The text to search.
+     * @param listName The name of the reference list.
+     * @param matching exact, ignoreCase or normalized.
+     * @return "keyword=position" for each occurrence (one-based position),
+     * by position, separated by "|"; or null if the list cannot be read.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Keyword matching" })
+    @Description(lang = { "en" }, values = {
+        "Returns every occurrence of the keywords of the named reference list in the text as 'keyword=position' entries\n" +
+        "(one-based position) ordered by position and separated by '|'. Returns null if the list cannot be read."
+    })
+    public static String keywordPositionsInList(
+            @ArgumentName(lang = { "en" }, values = { "text" }) String text,
+            @ArgumentName(lang = { "en" }, values = { "list name" }) String listName,
+            @ArgumentName(lang = { "en" }, values = { "matching" }) String matching) {
+        return positions(listAutomaton(listName, matching), text);
+    }
+
+    private static KeywordAutomaton collectionAutomaton(String[] collection, String matching) {
+        KeywordAutomaton.Folding folding = KeywordAutomaton.Folding.parse(matching);
+        if (collection == null || folding == null)
+            return null;
+        CollectionKey key = CollectionKey.lookup(collection, folding);
+        KeywordAutomaton automaton = AUTOMATA.get(key);
+        if (automaton == null) {
+            CollectionKey stored = key.snapshot();
+            automaton = new KeywordAutomaton(stored.values(), folding);
+            AUTOMATA.put(stored, automaton);
+        }
+        return automaton;
+    }
+
+    private static KeywordAutomaton listAutomaton(String listName, String matching) {
+        KeywordAutomaton.Folding folding = KeywordAutomaton.Folding.parse(matching);
+        if (folding == null)
+            return null;
+        ReferenceLists.ReferenceList list = ReferenceLists.get(listName);
+        return list == null ? null : list.derive(folding, entries -> new KeywordAutomaton(entries, folding));
+    }
+
+    private static Boolean containsAny(KeywordAutomaton automaton, String text) {
+        if (automaton == null || text == null)
+            return null;
+        boolean[] found = new boolean[1];
+        automaton.scan(text, (keyword, start) -> {
+            found[0] = true;
+            return false;
+        });
+        return found[0];
+    }
+
+    private static String matched(KeywordAutomaton automaton, String text) {
+        if (automaton == null || text == null)
+            return null;
+        boolean[] seen = new boolean[automaton.size()];
+        StringBuilder sb = new StringBuilder();
+        automaton.scan(text, (keyword, start) -> {
+            if (!seen[keyword]) {
+                seen[keyword] = true;
+                if (sb.length() > 0)
+                    sb.append(MATCH_DELIMITER);
+                sb.append(automaton.keyword(keyword));
+            }
+            return true;
+        });
+        return sb.toString();
+    }
+
+    private static String positions(KeywordAutomaton automaton, String text) {
+        if (automaton == null || text == null)
+            return null;
+        // Start in the high half and keyword in the low half sort by position
+        long[][] matches = { new long[16] };
+        int[] count = new int[1];
+        automaton.scan(text, (keyword, start) -> {
+            if (count[0] == matches[0].length)
+                matches[0] = Arrays.copyOf(matches[0], count[0] * 2);
+            matches[0][count[0]++] = ((long) start << 32) | keyword;
+            return true;
+        });
+        long[] sorted = matches[0];
+        Arrays.sort(sorted, 0, count[0]);
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count[0]; i++) {
+            if (i > 0)
+                sb.append(MATCH_DELIMITER);
+            sb.append(automaton.keyword((int) sorted[i])).append('=').append((sorted[i] >>> 32) + 1);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+/**
+ * Levenshtein distance kernels used by the similarity operators.
+ *
+ * Common prefixes and suffixes are stripped first, using the
+ * {@link CharKernels} (SIMD when available). When the shorter remainder
+ * fits in 64 characters the distance is computed with Myers' bit-parallel
+ * algorithm, one machine word per column. Longer strings use a two-row
+ * dynamic program restricted to a diagonal band of width 2k+1 around the
+ * main diagonal. Both stop as soon as the distance is known to exceed the
+ * bound k. Work arrays are kept per thread, so no call allocates, except
+ * that rows for strings of more than 65536 chars are allocated for the call
+ * and not kept.
+ */
+final class LevenshteinEngine {
+
+    private static final int INF = Integer.MAX_VALUE / 2;
+
+    private static final class Scratch {
+        final long[] asciiPeq = new long[128];
+        final char[] otherChars = new char[64];
+        final long[] otherPeq = new long[64];
+        int[] prev = new int[0];
+        int[] curr = new int[0];
+
+        void ensureRows(int size) {
+            if (prev.length < size) {
+                prev = new int[size];
+                curr = new int[size];
+            }
+        }
+    }
+
+    // Per-thread rows above this many cells are not kept
+    private static final int MAX_RETAINED_ROW = 1 << 16;
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private LevenshteinEngine() {
+    }
+
+    /**
+     * Returns the edit distance between two strings.
+     */
+    static int distance(String s1, String s2) {
+        return boundedDistance(s1, s2, Math.max(s1.length(), s2.length()));
+    }
+
+    /**
+     * Returns the edit distance between two strings if it is at most maxDistance,
+     * or -1 as soon as it is known to be larger.
+     */
+    static int boundedDistance(String s1, String s2, int maxDistance) {
+        if (maxDistance < 0)
+            return -1;
+
+        // Order by length so that s1 is the shorter string
+        if (s1.length() > s2.length()) {
+            String t = s1;
+            s1 = s2;
+            s2 = t;
+        }
+
+        CharKernels kernels = CharKernels.get();
+        int start = kernels.commonPrefix(s1, 0, s2, 0, s1.length());
+        int suffix = kernels.commonSuffix(s1, s1.length(), s2, s2.length(), s1.length() - start);
+        int end1 = s1.length() - suffix;
+        int end2 = s2.length() - suffix;
+
+        int len1 = end1 - start;
+        int len2 = end2 - start;
+        if (len2 - len1 > maxDistance)
+            return -1;
+        if (len1 == 0)
+            return len2;
+
+        int d = len1 <= 64
+                ? myers(s1, s2, start, len1, len2, maxDistance)
+                : banded(s1, s2, start, len1, len2, maxDistance);
+        return d <= maxDistance ? d : -1;
+    }
+
+    /*
+     * Myers / Hyyro bit-vector edit distance. The shorter string is the
+     * pattern; bit i of the vertical delta vectors describes row i.
+     */
+    private static int myers(String pattern, String text, int offset, int m, int n, int maxDistance) {
+        Scratch scratch = SCRATCH.get();
+        long[] asciiPeq = scratch.asciiPeq;
+        char[] otherChars = scratch.otherChars;
+        long[] otherPeq = scratch.otherPeq;
+        int otherCount = 0;
+
+        for (int i = 0; i < m; i++) {
+            char c = pattern.charAt(offset + i);
+            if (c < 128) {
+                asciiPeq[c] |= 1L << i;
+            } else {
+                int k = 0;
+                while (k < otherCount && otherChars[k] != c)
+                    k++;
+                if (k == otherCount) {
+                    otherChars[otherCount] = c;
+                    otherPeq[otherCount++] = 0L;
+                }
+                otherPeq[k] |= 1L << i;
+            }
+        }
+
+        long pv = -1L;
+        long mv = 0L;
+        long last = 1L << (m - 1);
+        int score = m;
+        int result = score;
+
+        for (int j = 0; j < n; j++) {
+            char c = text.charAt(offset + j);
+            long eq = 0L;
+            if (c < 128) {
+                eq = asciiPeq[c];
+            } else {
+                for (int k = 0; k < otherCount; k++) {
+                    if (otherChars[k] == c) {
+                        eq = otherPeq[k];
+                        break;
+                    }
+                }
+            }
+
+            long xv = eq | mv;
+            long xh = (((eq & pv) + pv) ^ pv) | eq;
+            long ph = mv | ~(xh | pv);
+            long mh = pv & xh;
+            if ((ph & last) != 0)
+                score++;
+            else if ((mh & last) != 0)
+                score--;
+            ph = (ph << 1) | 1L;
+            mh = mh << 1;
+            pv = mh | ~(xv | ph);
+            mv = ph & xv;
+
+            // The score can drop by at most one per remaining text character
+            if (score - (n - j - 1) > maxDistance) {
+                result = INF;
+                break;
+            }
+            result = score;
+        }
+
+        for (int i = 0; i < m; i++) {
+            char c = pattern.charAt(offset + i);
+            if (c < 128)
+                asciiPeq[c] = 0L;
+        }
+        return result;
+    }
+
+    /*
+     * Two-row dynamic program limited to the cells within maxDistance of the
+     * main diagonal. s1 (rows) is the shorter string.
+     */
+    private static int banded(String s1, String s2, int offset, int n, int m, int maxDistance) {
+        int[] prev;
+        int[] curr;
+        if (m + 2 > MAX_RETAINED_ROW) {
+            prev = new int[m + 2];
+            curr = new int[m + 2];
+        } else {
+            Scratch scratch = SCRATCH.get();
+            scratch.ensureRows(m + 2);
+            prev = scratch.prev;
+            curr = scratch.curr;
+        }
+        int band = Math.min(maxDistance, m);
+
+        for (int j = 0; j <= band; j++)
+            prev[j] = j;
+        if (band < m)
+            prev[band + 1] = INF;
+
+        for (int i = 1; i <= n; i++) {
+            int lo = Math.max(1, i - band);
+            int hi = Math.min(m, i + band);
+            curr[lo - 1] = (lo == 1 && i <= band) ? i : INF;
+            int rowMin = curr[lo - 1];
+            char c1 = s1.charAt(offset + i - 1);
+
+            for (int j = lo; j <= hi; j++) {
+                int v = prev[j - 1] + (c1 == s2.charAt(offset + j - 1) ? 0 : 1);
+                int up = prev[j] + 1;
+                if (up < v)
+                    v = up;
+                int left = curr[j - 1] + 1;
+                if (left < v)
+                    v = left;
+                curr[j] = v;
+                if (v < rowMin)
+                    rowMin = v;
+            }
+            if (hi < m)
+                curr[hi + 1] = INF;
+            if (rowMin > maxDistance)
+                return INF;
+
+            int[] t = prev;
+            prev = curr;
+            curr = t;
+        }
+        return prev[m];
+    }
+}
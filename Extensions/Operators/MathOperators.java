@@ -1,6 +1,9 @@
 package com.corticon.samples.extensions;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
 
 import com.corticon.services.extensions.ArgumentName;
 import com.corticon.services.extensions.Description;
@@ -8,24 +11,38 @@ import com.corticon.services.extensions.ICcDecimalExtension;
 import com.corticon.services.extensions.OperatorFolder;
 import com.corticon.services.extensions.TopLevelFolder;
 
+/**
+ * Math functions on decimals.
+ *
+ * The functions of java.lang.Math are computed in double and returned
+ * rounded to {@code -Dcorticon.samples.mathPrecision} significant digits
+ * (default 16), not as the 50-odd digits of the exact binary value. The
+ * decimal functions compute to any number of digits up to 1000 (see
+ * {@link DecimalMath}).
+ */
 @TopLevelFolder("Sample Extended Operators")
 public class MathOperators implements ICcDecimalExtension {
 
+    private static final BigDecimal TWO_PI = DecimalMath.pi(new MathContext(DecimalMath.CONTEXT.getPrecision() + DecimalMath.GUARD_DIGITS))
+            .multiply(BigDecimal.valueOf(2));
+    private static final BigDecimal NINE_FIFTHS = new BigDecimal("1.8");
+    private static final BigDecimal THIRTY_TWO = BigDecimal.valueOf(32);
+
     @OperatorFolder(lang = { "en" }, values = { "Math" })
     @Description(lang = { "en" }, values = { "Convert a caller-supplied radius to circumference." })
     public static BigDecimal getCircumference(@ArgumentName(lang = { "en" }, values = { "radius" }) BigDecimal abdRadius) {
-        BigDecimal lbdBigDecimal = abdRadius.multiply(new BigDecimal(2.0));
-        lbdBigDecimal = lbdBigDecimal.multiply(new BigDecimal(Math.PI));
-        return lbdBigDecimal;
+        if (abdRadius == null)
+            return null;
+        return abdRadius.multiply(TWO_PI, DecimalMath.CONTEXT);
     }
 
     @OperatorFolder(lang = { "en" }, values = { "Math" })
     @Description(lang = { "en" }, values = { "Convert a caller-supplied Centigrade temperature to Farenheight." })
     public static BigDecimal getFarenheight(@ArgumentName(lang = { "en" }, values = { "centigrade" }) BigDecimal abdCentigrade) {
-        BigDecimal lbdBigDecimal = abdCentigrade.multiply(new BigDecimal(9.0));
-        lbdBigDecimal = (BigDecimal) lbdBigDecimal.divide(new BigDecimal(5.0), BigDecimal.ROUND_HALF_UP);
-        lbdBigDecimal = (BigDecimal) lbdBigDecimal.add(new BigDecimal(32.0));
-        return lbdBigDecimal;
+        if (abdCentigrade == null)
+            return null;
+        // Rounded to the scale of the argument, as c * 9 / 5 always was
+        return abdCentigrade.multiply(NINE_FIFTHS).setScale(abdCentigrade.scale(), RoundingMode.HALF_UP).add(THIRTY_TWO);
     }
 
 	@OperatorFolder(lang = { "en" }, values = { "Math" })
@@ -46,7 +63,7 @@ public class MathOperators implements ICcDecimalExtension {
 		if (n == null)
 			return null;
 		double v = Math.acos(n.doubleValue());
-		return Double.isNaN(v) || Double.isInfinite(v) ? null : new BigDecimal(v);
+		return DecimalMath.fromDouble(v);
 	}
 
 	@OperatorFolder(lang = { "en" }, values = { "Math" })
@@ -57,7 +74,7 @@ public class MathOperators implements ICcDecimalExtension {
 		if (n == null)
 			return null;
 		double v = Math.asin(n.doubleValue());
-		return Double.isNaN(v) || Double.isInfinite(v) ? null : new BigDecimal(v);
+		return DecimalMath.fromDouble(v);
 	}
 
 	@OperatorFolder(lang = { "en" }, values = { "Math" })
@@ -68,7 +85,7 @@ public class MathOperators implements ICcDecimalExtension {
 		if (n == null)
 			return null;
 		double v = Math.atan(n.doubleValue());
-		return Double.isNaN(v) || Double.isInfinite(v) ? null : new BigDecimal(v);
+		return DecimalMath.fromDouble(v);
 	}
 
 	@OperatorFolder(lang = { "en" }, values = { "Math" })
@@ -79,7 +96,7 @@ public class MathOperators implements ICcDecimalExtension {
 		if (n == null)
 			return null;
 		double v = Math.cbrt(n.doubleValue());
-		return Double.isNaN(v) || Double.isInfinite(v) ? null : new BigDecimal(v);
+		return DecimalMath.fromDouble(v);
 	}
 
 	@OperatorFolder(lang = { "en" }, values = { "Math" })
@@ -89,8 +106,7 @@ public class MathOperators implements ICcDecimalExtension {
 
 		if (n == null)
 			return null;
-		double v = Math.ceil(n.doubleValue());
-		return Double.isNaN(v) || Double.isInfinite(v) ? null : new BigDecimal(v);
+		return n.setScale(0, RoundingMode.CEILING);
 	}
 
 	@OperatorFolder(lang = { "en" }, values = { "Math" })
@@ -101,7 +117,7 @@ public class MathOperators implements ICcDecimalExtension {
 		if (n == null)
 			return null;
 		double v = Math.cos(n.doubleValue());
-		return Double.isNaN(v) || Double.isInfinite(v) ? null : new BigDecimal(v);
+		return DecimalMath.fromDouble(v);
 	}
 
 	@OperatorFolder(lang = { "en" }, values = { "Math" })
@@ -112,7 +128,7 @@ public class MathOperators implements ICcDecimalExtension {
 		if (n == null)
 			return null;
 		double v = Math.cosh(n.doubleValue());
-		return Double.isNaN(v) || Double.isInfinite(v) ? null : new BigDecimal(v);
+		return DecimalMath.fromDouble(v);
 	}
 
 	@OperatorFolder(lang = { "en" }, values = { "Math" })
@@ -123,7 +139,7 @@ public class MathOperators implements ICcDecimalExtension {
 		if (n == null)
 			return null;
 		double v = Math.exp(n.doubleValue());
-		return Double.isNaN(v) || Double.isInfinite(v) ? null : new BigDecimal(v);
+		return DecimalMath.fromDouble(v);
 	}
 
 	@OperatorFolder(lang = { "en" }, values = { "Math" })
@@ -134,7 +150,7 @@ public class MathOperators implements ICcDecimalExtension {
 		if (n == null)
 			return null;
 		double v = Math.expm1(n.doubleValue());
-		return Double.isNaN(v) || Double.isInfinite(v) ? null : new BigDecimal(v);
+		return DecimalMath.fromDouble(v);
 	}
 
 	@OperatorFolder(lang = { "en" }, values = { "Math" })
@@ -144,8 +160,7 @@ public class MathOperators implements ICcDecimalExtension {
 
 		if (n == null)
 			return null;
-		double v = Math.floor(n.doubleValue());
-		return Double.isNaN(v) || Double.isInfinite(v) ? null : new BigDecimal(v);
+		return n.setScale(0, RoundingMode.FLOOR);
 	}
 
 	@OperatorFolder(lang = { "en" }, values = { "Math" })
@@ -155,8 +170,7 @@ public class MathOperators implements ICcDecimalExtension {
 
 		if (n == null)
 			return null;
-		double v = Math.getExponent(n.doubleValue());
-		return Double.isNaN(v) || Double.isInfinite(v) ? null : new BigDecimal(v);
+		return BigDecimal.valueOf(Math.getExponent(n.doubleValue()));
 	}
 
 	@OperatorFolder(lang = { "en" }, values = { "Math" })
@@ -167,7 +181,7 @@ public class MathOperators implements ICcDecimalExtension {
 		if (n == null)
 			return null;
 		double v = Math.log(n.doubleValue());
-		return Double.isNaN(v) || Double.isInfinite(v) ? null : new BigDecimal(v);
+		return DecimalMath.fromDouble(v);
 	}
 
 	@OperatorFolder(lang = { "en" }, values = { "Math" })
@@ -178,7 +192,7 @@ public class MathOperators implements ICcDecimalExtension {
 		if (n == null)
 			return null;
 		double v = Math.log10(n.doubleValue());
-		return Double.isNaN(v) || Double.isInfinite(v) ? null : new BigDecimal(v);
+		return DecimalMath.fromDouble(v);
 	}
 
 	@OperatorFolder(lang = { "en" }, values = { "Math" })
@@ -189,6 +203,72 @@ public class MathOperators implements ICcDecimalExtension {
 		if (n == null)
 			return null;
 		double v = Math.log1p(n.doubleValue());
-		return Double.isNaN(v) || Double.isInfinite(v) ? null : new BigDecimal(v);
+		return DecimalMath.fromDouble(v);
+	}
+
+	@OperatorFolder(lang = { "en" }, values = { "Math" })
+	@Description(lang = { "en" }, values = { "Returns Euler's number e raised to the power of a decimal value, computed to the given number of significant digits (1 to 1000)." })
+	public static BigDecimal decimalExp(
+			@ArgumentName(lang = { "en" }, values = { "n" }) BigDecimal n,
+			@ArgumentName(lang = { "en" }, values = { "digits" }) BigInteger digits) {
+
+		MathContext mc = context(digits);
+		if (n == null || mc == null)
+			return null;
+		return DecimalMath.exp(n, mc);
+	}
+
+	@OperatorFolder(lang = { "en" }, values = { "Math" })
+	@Description(lang = { "en" }, values = { "Returns the natural logarithm (base e) of a decimal value, computed to the given number of significant digits (1 to 1000)." })
+	public static BigDecimal decimalLn(
+			@ArgumentName(lang = { "en" }, values = { "n" }) BigDecimal n,
+			@ArgumentName(lang = { "en" }, values = { "digits" }) BigInteger digits) {
+
+		MathContext mc = context(digits);
+		if (n == null || mc == null)
+			return null;
+		return DecimalMath.ln(n, mc);
+	}
+
+	@OperatorFolder(lang = { "en" }, values = { "Math" })
+	@Description(lang = { "en" }, values = { "Returns the square root of a decimal value, computed to the given number of significant digits (1 to 1000)." })
+	public static BigDecimal decimalSqrt(
+			@ArgumentName(lang = { "en" }, values = { "n" }) BigDecimal n,
+			@ArgumentName(lang = { "en" }, values = { "digits" }) BigInteger digits) {
+
+		MathContext mc = context(digits);
+		if (n == null || mc == null)
+			return null;
+		return DecimalMath.sqrt(n, mc);
+	}
+
+	@OperatorFolder(lang = { "en" }, values = { "Math" })
+	@Description(lang = { "en" }, values = { "Returns the trigonometric sine of an angle in radians, computed to the given number of significant digits (1 to 1000)." })
+	public static BigDecimal decimalSin(
+			@ArgumentName(lang = { "en" }, values = { "n" }) BigDecimal n,
+			@ArgumentName(lang = { "en" }, values = { "digits" }) BigInteger digits) {
+
+		MathContext mc = context(digits);
+		if (n == null || mc == null)
+			return null;
+		return DecimalMath.sin(n, mc);
+	}
+
+	@OperatorFolder(lang = { "en" }, values = { "Math" })
+	@Description(lang = { "en" }, values = { "Returns the trigonometric cosine of an angle in radians, computed to the given number of significant digits (1 to 1000)." })
+	public static BigDecimal decimalCos(
+			@ArgumentName(lang = { "en" }, values = { "n" }) BigDecimal n,
+			@ArgumentName(lang = { "en" }, values = { "digits" }) BigInteger digits) {
+
+		MathContext mc = context(digits);
+		if (n == null || mc == null)
+			return null;
+		return DecimalMath.cos(n, mc);
+	}
+
+	private static MathContext context(BigInteger digits) {
+		if (digits == null || digits.signum() <= 0 || digits.compareTo(BigInteger.valueOf(DecimalMath.MAX_DIGITS)) > 0)
+			return null;
+		return new MathContext(digits.intValue(), RoundingMode.HALF_EVEN);
 	}
 }
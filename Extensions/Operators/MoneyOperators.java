@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+import com.corticon.services.extensions.ArgumentName;
+import com.corticon.services.extensions.Description;
+import com.corticon.services.extensions.ICcDecimalExtension;
+import com.corticon.services.extensions.OperatorFolder;
+import com.corticon.services.extensions.TopLevelFolder;
+
+/**
+ * This class provides operators on monetary amounts: truncating, rounding
+ * to an increment such as 0.05, percentages, and splitting an amount into
+ * installments that add up to the cent.
+ *
+ * A BigDecimal whose unscaled value fits in a long, as almost every amount
+ * does, holds it as a long, and rescaling, multiplying and dividing to a
+ * whole number with rounding are then computed in long arithmetic; on
+ * overflow BigDecimal moves to BigInteger by itself. The operators keep to
+ * those operations. They avoid the exact divide(), which always works in
+ * BigInteger: a percentage moves the decimal point instead of dividing by
+ * 100. Rounding is half up.
+ */
+@TopLevelFolder("Sample Extended Operators")
+public class MoneyOperators implements ICcDecimalExtension {
+
+    /**
+     * Cut an amount to a number of decimal places.
+     *
+     * @param amount An amount.
+     * @param digits The number of decimal places to keep.
+     * @return The amount cut toward zero, or null if digits is negative.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Money" })
+    @Description(lang = { "en" }, values = {
+        "Returns the amount cut toward zero to the number of decimal places, such as 12.34 for 12.349 and 2 digits,\n" +
+        "or -12.34 for -12.349."
+    })
+    public static BigDecimal truncateAmount(BigDecimal amount,
+            @ArgumentName(lang = { "en" }, values = { "digits" }) BigInteger digits) {
+        int scale = scale(digits);
+        if (amount == null || scale < 0)
+            return null;
+        return amount.setScale(scale, RoundingMode.DOWN);
+    }
+
+    /**
+     * Round an amount to a multiple of an increment, such as 0.05 for cash.
+     *
+     * @param amount An amount.
+     * @param increment The positive increment.
+     * @return The nearest multiple of the increment, or null if the
+     * increment is not positive.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Money" })
+    @Description(lang = { "en" }, values = {
+        "Returns the multiple of the increment nearest to the amount, such as 12.35 for 12.34 and an increment of 0.05.\n" +
+        "Halfway amounts are rounded away from zero. Returns null if the increment is not positive."
+    })
+    public static BigDecimal roundToIncrement(BigDecimal amount,
+            @ArgumentName(lang = { "en" }, values = { "increment" }) BigDecimal increment) {
+        if (amount == null || increment == null || increment.signum() <= 0)
+            return null;
+        return amount.divide(increment, 0, RoundingMode.HALF_UP).multiply(increment);
+    }
+
+    /**
+     * Compute a percentage of an amount.
+     *
+     * @param amount An amount.
+     * @param percent The percentage, such as 7.5 for 7.5%.
+     * @param digits The number of decimal places of the result.
+     * @return The percentage of the amount, rounded half up, or null if
+     * digits is negative.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Money" })
+    @Description(lang = { "en" }, values = {
+        "Returns percent percent of the amount rounded half up to the number of decimal places,\n" +
+        "such as 9.26 for 7.5 percent of 123.45 with 2 digits."
+    })
+    public static BigDecimal percentageOf(BigDecimal amount,
+            @ArgumentName(lang = { "en" }, values = { "percent" }) BigDecimal percent,
+            @ArgumentName(lang = { "en" }, values = { "digits" }) BigInteger digits) {
+        int scale = scale(digits);
+        if (amount == null || percent == null || scale < 0)
+            return null;
+        return amount.multiply(percent).scaleByPowerOfTen(-2).setScale(scale, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Compute one share of an amount split into equal shares.
+     *
+     * @param amount An amount.
+     * @param parts The number of shares.
+     * @param index The share to return, from 1 to parts.
+     * @param digits The number of decimal places of the shares.
+     * @return The share, or null if parts is not positive, index is not
+     * between 1 and parts, or digits is negative.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Money" })
+    @Description(lang = { "en" }, values = {
+        "Returns share number index (from 1) of the amount split into the number of parts, with the number of decimal places.\n" +
+        "The shares add up exactly to the amount rounded to those places: the units left over are given one each to the\n" +
+        "first shares, so 100.00 in 3 parts is 33.34, 33.33 and 33.33."
+    })
+    public static BigDecimal allocateShare(BigDecimal amount,
+            @ArgumentName(lang = { "en" }, values = { "parts" }) BigInteger parts,
+            @ArgumentName(lang = { "en" }, values = { "index" }) BigInteger index,
+            @ArgumentName(lang = { "en" }, values = { "digits" }) BigInteger digits) {
+        int scale = scale(digits);
+        if (amount == null || parts == null || index == null || scale < 0)
+            return null;
+        if (parts.signum() <= 0 || parts.bitLength() > 63 || index.signum() <= 0 || index.compareTo(parts) > 0)
+            return null;
+        return share(amount.setScale(scale, RoundingMode.HALF_UP), parts.longValue(), index.longValue());
+    }
+
+    /*
+     * Share index of the units of the last place of amount split into parts:
+     * the quotient, plus one for the first shares, as many as the remainder.
+     * The units are taken as a long unless there are more than 18 digits.
+     */
+    private static BigDecimal share(BigDecimal amount, long parts, long index) {
+        BigDecimal units = amount.scaleByPowerOfTen(amount.scale()).abs();
+        if (units.precision() <= 18) {
+            long n = units.longValue();
+            long share = n / parts + (index <= n % parts ? 1 : 0);
+            return BigDecimal.valueOf(amount.signum() < 0 ? -share : share, amount.scale());
+        }
+        BigInteger[] split = units.toBigInteger().divideAndRemainder(BigInteger.valueOf(parts));
+        BigInteger share = BigInteger.valueOf(index).compareTo(split[1]) <= 0 ? split[0].add(BigInteger.ONE) : split[0];
+        return new BigDecimal(amount.signum() < 0 ? share.negate() : share, amount.scale());
+    }
+
+    // Returns the number of decimal places, or -1 if it is not valid
+    private static int scale(BigInteger digits) {
+        if (digits == null || digits.signum() < 0 || digits.bitLength() > 31)
+            return -1;
+        return digits.intValue();
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.RecursiveTask;
+
+import com.corticon.services.extensions.ArgumentName;
+import com.corticon.services.extensions.Description;
+import com.corticon.services.extensions.ICcCollectionExtension;
+import com.corticon.services.extensions.OperatorFolder;
+import com.corticon.services.extensions.TopLevelFolder;
+
+/**
+ * This class provides collection operators that find near-duplicate strings,
+ * such as the same contact name spelled two ways, within one collection.
+ *
+ * Comparing every pair of entries is quadratic, so entries are first grouped
+ * by a blocking key and only pairs that share a block are scored:
+ * <ul>
+ * <li>{@code PHONETIC}: the first four characters of the Double Metaphone
+ * primary code;</li>
+ * <li>{@code NGRAM}: the first three letters or digits (case-insensitive,
+ * accent-normalized);</li>
+ * <li>{@code SORTED}: sorted neighbourhood; entries are sorted by their
+ * normalized form and each is compared with the next entries in that order
+ * ({@code -Dcorticon.samples.nearDuplicateWindow}, default 10);</li>
+ * <li>{@code NONE}: every pair, for small collections.</li>
+ * </ul>
+ * Candidate pairs are scored with one of the similarity operators
+ * ({@code LEVENSHTEIN}, {@code JAROWINKLER}, {@code NGRAM} (trigrams),
+ * {@code TOKENS} (weighted tokens) or {@code DOUBLEMETAPHONE}) on the
+ * fork/join common pool once there are more than
+ * {@code -Dcorticon.samples.parallelThreshold} (default 4096) of them. Pairs
+ * reaching the threshold are joined transitively into clusters.
+ */
+@TopLevelFolder("Sample Extended Operators")
+public class NearDuplicateOperators implements ICcCollectionExtension {
+
+    private static final int PARALLEL_THRESHOLD = ExtensionSettings.getInt("parallelThreshold", 4096);
+    private static final int WINDOW = Math.max(2, ExtensionSettings.getInt("nearDuplicateWindow", 10));
+    private static final int MIN_TASK_ENTRIES = 16;
+    private static final String CLUSTER_DELIMITER = "|";
+    private static final BigInteger TRIGRAMS = BigInteger.valueOf(3);
+
+    interface PairScorer {
+        boolean similar(String a, String b);
+    }
+
+    /**
+     * Count the entries of a collection that are near-duplicates of an earlier entry.
+     *
+     * @param collection The collection of strings.
+     * @param algorithm The similarity algorithm.
+     * @param threshold The minimum similarity (0.0-1.0) of near-duplicates.
+     * @param blocking The blocking strategy.
+     * @return The number of entries minus the number of clusters.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Near duplicates" })
+    @Description(lang = { "en" }, values = {
+        "Returns the number of entries that are near-duplicates of an earlier entry of the collection,\n" +
+        "i.e. how many entries would be removed by keeping one entry per cluster.\n" +
+        "algorithm: LEVENSHTEIN, JAROWINKLER, NGRAM, TOKENS or DOUBLEMETAPHONE.\n" +
+        "blocking: PHONETIC, NGRAM, SORTED or NONE. Null entries are ignored."
+    })
+    public static BigInteger nearDuplicateCount(String[] collection,
+            @ArgumentName(lang = { "en" }, values = { "algorithm" }) String algorithm,
+            @ArgumentName(lang = { "en" }, values = { "threshold" }) BigDecimal threshold,
+            @ArgumentName(lang = { "en" }, values = { "blocking" }) String blocking) {
+        int[] parents = clusters(collection, algorithm, threshold, blocking);
+        if (parents == null)
+            return null;
+        int duplicates = 0;
+        for (int i = 0; i < parents.length; i++) {
+            if (parents[i] >= 0 && parents[i] != i)
+                duplicates++;
+        }
+        return BigInteger.valueOf(duplicates);
+    }
+
+    /**
+     * Assign a cluster id to every entry of a collection.
+     *
+     * @param collection The collection of strings.
+     * @param algorithm The similarity algorithm.
+     * @param threshold The minimum similarity (0.0-1.0) of near-duplicates.
+     * @param blocking The blocking strategy.
+     * @return The cluster id of each entry, in collection order, separated by "|".
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Near duplicates" })
+    @Description(lang = { "en" }, values = {
+        "Returns the cluster id of every entry of the collection, in collection order, separated by '|'.\n" +
+        "The cluster id is the 1-based position of the first entry of the cluster, so entries without\n" +
+        "near-duplicates carry their own position. Null entries have an empty id.\n" +
+        "algorithm: LEVENSHTEIN, JAROWINKLER, NGRAM, TOKENS or DOUBLEMETAPHONE.\n" +
+        "blocking: PHONETIC, NGRAM, SORTED or NONE."
+    })
+    public static String nearDuplicateClusters(String[] collection,
+            @ArgumentName(lang = { "en" }, values = { "algorithm" }) String algorithm,
+            @ArgumentName(lang = { "en" }, values = { "threshold" }) BigDecimal threshold,
+            @ArgumentName(lang = { "en" }, values = { "blocking" }) String blocking) {
+        int[] parents = clusters(collection, algorithm, threshold, blocking);
+        if (parents == null)
+            return null;
+        StringBuilder sb = new StringBuilder(parents.length * 4);
+        for (int i = 0; i < parents.length; i++) {
+            if (i > 0)
+                sb.append(CLUSTER_DELIMITER);
+            if (parents[i] >= 0)
+                sb.append(parents[i] + 1);
+        }
+        return sb.toString();
+    }
+
+    /*
+     * Returns, for each entry, the index of the first entry of its cluster
+     * (-1 for null entries), or null for invalid arguments.
+     */
+    static int[] clusters(String[] collection, String algorithm, BigDecimal threshold, String blocking) {
+        if (collection == null || algorithm == null || threshold == null || blocking == null)
+            return null;
+        PairScorer scorer = scorer(algorithm.trim().toUpperCase(Locale.ROOT), threshold);
+        Candidates candidates = candidates(collection, blocking.trim().toUpperCase(Locale.ROOT));
+        if (scorer == null || candidates == null)
+            return null;
+
+        long[] pairs;
+        if (candidates.comparisons() > PARALLEL_THRESHOLD) {
+            pairs = new ScoreTask(collection, candidates, scorer, 0, candidates.order.length).invoke().toArray();
+        } else {
+            PairList found = new PairList();
+            candidates.score(collection, scorer, 0, candidates.order.length, found);
+            pairs = found.toArray();
+        }
+
+        int[] parents = new int[collection.length];
+        for (int i = 0; i < parents.length; i++)
+            parents[i] = collection[i] == null ? -1 : i;
+        for (long pair : pairs)
+            union(parents, (int) (pair >>> 32), (int) pair);
+        for (int i = 0; i < parents.length; i++) {
+            if (parents[i] >= 0)
+                parents[i] = find(parents, i);
+        }
+        return parents;
+    }
+
+    private static PairScorer scorer(String algorithm, BigDecimal threshold) {
+        switch (algorithm) {
+        case "LEVENSHTEIN":
+            // The threshold-aware forms return 0 below the threshold
+            return (a, b) -> SimilarityAnalysisOperators.compareWithLevenshtein(a, b, threshold).compareTo(threshold) >= 0;
+        case "JAROWINKLER":
+            return (a, b) -> JaroWinklerDistance.compareWithJaroWinkler(a, b, threshold).compareTo(threshold) >= 0;
+        case "NGRAM":
+            return (a, b) -> SimilarityAnalysisOperators.compareWithNgram(a, b, TRIGRAMS).compareTo(threshold) >= 0;
+        case "TOKENS":
+            return (a, b) -> SimilarityAnalysisOperators.compareWithWeightedTokens(a, b).compareTo(threshold) >= 0;
+        case "DOUBLEMETAPHONE":
+            return (a, b) -> SimilarityAnalysisOperators.compareWithDoubleMetaphone(a, b).compareTo(threshold) >= 0;
+        default:
+            return null;
+        }
+    }
+
+    /*
+     * Candidate pairs as an ordering of the entries plus, for every position,
+     * the exclusive end of the positions it is paired with.
+     */
+    private static final class Candidates {
+        final int[] order;
+        final int[] end;
+
+        Candidates(int[] order, int[] end) {
+            this.order = order;
+            this.end = end;
+        }
+
+        long comparisons() {
+            long total = 0;
+            for (int p = 0; p < order.length; p++)
+                total += end[p] - p - 1;
+            return total;
+        }
+
+        void score(String[] collection, PairScorer scorer, int from, int to, PairList found) {
+            for (int p = from; p < to; p++) {
+                int i = order[p];
+                for (int q = p + 1; q < end[p]; q++) {
+                    int j = order[q];
+                    if (scorer.similar(collection[i], collection[j]))
+                        found.add(Math.min(i, j), Math.max(i, j));
+                }
+            }
+        }
+    }
+
+    private static Candidates candidates(String[] collection, String blocking) {
+        List<Integer> present = new ArrayList<>(collection.length);
+        for (int i = 0; i < collection.length; i++) {
+            if (collection[i] != null)
+                present.add(i);
+        }
+        int n = present.size();
+        int[] order = new int[n];
+        int[] end = new int[n];
+
+        switch (blocking) {
+        case "NONE":
+            for (int p = 0; p < n; p++) {
+                order[p] = present.get(p);
+                end[p] = n;
+            }
+            return new Candidates(order, end);
+        case "SORTED": {
+            String[] keys = new String[collection.length];
+            for (int i : present)
+                keys[i] = SimilarityAnalysisOperators.normalize(collection[i]);
+            Integer[] sorted = present.toArray(new Integer[n]);
+            Arrays.sort(sorted, (a, b) -> {
+                int c = keys[a].compareTo(keys[b]);
+                return c != 0 ? c : Integer.compare(a, b);
+            });
+            for (int p = 0; p < n; p++) {
+                order[p] = sorted[p];
+                end[p] = Math.min(n, p + WINDOW);
+            }
+            return new Candidates(order, end);
+        }
+        case "PHONETIC":
+        case "NGRAM": {
+            boolean phonetic = blocking.equals("PHONETIC");
+            Map<String, List<Integer>> blocks = new HashMap<>();
+            for (int i : present) {
+                String key = phonetic
+                        ? DoubleMetaphoneEncoder.encode(SimilarityAnalysisOperators.preprocessToken(collection[i]), 4).primary
+                        : prefix(SimilarityAnalysisOperators.normalize(collection[i]), 3);
+                blocks.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+            }
+            int p = 0;
+            for (List<Integer> block : blocks.values()) {
+                int blockEnd = p + block.size();
+                for (int i : block) {
+                    order[p] = i;
+                    end[p++] = blockEnd;
+                }
+            }
+            return new Candidates(order, end);
+        }
+        default:
+            return null;
+        }
+    }
+
+    private static String prefix(String s, int length) {
+        return s.length() <= length ? s : s.substring(0, length);
+    }
+
+    /*
+     * Scores the candidate pairs of a range of positions, splitting the range
+     * while it holds enough comparisons to be worth a task of its own.
+     */
+    private static final class ScoreTask extends RecursiveTask<PairList> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient String[] collection;
+        private final transient Candidates candidates;
+        private final transient PairScorer scorer;
+        private final int from;
+        private final int to;
+
+        ScoreTask(String[] collection, Candidates candidates, PairScorer scorer, int from, int to) {
+            this.collection = collection;
+            this.candidates = candidates;
+            this.scorer = scorer;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected PairList compute() {
+            long work = 0;
+            for (int p = from; p < to && work <= PARALLEL_THRESHOLD; p++)
+                work += candidates.end[p] - p - 1;
+            if (to - from <= MIN_TASK_ENTRIES || work <= PARALLEL_THRESHOLD / 4) {
+                PairList found = new PairList();
+                candidates.score(collection, scorer, from, to, found);
+                return found;
+            }
+            int mid = (from + to) >>> 1;
+            ScoreTask left = new ScoreTask(collection, candidates, scorer, from, mid);
+            left.fork();
+            PairList right = new ScoreTask(collection, candidates, scorer, mid, to).compute();
+            return left.join().addAll(right);
+        }
+    }
+
+    /** Growable list of (i, j) pairs packed into longs. */
+    private static final class PairList {
+        private long[] pairs = new long[16];
+        private int size;
+
+        void add(int i, int j) {
+            if (size == pairs.length)
+                pairs = Arrays.copyOf(pairs, size * 2);
+            pairs[size++] = ((long) i << 32) | (j & 0xFFFFFFFFL);
+        }
+
+        PairList addAll(PairList other) {
+            for (int k = 0; k < other.size; k++) {
+                if (size == pairs.length)
+                    pairs = Arrays.copyOf(pairs, size * 2);
+                pairs[size++] = other.pairs[k];
+            }
+            return this;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(pairs, size);
+        }
+    }
+
+    // Union-find on entry indexes; the root of a cluster is its smallest index
+    private static int find(int[] parents, int i) {
+        while (parents[i] != i) {
+            parents[i] = parents[parents[i]];
+            i = parents[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parents, int a, int b) {
+        int ra = find(parents, a);
+        int rb = find(parents, b);
+        if (ra < rb)
+            parents[rb] = ra;
+        else if (rb < ra)
+            parents[ra] = rb;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.util.Arrays;
+
+/**
+ * N-gram fingerprints: the distinct n-grams of a string as a sorted array of
+ * 64-bit hashes, plus fixed-size MinHash signatures derived from them.
+ *
+ * N-gram hashes are rolled over the characters, so no n-gram substring is
+ * ever created. A string shorter than n contributes one hash for the whole
+ * string, matching the n-gram sets {@link SimilarityAnalysisOperators} has
+ * always compared. With 64-bit hashes, two different n-grams of realistic
+ * inputs colliding is vanishingly unlikely.
+ */
+final class NgramFingerprint {
+
+    static final long[] EMPTY = new long[0];
+
+    private static final long BASE = 0x100000001B3L;
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+
+    // Each MinHash slot is written as six characters of this alphabet (36 bits)
+    private static final String SIGNATURE_DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz-_";
+    private static final int SLOT_CHARS = 6;
+    private static final long EMPTY_SLOT = 0xFFFFFFFFL;
+
+    private NgramFingerprint() {
+    }
+
+    /**
+     * Returns the sorted, distinct hashes of the n-grams of a string.
+     */
+    static long[] of(String text, int n) {
+        int len = text.length();
+        if (len == 0)
+            return EMPTY;
+        if (len < n)
+            return new long[] { finish(roll(text, 0, len), len) };
+
+        long power = 1L;
+        for (int i = 1; i < n; i++)
+            power *= BASE;
+
+        long[] hashes = new long[len - n + 1];
+        long h = roll(text, 0, n);
+        hashes[0] = finish(h, n);
+        for (int i = n; i < len; i++) {
+            h = (h - text.charAt(i - n) * power) * BASE + text.charAt(i);
+            hashes[i - n + 1] = finish(h, n);
+        }
+
+        Arrays.sort(hashes);
+        int distinct = 1;
+        for (int i = 1; i < hashes.length; i++) {
+            if (hashes[i] != hashes[distinct - 1])
+                hashes[distinct++] = hashes[i];
+        }
+        return distinct == hashes.length ? hashes : Arrays.copyOf(hashes, distinct);
+    }
+
+    /**
+     * Jaccard coefficient of two fingerprints, by a merge walk over the sorted
+     * hashes. Two empty fingerprints are identical.
+     */
+    static double jaccard(long[] a, long[] b) {
+        if (a.length == 0 && b.length == 0)
+            return 1.0;
+        if (a.length == 0 || b.length == 0)
+            return 0.0;
+        int i = 0;
+        int j = 0;
+        int intersection = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                intersection++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) intersection / (a.length + b.length - intersection);
+    }
+
+    /**
+     * Returns a MinHash signature of the fingerprint with the given number of
+     * slots. Slot i holds the low 32 bits of the minimum of the i-th hash
+     * permutation over the n-grams.
+     */
+    static String minHash(long[] fingerprint, int n, int slots) {
+        StringBuilder sb = new StringBuilder(16 + slots * SLOT_CHARS);
+        sb.append(n).append(':').append(slots).append(':');
+        for (int s = 0; s < slots; s++) {
+            long seed = GOLDEN * (s + 1);
+            long min = Long.MAX_VALUE;
+            for (long h : fingerprint) {
+                long v = mix(h ^ seed) >>> 1;
+                if (v < min)
+                    min = v;
+            }
+            long slot = fingerprint.length == 0 ? EMPTY_SLOT : (min & 0xFFFFFFFFL);
+            for (int k = SLOT_CHARS - 1; k >= 0; k--)
+                sb.append(SIGNATURE_DIGITS.charAt((int) ((slot >>> (6 * k)) & 63)));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Estimated Jaccard coefficient of two MinHash signatures: the fraction of
+     * equal slots. Returns a negative value if the signatures were built with
+     * different n-gram or signature sizes, or are not signatures.
+     */
+    static double compareMinHash(String sig1, String sig2) {
+        int body1 = headerLength(sig1);
+        int body2 = headerLength(sig2);
+        if (body1 < 0 || body1 != body2 || !sig1.regionMatches(0, sig2, 0, body1))
+            return -1.0;
+        int slots = (sig1.length() - body1) / SLOT_CHARS;
+        if (slots == 0 || sig1.length() != sig2.length())
+            return -1.0;
+        int equal = 0;
+        for (int s = 0, pos = body1; s < slots; s++, pos += SLOT_CHARS) {
+            if (sig1.regionMatches(pos, sig2, pos, SLOT_CHARS))
+                equal++;
+        }
+        return (double) equal / slots;
+    }
+
+    private static int headerLength(String sig) {
+        int first = sig.indexOf(':');
+        int second = first < 0 ? -1 : sig.indexOf(':', first + 1);
+        if (second < 0)
+            return -1;
+        int slots;
+        try {
+            slots = Integer.parseInt(sig.substring(first + 1, second));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+        return sig.length() - (second + 1) == slots * SLOT_CHARS ? second + 1 : -1;
+    }
+
+    private static long roll(String text, int from, int to) {
+        long h = 0L;
+        for (int i = from; i < to; i++)
+            h = h * BASE + text.charAt(i);
+        return h;
+    }
+
+    private static long finish(long h, int length) {
+        return mix(h + length * GOLDEN);
+    }
+
+    /** MurmurHash3 64-bit finalizer. */
+    static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB93FE1A85EC5L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
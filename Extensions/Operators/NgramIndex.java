@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inverted n-gram index over a fixed list of reference strings.
+ *
+ * Entries are normalized and split into n-grams exactly like
+ * {@link SimilarityAnalysisOperators#compareWithNgram} (as 64-bit n-gram
+ * fingerprints, see {@link NgramFingerprint}), so a lookup returns the same
+ * Jaccard scores as comparing the query with every entry, but only touches
+ * the entries that share at least one n-gram with the query. Postings are
+ * held in primitive arrays keyed by an open-addressed hash table.
+ */
+final class NgramIndex {
+
+    static final class Match {
+        final int entry;
+        final double score;
+
+        Match(int entry, double score) {
+            this.entry = entry;
+            this.score = score;
+        }
+    }
+
+    private static final class Scratch {
+        final int[] counts;
+        final int[] touched;
+
+        Scratch(int size) {
+            counts = new int[size];
+            touched = new int[size];
+        }
+    }
+
+    // Per-thread scratch arrays above this many entries are not kept
+    private static final int MAX_RETAINED_ENTRIES = 1 << 16;
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(() -> new Scratch(0));
+
+    private final String[] entries;
+    private final int n;
+    private final int[] gramCounts;
+    private final int[] emptyEntries;
+
+    // Open-addressed table of distinct n-gram hashes; slot k owns
+    // postings[offsets[k]] .. postings[offsets[k + 1] - 1]
+    private final long[] keys;
+    private final int[] slots;
+    private final int mask;
+    private final int[] offsets;
+    private final int[] postings;
+
+    NgramIndex(String[] entries, int n) {
+        this.entries = entries;
+        this.n = n;
+        this.gramCounts = new int[entries.length];
+
+        long[][] fingerprints = new long[entries.length][];
+        int total = 0;
+        int emptyCount = 0;
+        for (int i = 0; i < entries.length; i++) {
+            if (entries[i] == null)
+                continue;
+            fingerprints[i] = NgramFingerprint.of(SimilarityAnalysisOperators.normalize(entries[i]), n);
+            gramCounts[i] = fingerprints[i].length;
+            total += gramCounts[i];
+            if (gramCounts[i] == 0)
+                emptyCount++;
+        }
+
+        int capacity = Integer.highestOneBit(Math.max(4, total * 2 - 1)) << 1;
+        this.keys = new long[capacity];
+        this.slots = new int[capacity];
+        this.mask = capacity - 1;
+
+        // First pass: assign slots and count postings per distinct n-gram
+        int[] sizes = new int[Math.max(1, total)];
+        int distinct = 0;
+        this.emptyEntries = new int[emptyCount];
+        emptyCount = 0;
+        for (int i = 0; i < entries.length; i++) {
+            if (fingerprints[i] == null)
+                continue;
+            if (gramCounts[i] == 0)
+                emptyEntries[emptyCount++] = i;
+            for (long gram : fingerprints[i]) {
+                int p = probe(gram);
+                if (slots[p] == 0) {
+                    keys[p] = gram;
+                    slots[p] = ++distinct;
+                }
+                sizes[slots[p] - 1]++;
+            }
+        }
+
+        this.offsets = new int[distinct + 1];
+        for (int k = 0; k < distinct; k++)
+            offsets[k + 1] = offsets[k] + sizes[k];
+
+        // Second pass: fill postings in entry order
+        this.postings = new int[total];
+        int[] fill = sizes;
+        System.arraycopy(offsets, 0, fill, 0, distinct);
+        for (int i = 0; i < entries.length; i++) {
+            if (fingerprints[i] == null)
+                continue;
+            for (long gram : fingerprints[i])
+                postings[fill[slots[probe(gram)] - 1]++] = i;
+        }
+    }
+
+    String entry(int index) {
+        return entries[index];
+    }
+
+    /**
+     * Returns up to limit entries whose similarity to the query is at least the
+     * threshold, best first. Ties keep the order of the reference list.
+     */
+    List<Match> search(String query, double threshold, int limit) {
+        long[] queryGrams = NgramFingerprint.of(SimilarityAnalysisOperators.normalize(query), n);
+        List<Match> matches = new ArrayList<>();
+
+        if (queryGrams.length == 0) {
+            // Only entries that also normalize to nothing are identical to the query
+            for (int i = 0; i < emptyEntries.length && matches.size() < limit; i++)
+                matches.add(new Match(emptyEntries[i], 1.0));
+            return matches;
+        }
+
+        Scratch scratch = scratch(entries.length);
+        int[] counts = scratch.counts;
+        int[] touched = scratch.touched;
+        int touchedCount = 0;
+
+        for (long gram : queryGrams) {
+            int slot = slots[probe(gram)];
+            if (slot == 0)
+                continue;
+            for (int p = offsets[slot - 1], end = offsets[slot]; p < end; p++) {
+                int entry = postings[p];
+                if (counts[entry]++ == 0)
+                    touched[touchedCount++] = entry;
+            }
+        }
+
+        int queryCount = queryGrams.length;
+        for (int t = 0; t < touchedCount; t++) {
+            int entry = touched[t];
+            int intersection = counts[entry];
+            counts[entry] = 0;
+            double score = (double) intersection / (queryCount + gramCounts[entry] - intersection);
+            if (score >= threshold)
+                matches.add(new Match(entry, score));
+        }
+
+        matches.sort((a, b) -> a.score != b.score ? Double.compare(b.score, a.score) : Integer.compare(a.entry, b.entry));
+        return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    }
+
+    private static Scratch scratch(int size) {
+        if (size > MAX_RETAINED_ENTRIES)
+            return new Scratch(size);
+        Scratch scratch = SCRATCH.get();
+        if (scratch.counts.length < size) {
+            scratch = new Scratch(size);
+            SCRATCH.set(scratch);
+        }
+        return scratch;
+    }
+
+    // Linear probing; returns the position of the hash or the empty position ending its run
+    private int probe(long gram) {
+        int p = (int) (gram ^ (gram >>> 32)) & mask;
+        while (slots[p] != 0 && keys[p] != gram)
+            p = (p + 1) & mask;
+        return p;
+    }
+}
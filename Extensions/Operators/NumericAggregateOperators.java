@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import com.corticon.services.extensions.Description;
+import com.corticon.services.extensions.ICcCollectionExtension;
+import com.corticon.services.extensions.OperatorFolder;
+import com.corticon.services.extensions.TopLevelFolder;
+
+/**
+ * This class provides sum, mean, variance, minimum and maximum operators
+ * over collections of decimals, in two modes.
+ *
+ * The exact operators add the values without rounding and round the result
+ * once, to {@code -Dcorticon.samples.aggregatePrecision} significant digits
+ * (default 34, half-even). The fast operators work in double arithmetic with
+ * compensated (Neumaier) summation: the result is within a few units in the
+ * last place of the double result, about 15 significant digits, however many
+ * values are added. Both modes run on the fork/join common pool for
+ * collections longer than {@code -Dcorticon.samples.collectionParallelThreshold}
+ * (default 65536) and return the same result either way.
+ *
+ * Null entries are skipped. Operators that need at least one (or, for
+ * variance, two) values return null otherwise.
+ */
+@TopLevelFolder("Sample Extended Operators")
+public class NumericAggregateOperators implements ICcCollectionExtension {
+
+    private static final MathContext CONTEXT = new MathContext(
+            Math.max(1, ExtensionSettings.getInt("aggregatePrecision", 34)), RoundingMode.HALF_EVEN);
+
+    /**
+     * Add up a collection of decimals exactly.
+     *
+     * @param collection The collection of decimals.
+     * @return The sum, rounded to the aggregate precision; 0 for an empty
+     * collection.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Aggregates" })
+    @Description(lang = { "en" }, values = {
+        "Returns the exact sum of the decimals in the collection, rounded to 34 significant digits by default.\n" +
+        "Null entries are skipped."
+    })
+    public static BigDecimal exactSum(BigDecimal[] collection) {
+        if (collection == null)
+            return null;
+        return NumericAggregates.exact(collection, false).sum.round(CONTEXT);
+    }
+
+    /**
+     * Compute the mean of a collection of decimals exactly.
+     *
+     * @param collection The collection of decimals.
+     * @return The mean, rounded to the aggregate precision, or null if there
+     * are no values.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Aggregates" })
+    @Description(lang = { "en" }, values = {
+        "Returns the mean of the decimals in the collection: their exact sum divided by their number,\n" +
+        "rounded to 34 significant digits by default. Null entries are skipped."
+    })
+    public static BigDecimal exactMean(BigDecimal[] collection) {
+        if (collection == null)
+            return null;
+        NumericAggregates.ExactMoments moments = NumericAggregates.exact(collection, false);
+        if (moments.count == 0)
+            return null;
+        return moments.sum.divide(BigDecimal.valueOf(moments.count), CONTEXT);
+    }
+
+    /**
+     * Compute the sample variance of a collection of decimals exactly.
+     *
+     * @param collection The collection of decimals.
+     * @return The sample variance (divided by n - 1), rounded to the
+     * aggregate precision, or null if there are fewer than two values.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Aggregates" })
+    @Description(lang = { "en" }, values = {
+        "Returns the sample variance (divided by n - 1) of the decimals in the collection,\n" +
+        "computed from exact sums and rounded once to 34 significant digits by default.\n" +
+        "Null entries are skipped; returns null for fewer than two values."
+    })
+    public static BigDecimal exactVariance(BigDecimal[] collection) {
+        if (collection == null)
+            return null;
+        NumericAggregates.ExactMoments moments = NumericAggregates.exact(collection, true);
+        if (moments.count < 2)
+            return null;
+        // (n * sum(x^2) - sum(x)^2) / (n * (n - 1)); only the division rounds
+        BigDecimal n = BigDecimal.valueOf(moments.count);
+        BigDecimal numerator = n.multiply(moments.sumOfSquares).subtract(moments.sum.multiply(moments.sum));
+        return numerator.divide(n.multiply(BigDecimal.valueOf(moments.count - 1)), CONTEXT);
+    }
+
+    /**
+     * Add up a collection of decimals in compensated double arithmetic.
+     *
+     * @param collection The collection of decimals.
+     * @return The sum to about 15 significant digits, or null if it is
+     * outside the double range.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Aggregates" })
+    @Description(lang = { "en" }, values = {
+        "Returns the sum of the decimals in the collection to about 15 significant digits,\n" +
+        "using compensated double arithmetic. Faster than exactSum on large collections. Null entries are skipped."
+    })
+    public static BigDecimal fastSum(BigDecimal[] collection) {
+        if (collection == null)
+            return null;
+        return toDecimal(NumericAggregates.fast(collection, false).sum);
+    }
+
+    /**
+     * Compute the mean of a collection of decimals in compensated double
+     * arithmetic.
+     *
+     * @param collection The collection of decimals.
+     * @return The mean to about 15 significant digits, or null if there are
+     * no values.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Aggregates" })
+    @Description(lang = { "en" }, values = {
+        "Returns the mean of the decimals in the collection to about 15 significant digits,\n" +
+        "using compensated double arithmetic. Null entries are skipped."
+    })
+    public static BigDecimal fastMean(BigDecimal[] collection) {
+        if (collection == null)
+            return null;
+        NumericAggregates.FastMoments moments = NumericAggregates.fast(collection, false);
+        if (moments.count == 0)
+            return null;
+        return toDecimal(moments.sum / moments.count);
+    }
+
+    /**
+     * Compute the sample variance of a collection of decimals in compensated
+     * double arithmetic.
+     *
+     * @param collection The collection of decimals.
+     * @return The sample variance (divided by n - 1) to about 15 significant
+     * digits, or null if there are fewer than two values.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Aggregates" })
+    @Description(lang = { "en" }, values = {
+        "Returns the sample variance (divided by n - 1) of the decimals in the collection,\n" +
+        "using two compensated passes in double arithmetic. Null entries are skipped;\n" +
+        "returns null for fewer than two values."
+    })
+    public static BigDecimal fastVariance(BigDecimal[] collection) {
+        if (collection == null)
+            return null;
+        NumericAggregates.FastMoments moments = NumericAggregates.fast(collection, true);
+        if (moments.count < 2)
+            return null;
+        return toDecimal(Math.max(0, moments.squaredDeviations) / (moments.count - 1));
+    }
+
+    /**
+     * Find the smallest value of a collection of decimals.
+     *
+     * @param collection The collection of decimals.
+     * @return The smallest value, or null if there are no values.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Aggregates" })
+    @Description(lang = { "en" }, values = { "Returns the smallest decimal in the collection. Null entries are skipped." })
+    public static BigDecimal minValue(BigDecimal[] collection) {
+        if (collection == null)
+            return null;
+        BigDecimal min = null;
+        for (BigDecimal value : collection) {
+            if (value != null && (min == null || value.compareTo(min) < 0))
+                min = value;
+        }
+        return min;
+    }
+
+    /**
+     * Find the largest value of a collection of decimals.
+     *
+     * @param collection The collection of decimals.
+     * @return The largest value, or null if there are no values.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Aggregates" })
+    @Description(lang = { "en" }, values = { "Returns the largest decimal in the collection. Null entries are skipped." })
+    public static BigDecimal maxValue(BigDecimal[] collection) {
+        if (collection == null)
+            return null;
+        BigDecimal max = null;
+        for (BigDecimal value : collection) {
+            if (value != null && (max == null || value.compareTo(max) > 0))
+                max = value;
+        }
+        return max;
+    }
+
+    private static BigDecimal toDecimal(double value) {
+        return Double.isNaN(value) || Double.isInfinite(value) ? null : BigDecimal.valueOf(value);
+    }
+}
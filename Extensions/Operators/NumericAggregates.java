@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Sums and moments of a collection of decimals, exact or in compensated
+ * double arithmetic.
+ *
+ * Both modes split the collection into fixed chunks of {@link #CHUNK}
+ * values, reduce each chunk and merge the chunk results in order. The chunk
+ * boundaries depend only on the length of the collection, so a result is the
+ * same whether the chunks ran on one thread or, for collections longer than
+ * {@code -Dcorticon.samples.collectionParallelThreshold}, on the fork/join
+ * common pool.
+ *
+ * Exact mode adds BigDecimal values without rounding; exact addition is
+ * associative, so chunking changes nothing. Fast mode converts each value to
+ * double once and adds with Neumaier compensation, whose error does not grow
+ * with the number of values.
+ *
+ * Null entries are skipped.
+ */
+final class NumericAggregates {
+
+    static final int CHUNK = 8192;
+
+    // Per-thread double buffers above this many values are not kept
+    private static final int MAX_RETAINED_VALUES = 1 << 16;
+
+    private static final ThreadLocal<double[]> BUFFER = ThreadLocal.withInitial(() -> new double[CHUNK]);
+
+    private NumericAggregates() {
+    }
+
+    /** Count, exact sum and exact sum of squares of the non-null values. */
+    static final class ExactMoments {
+        long count;
+        BigDecimal sum = BigDecimal.ZERO;
+        BigDecimal sumOfSquares = BigDecimal.ZERO;
+
+        void merge(ExactMoments other) {
+            count += other.count;
+            sum = sum.add(other.sum);
+            sumOfSquares = sumOfSquares.add(other.sumOfSquares);
+        }
+    }
+
+    /** Count, sum and sum of squared deviations from the mean. */
+    static final class FastMoments {
+        long count;
+        double sum;
+        double squaredDeviations;
+    }
+
+    static ExactMoments exact(BigDecimal[] values, boolean squares) {
+        int chunks = chunks(values.length);
+        ExactMoments[] partials = new ExactMoments[chunks];
+        forEachChunk(values.length, chunk -> {
+            ExactMoments m = new ExactMoments();
+            for (int i = chunk * CHUNK, end = Math.min(values.length, i + CHUNK); i < end; i++) {
+                BigDecimal value = values[i];
+                if (value != null) {
+                    m.count++;
+                    m.sum = m.sum.add(value);
+                    if (squares)
+                        m.sumOfSquares = m.sumOfSquares.add(value.multiply(value));
+                }
+            }
+            partials[chunk] = m;
+        });
+        ExactMoments total = partials.length == 0 ? new ExactMoments() : partials[0];
+        for (int i = 1; i < partials.length; i++)
+            total.merge(partials[i]);
+        return total;
+    }
+
+    /**
+     * Compensated sum and, if asked for, sum of squared deviations. The
+     * deviations take a second pass over the doubles converted in the first,
+     * corrected by the compensated sum of the deviations themselves.
+     */
+    static FastMoments fast(BigDecimal[] values, boolean deviations) {
+        int chunks = chunks(values.length);
+        double[] sums = new double[chunks];
+        double[] compensations = new double[chunks];
+        long[] counts = new long[chunks];
+        double[] doubles = deviations ? buffer(values.length) : null;
+
+        forEachChunk(values.length, chunk -> {
+            double sum = 0;
+            double c = 0;
+            long count = 0;
+            for (int i = chunk * CHUNK, end = Math.min(values.length, i + CHUNK); i < end; i++) {
+                BigDecimal value = values[i];
+                // NaN marks a null entry; doubleValue() never returns NaN
+                double x = value == null ? Double.NaN : value.doubleValue();
+                if (doubles != null)
+                    doubles[i] = x;
+                if (value != null) {
+                    double t = sum + x;
+                    c += Math.abs(sum) >= Math.abs(x) ? (sum - t) + x : (x - t) + sum;
+                    sum = t;
+                    count++;
+                }
+            }
+            sums[chunk] = sum;
+            compensations[chunk] = c;
+            counts[chunk] = count;
+        });
+
+        FastMoments moments = new FastMoments();
+        for (long count : counts)
+            moments.count += count;
+        moments.sum = merge(sums, compensations);
+        if (doubles == null || moments.count == 0)
+            return moments;
+
+        double mean = moments.sum / moments.count;
+        double[] deviationSums = new double[chunks];
+        forEachChunk(values.length, chunk -> {
+            double sum = 0;
+            double c = 0;
+            double squares = 0;
+            double squaresC = 0;
+            for (int i = chunk * CHUNK, end = Math.min(values.length, i + CHUNK); i < end; i++) {
+                double x = doubles[i];
+                if (x == x) {
+                    double d = x - mean;
+                    double t = sum + d;
+                    c += Math.abs(sum) >= Math.abs(d) ? (sum - t) + d : (d - t) + sum;
+                    sum = t;
+                    double dd = d * d;
+                    t = squares + dd;
+                    squaresC += squares >= dd ? (squares - t) + dd : (dd - t) + squares;
+                    squares = t;
+                }
+            }
+            sums[chunk] = squares;
+            compensations[chunk] = squaresC;
+            deviationSums[chunk] = sum + c;
+        });
+        double deviationSum = merge(deviationSums, new double[chunks]);
+        moments.squaredDeviations = merge(sums, compensations) - deviationSum * deviationSum / moments.count;
+        return moments;
+    }
+
+    /** Neumaier sum of the chunk sums plus the sum of their compensations. */
+    private static double merge(double[] sums, double[] compensations) {
+        double sum = 0;
+        double c = 0;
+        for (int i = 0; i < sums.length; i++) {
+            double x = sums[i];
+            double t = sum + x;
+            c += Math.abs(sum) >= Math.abs(x) ? (sum - t) + x : (x - t) + sum;
+            sum = t;
+            c += compensations[i];
+        }
+        return sum + c;
+    }
+
+    private static double[] buffer(int length) {
+        double[] buffer = BUFFER.get();
+        if (buffer.length >= length)
+            return buffer;
+        buffer = new double[Math.max(length, buffer.length * 2)];
+        if (buffer.length <= MAX_RETAINED_VALUES)
+            BUFFER.set(buffer);
+        return buffer;
+    }
+
+    private static int chunks(int length) {
+        return (length + CHUNK - 1) / CHUNK;
+    }
+
+    private interface Step {
+        void run(int chunk);
+    }
+
+    private static void forEachChunk(int length, Step step) {
+        int chunks = chunks(length);
+        if (length <= DuplicateScanner.PARALLEL_THRESHOLD || ForkJoinPool.getCommonPoolParallelism() <= 1) {
+            for (int chunk = 0; chunk < chunks; chunk++)
+                step.run(chunk);
+            return;
+        }
+        List<RecursiveAction> tasks = new ArrayList<>(chunks);
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int c = chunk;
+            tasks.add(new RecursiveAction() {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected void compute() {
+                    step.run(c);
+                }
+            });
+        }
+        ForkJoinTask.invokeAll(tasks);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded, thread-safe cache used by the operators to keep derived
+ * structures (indexes, compiled patterns, normalized strings) between calls.
+ *
+ * Reads never lock. When the cache grows past its capacity, a CLOCK sweep
+ * removes entries that have not been read since the previous sweep, which
+ * approximates LRU without the bookkeeping of an access-ordered map.
+ */
+final class OperatorCache<K, V> {
+
+    private static final class Node<V> {
+        final V value;
+        volatile boolean referenced;
+
+        Node(V value) {
+            this.value = value;
+        }
+    }
+
+    private final int capacity;
+    private final ConcurrentHashMap<K, Node<V>> map;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    OperatorCache(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.map = new ConcurrentHashMap<>(Math.min(this.capacity, 1024));
+    }
+
+    V get(K key) {
+        Node<V> node = map.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        node.referenced = true;
+        hits.increment();
+        return node.value;
+    }
+
+    void put(K key, V value) {
+        map.put(key, new Node<V>(value));
+        if (map.size() > capacity)
+            evict();
+    }
+
+    /**
+     * Returns the cached value for the key, building it with the loader on a
+     * miss. The loader runs outside any lock, so two threads missing on the
+     * same key at once may both build it; the last one wins.
+     */
+    V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        if (value == null) {
+            value = loader.apply(key);
+            if (value != null)
+                put(key, value);
+        }
+        return value;
+    }
+
+    int size() {
+        return map.size();
+    }
+
+    long hitCount() {
+        return hits.sum();
+    }
+
+    long missCount() {
+        return misses.sum();
+    }
+
+    void clear() {
+        map.clear();
+    }
+
+    private synchronized void evict() {
+        int target = capacity - capacity / 8;
+        for (int pass = 0; pass < 2 && map.size() > target; pass++) {
+            Iterator<Map.Entry<K, Node<V>>> it = map.entrySet().iterator();
+            while (it.hasNext() && map.size() > target) {
+                Node<V> node = it.next().getValue();
+                if (node.referenced)
+                    node.referenced = false;
+                else
+                    it.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Compiled regular expressions shared by the string operators.
+ *
+ * Patterns are kept in an {@link OperatorCache} of
+ * {@code -Dcorticon.samples.patternCacheSize} entries (default 1024), keyed
+ * by the expression and its flags. An expression that does not compile is
+ * cached too, as an empty entry, so a rule with a bad pattern does not pay
+ * for the failed compilation on every call.
+ */
+final class PatternCache {
+
+    private static final class Key {
+        final String regex;
+        final int flags;
+
+        Key(String regex, int flags) {
+            this.regex = regex;
+            this.flags = flags;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key))
+                return false;
+            Key other = (Key) o;
+            return flags == other.flags && regex.equals(other.regex);
+        }
+
+        @Override
+        public int hashCode() {
+            return regex.hashCode() * 31 + flags;
+        }
+    }
+
+    private static final OperatorCache<Key, Optional<Pattern>> PATTERNS =
+            new OperatorCache<>(ExtensionSettings.getInt("patternCacheSize", 1024));
+
+    private PatternCache() {
+    }
+
+    /** Returns the compiled pattern, or null if regex is not valid. */
+    static Pattern get(String regex, int flags) {
+        return PATTERNS.computeIfAbsent(new Key(regex, flags), PatternCache::compile).orElse(null);
+    }
+
+    static Pattern get(String regex) {
+        return get(regex, 0);
+    }
+
+    /** Returns true if regex has no metacharacters, so it matches only itself. */
+    static boolean isLiteral(String regex) {
+        for (int i = 0; i < regex.length(); i++) {
+            if ("\\^$.|?*+()[]{}".indexOf(regex.charAt(i)) >= 0)
+                return false;
+        }
+        return true;
+    }
+
+    static long hitCount() {
+        return PATTERNS.hitCount();
+    }
+
+    static long missCount() {
+        return PATTERNS.missCount();
+    }
+
+    static int size() {
+        return PATTERNS.size();
+    }
+
+    private static Optional<Pattern> compile(Key key) {
+        try {
+            return Optional.of(Pattern.compile(key.regex, key.flags));
+        } catch (PatternSyntaxException ex) {
+            return Optional.empty();
+        }
+    }
+}
@@ -20,4 +20,16 @@ public class PerformanceOperators implements ICcStandAloneExtension {
             return BigInteger.ZERO;
         }
     }
+
+    @OperatorFolder(lang = { "en" }, values = { "Performance Metrics" })
+    @Description(lang = { "en" }, values = { "Returns the number of times the regex and replaceAll operators found their compiled pattern in the pattern cache" })
+    public static BigInteger getPatternCacheHits() {
+        return BigInteger.valueOf(PatternCache.hitCount());
+    }
+
+    @OperatorFolder(lang = { "en" }, values = { "Performance Metrics" })
+    @Description(lang = { "en" }, values = { "Returns the number of times the regex and replaceAll operators had to compile a pattern that was not in the pattern cache" })
+    public static BigInteger getPatternCacheMisses() {
+        return BigInteger.valueOf(PatternCache.missCount());
+    }
 }
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.corticon.services.extensions.ArgumentName;
+import com.corticon.services.extensions.Description;
+import com.corticon.services.extensions.ICcCollectionExtension;
+import com.corticon.services.extensions.ICcStandAloneExtension;
+import com.corticon.services.extensions.OperatorFolder;
+import com.corticon.services.extensions.TopLevelFolder;
+
+/**
+ * This class provides percentile operators built on t-digests, for a
+ * collection in one call or for a stream of values fed across executions.
+ *
+ * A t-digest keeps a fixed number of weighted centroids, about
+ * {@code -Dcorticon.samples.digestCompression} (default 100), whatever the
+ * number of values. At the default compression an estimate is typically
+ * off by less than 0.1% of the number of values in rank (the p99 of a
+ * million values lies between their p98.9 and p99.1), least near the tails.
+ *
+ * Named digests live for the life of the server and are shared by every
+ * execution; at most {@code -Dcorticon.samples.maxDigests} (default 64)
+ * names can exist at a time. Values are added under a lock per digest:
+ * a collection is first summarized into a digest of the calling thread and
+ * then merged, so the lock is held for one merge, not for every value.
+ *
+ * Null entries, and values outside the range of a double, are ignored.
+ * Quantiles are given as a fraction, 0.99 for the 99th percentile.
+ */
+@TopLevelFolder("Sample Extended Operators")
+public class QuantileOperators implements ICcCollectionExtension, ICcStandAloneExtension {
+
+    private static final double COMPRESSION = ExtensionSettings.getInt("digestCompression", 100);
+    private static final int MAX_DIGESTS = ExtensionSettings.getInt("maxDigests", 64);
+
+    private static final ThreadLocal<TDigest> SCRATCH = ThreadLocal.withInitial(() -> new TDigest(COMPRESSION));
+    private static final ConcurrentHashMap<String, TDigest> DIGESTS = new ConcurrentHashMap<>();
+
+    /**
+     * Estimate a quantile of a collection of decimals.
+     *
+     * @param collection The collection of decimals.
+     * @param q The quantile, from 0 to 1.
+     * @return The estimated value at q, or null if q is outside 0 to 1 or
+     * there are no values.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Quantiles" })
+    @Description(lang = { "en" }, values = {
+        "Returns an estimate of the value at quantile q (0.95 for the 95th percentile) of the decimals in the collection,\n" +
+        "using a t-digest of fixed size instead of sorting. Null entries are ignored."
+    })
+    public static BigDecimal quantile(BigDecimal[] collection,
+            @ArgumentName(lang = { "en" }, values = { "q" }) BigDecimal q) {
+        if (collection == null || !isQuantile(q))
+            return null;
+        TDigest digest = SCRATCH.get();
+        try {
+            addAll(digest, collection);
+            return toDecimal(digest.quantile(q.doubleValue()));
+        } finally {
+            digest.clear();
+        }
+    }
+
+    /**
+     * Add a collection of decimals to a named digest.
+     *
+     * @param collection The collection of decimals.
+     * @param name The name of the digest, created on first use.
+     * @return The number of values in the digest after adding, or null if the
+     * digest cannot be created.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Quantiles" })
+    @Description(lang = { "en" }, values = {
+        "Adds the decimals in the collection to the named digest, which is kept for the life of the server,\n" +
+        "and returns the number of values it now holds. Returns null if the maximum number of digests exists."
+    })
+    public static BigInteger addToDigest(BigDecimal[] collection,
+            @ArgumentName(lang = { "en" }, values = { "name" }) String name) {
+        if (collection == null)
+            return null;
+        TDigest shared = digest(name, true);
+        if (shared == null)
+            return null;
+        TDigest local = SCRATCH.get();
+        try {
+            addAll(local, collection);
+            synchronized (shared) {
+                shared.add(local);
+                return BigInteger.valueOf(shared.count());
+            }
+        } finally {
+            local.clear();
+        }
+    }
+
+    /**
+     * Add one value to a named digest.
+     *
+     * @param name The name of the digest, created on first use.
+     * @param value The value to add.
+     * @return The number of values in the digest after adding, or null if the
+     * digest cannot be created.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Quantiles" })
+    @Description(lang = { "en" }, values = {
+        "Adds the value to the named digest, which is kept for the life of the server,\n" +
+        "and returns the number of values it now holds. Returns null if the maximum number of digests exists."
+    })
+    public static BigInteger addValueToDigest(
+            @ArgumentName(lang = { "en" }, values = { "name" }) String name,
+            @ArgumentName(lang = { "en" }, values = { "value" }) BigDecimal value) {
+        if (value == null)
+            return null;
+        TDigest shared = digest(name, true);
+        if (shared == null)
+            return null;
+        synchronized (shared) {
+            shared.add(value.doubleValue());
+            return BigInteger.valueOf(shared.count());
+        }
+    }
+
+    /**
+     * Estimate a quantile of the values added to a named digest.
+     *
+     * @param name The name of the digest.
+     * @param q The quantile, from 0 to 1.
+     * @return The estimated value at q, or null if q is outside 0 to 1 or the
+     * digest does not exist or is empty.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Quantiles" })
+    @Description(lang = { "en" }, values = {
+        "Returns an estimate of the value at quantile q (0.99 for the 99th percentile)\n" +
+        "of all values added to the named digest so far, or null if it has none."
+    })
+    public static BigDecimal digestQuantile(
+            @ArgumentName(lang = { "en" }, values = { "name" }) String name,
+            @ArgumentName(lang = { "en" }, values = { "q" }) BigDecimal q) {
+        if (!isQuantile(q))
+            return null;
+        TDigest shared = digest(name, false);
+        if (shared == null)
+            return null;
+        synchronized (shared) {
+            return toDecimal(shared.quantile(q.doubleValue()));
+        }
+    }
+
+    /**
+     * Count the values added to a named digest.
+     *
+     * @param name The name of the digest.
+     * @return The number of values, 0 if the digest does not exist.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Quantiles" })
+    @Description(lang = { "en" }, values = { "Returns the number of values added to the named digest, or 0 if it does not exist." })
+    public static BigInteger digestCount(
+            @ArgumentName(lang = { "en" }, values = { "name" }) String name) {
+        if (name == null)
+            return null;
+        TDigest shared = digest(name, false);
+        if (shared == null)
+            return BigInteger.ZERO;
+        synchronized (shared) {
+            return BigInteger.valueOf(shared.count());
+        }
+    }
+
+    /**
+     * Remove a named digest and the values added to it.
+     *
+     * @param name The name of the digest.
+     * @return True if the digest existed.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Quantiles" })
+    @Description(lang = { "en" }, values = { "Removes the named digest and its values, freeing the name. Returns true if it existed." })
+    public static Boolean resetDigest(
+            @ArgumentName(lang = { "en" }, values = { "name" }) String name) {
+        if (name == null)
+            return null;
+        return DIGESTS.remove(name) != null;
+    }
+
+    private static TDigest digest(String name, boolean create) {
+        if (name == null || name.isEmpty())
+            return null;
+        TDigest digest = DIGESTS.get(name);
+        if (digest != null || !create)
+            return digest;
+        synchronized (DIGESTS) {
+            digest = DIGESTS.get(name);
+            if (digest == null && DIGESTS.size() < MAX_DIGESTS) {
+                digest = new TDigest(COMPRESSION);
+                DIGESTS.put(name, digest);
+            }
+            return digest;
+        }
+    }
+
+    private static void addAll(TDigest digest, BigDecimal[] collection) {
+        for (BigDecimal value : collection) {
+            if (value != null)
+                digest.add(value.doubleValue());
+        }
+    }
+
+    private static boolean isQuantile(BigDecimal q) {
+        return q != null && q.signum() >= 0 && q.compareTo(BigDecimal.ONE) <= 0;
+    }
+
+    private static BigDecimal toDecimal(double value) {
+        return Double.isNaN(value) || Double.isInfinite(value) ? null : BigDecimal.valueOf(value);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Named reference lists shared by the lookup operators.
+ *
+ * A list named {@code sanctions} is read from {@code sanctions.txt} in the
+ * directory given by {@code -Dcorticon.samples.referenceDir} (default: the
+ * server's working directory). The file is UTF-8 with one entry per line;
+ * blank lines and lines starting with {@code #} are ignored.
+ *
+ * Lists are loaded once and re-read only when the file's size or modification
+ * time changes. The file is checked at most every
+ * {@code corticon.samples.referenceRefreshMillis} milliseconds (default 10000).
+ * Structures built from a list (indexes, trees, automata) are attached to the
+ * loaded version with {@link ReferenceList#derive}, so they are rebuilt
+ * exactly when the list itself is reloaded.
+ */
+final class ReferenceLists {
+
+    static final class ReferenceList {
+        private final String[] entries;
+        private final long lastModified;
+        private final long size;
+        private final ConcurrentHashMap<Object, Object> derived = new ConcurrentHashMap<>();
+        private volatile long checkedAt;
+
+        ReferenceList(String[] entries, long lastModified, long size, long checkedAt) {
+            this.entries = entries;
+            this.lastModified = lastModified;
+            this.size = size;
+            this.checkedAt = checkedAt;
+        }
+
+        String[] entries() {
+            return entries;
+        }
+
+        /**
+         * Returns the structure stored under the key, building it from this
+         * version's entries on first use.
+         */
+        @SuppressWarnings("unchecked")
+        <T> T derive(Object key, Function<String[], T> builder) {
+            return (T) derived.computeIfAbsent(key, k -> builder.apply(entries));
+        }
+    }
+
+    private static final ConcurrentHashMap<String, ReferenceList> LISTS = new ConcurrentHashMap<>();
+
+    private ReferenceLists() {
+    }
+
+    /**
+     * Returns the current version of the named list, or null when the name is
+     * invalid or the file cannot be read.
+     */
+    static ReferenceList get(String name) {
+        if (name == null || name.isEmpty() || name.contains("/") || name.contains("\\") || name.contains(".."))
+            return null;
+
+        long now = System.currentTimeMillis();
+        ReferenceList current = LISTS.get(name);
+        long refreshMillis = ExtensionSettings.getLong("referenceRefreshMillis", 10000L);
+        if (current != null && now - current.checkedAt < refreshMillis)
+            return current;
+
+        Path file = Paths.get(ExtensionSettings.getString("referenceDir", "."), name + ".txt");
+        try {
+            long lastModified = Files.getLastModifiedTime(file).toMillis();
+            long size = Files.size(file);
+            if (current != null && current.lastModified == lastModified && current.size == size) {
+                current.checkedAt = now;
+                return current;
+            }
+            ReferenceList loaded = new ReferenceList(read(file), lastModified, size, now);
+            LISTS.put(name, loaded);
+            return loaded;
+        } catch (IOException ex) {
+            LISTS.remove(name);
+            return null;
+        }
+    }
+
+    private static String[] read(Path file) throws IOException {
+        List<String> entries = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            String entry = line.trim();
+            if (!entry.isEmpty() && entry.charAt(0) != '#')
+                entries.add(entry);
+        }
+        return entries.toArray(new String[entries.size()]);
+    }
+}
@@ -2,15 +2,10 @@ package com.corticon.samples.extensions;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.text.Normalizer;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
-import org.apache.commons.codec.language.DoubleMetaphone;
-
 import com.corticon.services.extensions.ArgumentName;
 import com.corticon.services.extensions.Description;
 import com.corticon.services.extensions.ICcStandAloneExtension;
@@ -47,55 +42,91 @@ public class SimilarityAnalysisOperators implements ICcStandAloneExtension {
         // Determine dynamic max length for codes (cap at 12)
         int dynamicMaxLen = Math.min(Math.max(input1.length(), input2.length()), 12);
 
-        DoubleMetaphone dm = new DoubleMetaphone();
-        dm.setMaxCodeLen(dynamicMaxLen);
+        // Primary & Alternate Codes, both from a single pass over each input
+        DoubleMetaphoneEncoder.Codes c1 = DoubleMetaphoneEncoder.encode(input1, dynamicMaxLen);
+        DoubleMetaphoneEncoder.Codes c2 = DoubleMetaphoneEncoder.encode(input2, dynamicMaxLen);
 
-        // Primary & Alternate Codes
-        String p1 = dm.doubleMetaphone(input1);
-        String a1 = dm.doubleMetaphone(input1, true);
-        String p2 = dm.doubleMetaphone(input2);
-        String a2 = dm.doubleMetaphone(input2, true);
+        return scoreDoubleMetaphone(c1.primary, c1.alternate, c2.primary, c2.alternate,
+                input1.equalsIgnoreCase(input2));
+    }
 
+    private static BigDecimal scoreDoubleMetaphone(String p1, String a1, String p2, String a2, boolean sameSpelling) {
         // CASE 1: Primary & alternate match
         if (p1.equals(p2) && a1.equals(a2)) {
-            if (input1.equalsIgnoreCase(input2)) {
+            if (sameSpelling) {
                 return BigDecimal.ONE; // exact spelling & sound
             } else {
-                return new BigDecimal("0.95"); // same sound, different spelling
+                return DM_SAME_SOUND; // same sound, different spelling
             }
         }
         // CASE 2: Primary codes match only
         if (p1.equals(p2)) {
-            return new BigDecimal("0.9");
+            return DM_PRIMARY_MATCH;
         }
         // CASE 3: Cross matches between primary & alternate
         if (p1.equals(a2) || p2.equals(a1) || a1.equals(a2)) {
-            return new BigDecimal("0.8");
+            return DM_CROSS_MATCH;
         }
         // CASE 4: No match
         return BigDecimal.ZERO;
     }
 
-    private static String preprocess(String input) {
-        if (input == null) return null;
+    private static final BigDecimal DM_SAME_SOUND = new BigDecimal("0.95");
+    private static final BigDecimal DM_PRIMARY_MATCH = new BigDecimal("0.9");
+    private static final BigDecimal DM_CROSS_MATCH = new BigDecimal("0.8");
 
-        // Normalize to decomposed form
-        String normalized = Normalizer.normalize(input.trim(), Normalizer.Form.NFD);
+    @OperatorFolder(lang = { "en" }, values = { "Similarity text compare functions" })
+    @Description(lang = { "en" }, values = {
+        "Returns the Double Metaphone key pair of a string as 'primary|alternate'.\n" +
+        "The input is normalized like compareWithDoubleMetaphone and encoded with the maximum code length (12).\n" +
+        "Store the key on the entity and compare stored keys with compareDoubleMetaphoneKeys instead of re-encoding."
+    })
+    public static String doubleMetaphoneKeys(
+            @ArgumentName(lang = { "en" }, values = { "string" }) String str) {
 
-        // Specific German handling before stripping marks
-        normalized = normalized
-                .replaceAll("Ü", "UE")
-                .replaceAll("ü", "ue")
-                .replaceAll("Ö", "OE")
-                .replaceAll("ö", "oe")
-                .replaceAll("Ä", "AE")
-                .replaceAll("ä", "ae")
-                .replaceAll("ß", "ss");
+        if (str == null) {
+            return null;
+        }
+        DoubleMetaphoneEncoder.Codes codes = DoubleMetaphoneEncoder.encode(preprocess(str), DoubleMetaphoneEncoder.MAX_CODE_LENGTH);
+        return codes.primary + KEY_DELIMITER + codes.alternate;
+    }
 
-        // Remove any remaining diacritics
-        normalized = normalized.replaceAll("\\p{M}", "");
+    @OperatorFolder(lang = { "en" }, values = { "Similarity text compare functions" })
+    @Description(lang = { "en" }, values = {
+        "Compares two Double Metaphone key pairs produced by doubleMetaphoneKeys.\n" +
+        "Scores like compareWithDoubleMetaphone, except that spelling is not known from the keys:\n" +
+        "0.95 = Primary & alternate codes match.\n" +
+        "0.90 = Primary codes match only.\n" +
+        "0.80 = Cross-match between primary/alternate codes.\n" +
+        "0.00 = No match\n" +
+        "Returns null if either key is not a key pair."
+    })
+    public static BigDecimal compareDoubleMetaphoneKeys(
+            @ArgumentName(lang = { "en" }, values = { "keys 1" }) String keys1,
+            @ArgumentName(lang = { "en" }, values = { "keys 2" }) String keys2) {
 
-        return normalized;
+        if (keys1 == null || keys2 == null) {
+            return null;
+        }
+        int d1 = keys1.indexOf(KEY_DELIMITER);
+        int d2 = keys2.indexOf(KEY_DELIMITER);
+        if (d1 < 0 || d2 < 0) {
+            return null;
+        }
+        return scoreDoubleMetaphone(keys1.substring(0, d1), keys1.substring(d1 + 1),
+                keys2.substring(0, d2), keys2.substring(d2 + 1), false);
+    }
+
+    private static final char KEY_DELIMITER = '|';
+
+    // -Dcorticon.samples.similarityTransliteration=german transliterates umlauts
+    // ("Müller" -> "Mueller") instead of reducing them to their base letter
+    private static final TextNormalizer PREPROCESS =
+            "german".equalsIgnoreCase(ExtensionSettings.getString("similarityTransliteration", "none"))
+                    ? TextNormalizer.TRANSLITERATED : TextNormalizer.STRIPPED;
+
+    private static String preprocess(String input) {
+        return PREPROCESS.apply(input);
     }
 
     @OperatorFolder(lang = { "en" }, values = { "Similarity text compare functions" })
@@ -135,7 +166,7 @@ public class SimilarityAnalysisOperators implements ICcStandAloneExtension {
             return BigDecimal.ZERO;
         
         // Calculate edit distance between s1 and s2
-        int distance = calculateLevenshteinDistance(s1, s2, len1, len2);
+        int distance = LevenshteinEngine.distance(s1, s2);
         
         // Normalize similarity score: 1 - (distance / max length)
         int maxLen = Math.max(len1, len2);
@@ -146,43 +177,60 @@ public class SimilarityAnalysisOperators implements ICcStandAloneExtension {
         return new BigDecimal(similarity);
     }
     
-    private static int calculateLevenshteinDistance(String s1, String s2, int len1, int len2) {
-        int[][] dp = new int[len1 + 1][len2 + 1];
-
-        // Initialize first row and column
-        for (int i = 0; i <= len1; i++)
-            dp[i][0] = i;
-        for (int j = 0; j <= len2; j++)
-            dp[0][j] = j;
-
-        // Fill the DP table
-        for (int i = 1; i <= len1; i++) {
-            for (int j = 1; j <= len2; j++) {
-                if (s1.charAt(i - 1) == s2.charAt(j - 1)) {
-                    dp[i][j] = dp[i - 1][j - 1]; // chars match
-                } else {
-                    dp[i][j] = 1 + Math.min(
-                        Math.min(dp[i - 1][j],    // delete
-                                 dp[i][j - 1]),   // insert
-                        dp[i - 1][j - 1]            // substitute
-                    );
-                }
-            }
-        }
-        return dp[len1][len2];
+    @OperatorFolder(lang = { "en" }, values = { "Similarity text compare functions" })
+    @Description(lang = { "en" }, values = {
+        "Calculates Levenshtein similarity between two strings, giving up once it cannot reach minSimilarity.\n" +
+        "Returns the same score as compareWithLevenshtein when it is at least minSimilarity, otherwise 0.\n" +
+        "Only edit distances within the bound are evaluated, so dissimilar strings are rejected early.\n" +
+        "Uses case-insensitive comparison."
+    })
+    public static BigDecimal compareWithLevenshtein(
+            @ArgumentName(lang = { "en" }, values = { "string 1" }) String str1,
+            @ArgumentName(lang = { "en" }, values = { "string 2" }) String str2,
+            @ArgumentName(lang = { "en" }, values = { "minSimilarity" }) BigDecimal minSimilarity) {
+
+        if ((str1 == null) || (str2 == null) || (minSimilarity == null))
+            return null;
+
+        double min = minSimilarity.doubleValue();
+        if (min <= 0.0)
+            return compareWithLevenshtein(str1, str2);
+        if (min > 1.0)
+            return BigDecimal.ZERO;
+
+        if (str1.equals(str2))
+            return BigDecimal.ONE;
+
+        String s1 = str1.toLowerCase();
+        String s2 = str2.toLowerCase();
+        if (s1.equals(s2))
+            return BigDecimal.ONE;
+
+        int maxLen = Math.max(s1.length(), s2.length());
+        if (Math.min(s1.length(), s2.length()) == 0)
+            return BigDecimal.ZERO;
+
+        // similarity >= min  <=>  distance <= (1 - min) * maxLen
+        int maxDistance = (int) Math.floor((1.0 - min) * maxLen + 1e-9);
+        int distance = LevenshteinEngine.boundedDistance(s1, s2, maxDistance);
+        if (distance < 0)
+            return BigDecimal.ZERO;
+
+        double similarity = 1.0 - ((double) distance / maxLen);
+        return similarity >= min ? new BigDecimal(similarity) : BigDecimal.ZERO;
     }
 
     @OperatorFolder(lang = { "en" }, values = { "Similarity text compare functions" })
     @Description(lang = { "en" }, 
         values = { "Calculates N-gram similarity between two strings (case-insensitive, accent-normalized).\n"
                  + "Strips diacritics, removes all non-alphanumeric characters.\n"
-                 + "Uses Jaccard coefficient on unique N-grams." })
+                 + "Uses Jaccard coefficient on unique N-grams, compared as sorted 64-bit N-gram hashes." })
     public static BigDecimal compareWithNgram(
             @ArgumentName(lang = { "en" }, values = { "string 1" }) String str1,
             @ArgumentName(lang = { "en" }, values = { "string 2" }) String str2,
             @ArgumentName(lang = { "en" }, values = { "n-gram size" }) BigInteger ngramSize) {
 
-        if (str1 == null || str2 == null || ngramSize == null)
+        if (str1 == null || str2 == null || ngramSize == null || ngramSize.bitLength() > 31)
             return null;
 
         int n = ngramSize.intValue();
@@ -197,44 +245,56 @@ public class SimilarityAnalysisOperators implements ICcStandAloneExtension {
         if (s1.equals(s2))
             return BigDecimal.ONE;
 
-        Set<String> ngrams1 = generateNgrams(s1, n);
-        Set<String> ngrams2 = generateNgrams(s2, n);
+        // Distinct n-grams as sorted 64-bit hashes; Jaccard by merge walk
+        long[] ngrams1 = NgramFingerprint.of(s1, n);
+        long[] ngrams2 = NgramFingerprint.of(s2, n);
 
-        if (ngrams1.isEmpty() && ngrams2.isEmpty())
-            return BigDecimal.ONE;
-        if (ngrams1.isEmpty() || ngrams2.isEmpty())
-            return BigDecimal.ZERO;
+        double similarity = NgramFingerprint.jaccard(ngrams1, ngrams2);
+        return new BigDecimal(similarity);
+    }
+
+    @OperatorFolder(lang = { "en" }, values = { "Similarity text compare functions" })
+    @Description(lang = { "en" }, values = {
+        "Returns a fixed-size MinHash signature of the N-grams of a string (case-insensitive, accent-normalized).\n" +
+        "Store the signature on the entity and estimate N-gram similarity with compareMinHash in constant time.\n" +
+        "A larger signature size gives a more accurate estimate (standard error about 1/sqrt(size)); 1 to 1024 slots."
+    })
+    public static String ngramMinHash(
+            @ArgumentName(lang = { "en" }, values = { "string" }) String str,
+            @ArgumentName(lang = { "en" }, values = { "n-gram size" }) BigInteger ngramSize,
+            @ArgumentName(lang = { "en" }, values = { "signature size" }) BigInteger signatureSize) {
 
-        Set<String> intersection = new HashSet<>(ngrams1);
-        intersection.retainAll(ngrams2);
+        if (str == null || ngramSize == null || signatureSize == null || ngramSize.bitLength() > 31 || signatureSize.bitLength() > 31)
+            return null;
 
-        Set<String> union = new HashSet<>(ngrams1);
-        union.addAll(ngrams2);
+        int n = ngramSize.intValue();
+        int slots = signatureSize.intValue();
+        if (n <= 0 || slots <= 0 || slots > 1024)
+            return null;
 
-        double similarity = (double) intersection.size() / union.size();
-        return new BigDecimal(similarity);
+        return NgramFingerprint.minHash(NgramFingerprint.of(normalize(str), n), n, slots);
     }
 
-    private static Set<String> generateNgrams(String text, int n) {
-        Set<String> ngrams = new HashSet<>();
-        if (text.length() < n) {
-            if (!text.isEmpty())
-                ngrams.add(text);
-            return ngrams;
-        }
-        for (int i = 0; i <= text.length() - n; i++) {
-            ngrams.add(text.substring(i, i + n));
-        }
-        return ngrams;
+    @OperatorFolder(lang = { "en" }, values = { "Similarity text compare functions" })
+    @Description(lang = { "en" }, values = {
+        "Estimates the N-gram (Jaccard) similarity of two strings from their ngramMinHash signatures.\n" +
+        "Returns the fraction of matching signature slots (0.0-1.0).\n" +
+        "Returns null if the signatures were built with different n-gram or signature sizes."
+    })
+    public static BigDecimal compareMinHash(
+            @ArgumentName(lang = { "en" }, values = { "signature 1" }) String signature1,
+            @ArgumentName(lang = { "en" }, values = { "signature 2" }) String signature2) {
+
+        if (signature1 == null || signature2 == null)
+            return null;
+
+        double similarity = NgramFingerprint.compareMinHash(signature1, signature2);
+        return similarity < 0 ? null : BigDecimal.valueOf(similarity);
     }
 
-    private static String normalize(String input) {
+    static String normalize(String input) {
         if (input == null) return "";
-        String lower = input.toLowerCase();
-        String norm = Normalizer.normalize(lower, Normalizer.Form.NFD);
-        norm = norm.replaceAll("\\p{M}+", "");                 // strip accents/diacritics
-        norm = norm.replaceAll("[^\\p{L}\\p{N}]", "");          // strip spaces, punctuation
-        return norm;
+        return TextNormalizer.FOLDED.apply(input);
     }
 
     private static final Pattern SPLIT_PATTERN = Pattern.compile("[^\\p{L}\\p{N}]+");
@@ -276,6 +336,61 @@ public class SimilarityAnalysisOperators implements ICcStandAloneExtension {
         return new BigDecimal(similarity);
     }
 
+    private static final ThreadLocal<CorpusStatistics.TokenHashes[]> TOKEN_SCRATCH = ThreadLocal.withInitial(
+            () -> new CorpusStatistics.TokenHashes[] { new CorpusStatistics.TokenHashes(), new CorpusStatistics.TokenHashes() });
+
+    @OperatorFolder(lang = { "en" }, values = { "Similarity text compare functions" })
+    @Description(lang = { "en" }, values = {
+        "Calculates IDF-weighted token-set similarity between two strings (cosine, 0.0-1.0).\n" +
+        "Transliterates and strips diacritics like compareWithTokenization, but ignores token order and case,\n" +
+        "and weighs rare tokens (surnames) more than common ones (GmbH, Inc) using the corpus statistics file\n" +
+        "configured with -Dcorticon.samples.corpusStats. Without that file all tokens weigh the same."
+    })
+    public static BigDecimal compareWithWeightedTokens(
+            @ArgumentName(lang = { "en" }, values = { "string 1" }) String str1,
+            @ArgumentName(lang = { "en" }, values = { "string 2" }) String str2) {
+        if ((str1 == null) || (str2 == null))
+            return null;
+
+        CorpusStatistics.TokenHashes[] scratch = TOKEN_SCRATCH.get();
+        CorpusStatistics.TokenHashes tokens1 = scratch[0];
+        CorpusStatistics.TokenHashes tokens2 = scratch[1];
+        tokens1.read(preprocessToken(str1));
+        tokens2.read(preprocessToken(str2));
+        if (tokens1.size == 0 && tokens2.size == 0)
+            return BigDecimal.ONE; // both empty → identical
+        if (tokens1.size == 0 || tokens2.size == 0)
+            return BigDecimal.ZERO;
+
+        // Binary TF, so each distinct token contributes idf^2 to the dot products
+        CorpusStatistics stats = CorpusStatistics.get();
+        double norm1 = 0.0;
+        double norm2 = 0.0;
+        double common = 0.0;
+        int i = 0;
+        int j = 0;
+        while (i < tokens1.size || j < tokens2.size) {
+            long h1 = i < tokens1.size ? tokens1.hashes[i] : Long.MAX_VALUE;
+            long h2 = j < tokens2.size ? tokens2.hashes[j] : Long.MAX_VALUE;
+            if (i < tokens1.size && (j == tokens2.size || h1 <= h2)) {
+                double w = stats == null ? 1.0 : stats.idf(h1);
+                norm1 += w * w;
+                if (j < tokens2.size && h1 == h2) {
+                    norm2 += w * w;
+                    common += w * w;
+                    j++;
+                }
+                i++;
+            } else {
+                double w = stats == null ? 1.0 : stats.idf(h2);
+                norm2 += w * w;
+                j++;
+            }
+        }
+        double similarity = Math.min(1.0, common / Math.sqrt(norm1 * norm2));
+        return BigDecimal.valueOf(similarity);
+    }
+
     public static List<String> tokenize(String input) {
         return SPLIT_PATTERN.splitAsStream(input == null ? "" : input)
                 .map(String::trim)
@@ -284,28 +399,6 @@ public class SimilarityAnalysisOperators implements ICcStandAloneExtension {
     }
 
     public static String preprocessToken(String input) {
-        if (input == null) return null;
-        // NFD normalize (decompose characters + diacritics)
-        String normalized = Normalizer.normalize(input.trim(), Normalizer.Form.NFD);
-
-        // Replace all precomposed forms
-        normalized = normalized
-                .replace("Ä", "AE").replace("ä", "ae")
-                .replace("Ö", "OE").replace("ö", "oe")
-                .replace("Ü", "UE").replace("ü", "ue")
-                .replace("ß", "ss");
-
-        // Replace decomposed forms (base char + combining diaeresis)
-        normalized = normalized
-                .replaceAll("A\\u0308", "AE") // A + diaeresis
-                .replaceAll("a\\u0308", "ae")
-                .replaceAll("O\\u0308", "OE")
-                .replaceAll("o\\u0308", "oe")
-                .replaceAll("U\\u0308", "UE")
-                .replaceAll("u\\u0308", "ue");
-
-        // Remove remaining combining marks (diacritics)
-        normalized = normalized.replaceAll("\\p{M}", "");
-        return normalized;
+        return TextNormalizer.TRANSLITERATED.apply(input);
     }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import com.corticon.services.extensions.ArgumentName;
+import com.corticon.services.extensions.Description;
+import com.corticon.services.extensions.ICcCollectionExtension;
+import com.corticon.services.extensions.OperatorFolder;
+import com.corticon.services.extensions.TopLevelFolder;
+
+/**
+ * This class provides collection operators that answer "how many distinct
+ * values" and "which values are most frequent" approximately, in memory that
+ * does not grow with the collection.
+ *
+ * Each calling thread keeps one set of sketches, sized by system properties
+ * read at startup:
+ * <ul>
+ * <li>{@code -Dcorticon.samples.hllPrecision} (4-18, default 14): 2^p bytes
+ * of HyperLogLog registers; standard error 1.04 / sqrt(2^p), 0.81% at 14;</li>
+ * <li>{@code -Dcorticon.samples.topValuesCapacity} (default 1024): Space-Saving
+ * counters; every value occurring more than n / capacity times is found, and
+ * counts are over by at most n / capacity;</li>
+ * <li>{@code -Dcorticon.samples.countMinWidth} (default 2048) and
+ * {@code -Dcorticon.samples.countMinDepth} (default 4): a Count-Min sketch
+ * filled in the same pass, which tightens the Space-Saving counts to at most
+ * e * n / width over, with probability 1 - e^-depth.</li>
+ * </ul>
+ * Values are hashed with the same 64-bit key as containsDuplicates. Null
+ * entries are ignored.
+ */
+@TopLevelFolder("Sample Extended Operators")
+public class SketchOperators implements ICcCollectionExtension {
+
+    private static final int HLL_PRECISION = ExtensionSettings.getInt("hllPrecision", 14);
+    private static final int TOP_VALUES_CAPACITY = Math.max(1, ExtensionSettings.getInt("topValuesCapacity", 1024));
+    private static final int COUNT_MIN_WIDTH = ExtensionSettings.getInt("countMinWidth", 2048);
+    private static final int COUNT_MIN_DEPTH = ExtensionSettings.getInt("countMinDepth", 4);
+
+    private static final ThreadLocal<HyperLogLog> HLL = ThreadLocal.withInitial(() -> new HyperLogLog(HLL_PRECISION));
+    private static final ThreadLocal<SpaceSaving> TOP_VALUES = ThreadLocal.withInitial(() -> new SpaceSaving(TOP_VALUES_CAPACITY));
+    private static final ThreadLocal<CountMinSketch> COUNT_MIN = ThreadLocal.withInitial(() -> new CountMinSketch(COUNT_MIN_WIDTH, COUNT_MIN_DEPTH));
+
+    /**
+     * Estimate the number of distinct values in a collection of strings.
+     *
+     * @param collection The collection of strings.
+     * @return The estimated number of distinct non-null values.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Sketches" })
+    @Description(lang = { "en" }, values = {
+        "Returns an estimate of the number of distinct values in the collection, using a HyperLogLog sketch\n" +
+        "of fixed size (16 KB by default). The standard error is 0.81% by default. Null entries are ignored."
+    })
+    public static BigInteger approxDistinctCount(String[] collection) {
+        if (collection == null)
+            return null;
+        HyperLogLog hll = HLL.get();
+        try {
+            for (String s : collection) {
+                if (s != null)
+                    hll.add(DuplicateScanner.key(s));
+            }
+            return BigInteger.valueOf(hll.estimate());
+        } finally {
+            hll.clear();
+        }
+    }
+
+    /**
+     * Find the most frequent values of a collection of strings.
+     *
+     * @param collection The collection of strings.
+     * @param k The number of values to return.
+     * @return Up to k entries "value=count", most frequent first, separated
+     * by "|" and escaped as in {@link HistogramFormat}, so histogramCount
+     * reads them. Counts may exceed the true frequency by the documented
+     * error.
+     */
+    @OperatorFolder(lang = { "en" }, values = { "Sketches" })
+    @Description(lang = { "en" }, values = {
+        "Returns the k most frequent values of the collection as 'value=count' entries separated by '|',\n" +
+        "most frequent first, using Space-Saving and Count-Min sketches of fixed size.\n" +
+        "Every value occurring more than n/1024 times (by default) is found; counts can be slightly too high.\n" +
+        "k must be between 1 and the sketch capacity (1024 by default). Null entries are ignored.\n" +
+        "A '|', '=' or '\\' in a value is written with a backslash before it, as valueHistogram does."
+    })
+    public static String approxTopValues(String[] collection,
+            @ArgumentName(lang = { "en" }, values = { "k" }) BigInteger k) {
+        if (collection == null || k == null || k.signum() <= 0 || k.compareTo(BigInteger.valueOf(TOP_VALUES_CAPACITY)) > 0)
+            return null;
+        SpaceSaving summary = TOP_VALUES.get();
+        CountMinSketch sketch = COUNT_MIN.get();
+        try {
+            for (String s : collection) {
+                if (s != null) {
+                    long hash = DuplicateScanner.key(s);
+                    summary.offer(s, hash);
+                    sketch.add(hash);
+                }
+            }
+
+            // Both counts are upper bounds, so the smaller one is the better estimate
+            int size = summary.size();
+            long[] estimates = new long[size];
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                estimates[i] = Math.min(summary.count(i), sketch.estimate(DuplicateScanner.key(summary.value(i))));
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> estimates[a] != estimates[b]
+                    ? Long.compare(estimates[b], estimates[a])
+                    : summary.value(a).compareTo(summary.value(b)));
+
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0, limit = Math.min(size, k.intValue()); i < limit; i++)
+                HistogramFormat.append(sb, summary.value(order[i]), estimates[order[i]]);
+            return sb.toString();
+        } finally {
+            summary.clear();
+            sketch.clear();
+        }
+    }
+}
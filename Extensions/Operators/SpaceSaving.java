@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.util.Arrays;
+
+/**
+ * Space-Saving heavy-hitter summary of a stream of strings.
+ *
+ * Keeps at most capacity counters. A value that is not counted yet takes
+ * over the counter with the smallest count, inheriting that count as its
+ * error. After n values every value occurring more than n / capacity times
+ * has a counter, and every count overestimates the true frequency by at most
+ * its error, which is at most n / capacity.
+ *
+ * Counters live in parallel arrays: a min-heap orders them by count, and a
+ * linear-probing table (with backward-shift deletion) finds the counter of a
+ * value by its 64-bit hash.
+ */
+final class SpaceSaving {
+
+    private final int capacity;
+    private final String[] values;
+    private final long[] hashes;
+    private final long[] counts;
+    private final long[] errors;
+    private final int[] heap;
+    private final int[] heapIndex;
+    private final int[] slots;
+    private final int slotMask;
+    private int size;
+
+    SpaceSaving(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.values = new String[this.capacity];
+        this.hashes = new long[this.capacity];
+        this.counts = new long[this.capacity];
+        this.errors = new long[this.capacity];
+        this.heap = new int[this.capacity];
+        this.heapIndex = new int[this.capacity];
+        this.slots = new int[Integer.highestOneBit(this.capacity) << 2];
+        this.slotMask = slots.length - 1;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    int size() {
+        return size;
+    }
+
+    String value(int counter) {
+        return values[counter];
+    }
+
+    long count(int counter) {
+        return counts[counter];
+    }
+
+    long error(int counter) {
+        return errors[counter];
+    }
+
+    void offer(String value, long hash) {
+        int slot = (int) hash & slotMask;
+        for (int s = slots[slot]; s != 0; s = slots[slot]) {
+            int counter = s - 1;
+            if (hashes[counter] == hash && values[counter].equals(value)) {
+                counts[counter]++;
+                siftDown(heapIndex[counter]);
+                return;
+            }
+            slot = (slot + 1) & slotMask;
+        }
+
+        int counter;
+        if (size < capacity) {
+            counter = size++;
+            counts[counter] = 1;
+            errors[counter] = 0;
+            heap[counter] = counter;
+            heapIndex[counter] = counter;
+            siftUp(counter);
+        } else {
+            counter = heap[0];
+            remove(counter);
+            errors[counter] = counts[counter];
+            counts[counter]++;
+            siftDown(0);
+        }
+        values[counter] = value;
+        hashes[counter] = hash;
+        // First free slot from home; remove() may have changed the probe path
+        slot = (int) hash & slotMask;
+        while (slots[slot] != 0)
+            slot = (slot + 1) & slotMask;
+        slots[slot] = counter + 1;
+    }
+
+    void clear() {
+        Arrays.fill(slots, 0);
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+    }
+
+    private void remove(int counter) {
+        int slot = (int) hashes[counter] & slotMask;
+        while (slots[slot] != counter + 1)
+            slot = (slot + 1) & slotMask;
+        int hole = slot;
+        int next = (hole + 1) & slotMask;
+        while (slots[next] != 0) {
+            int home = (int) hashes[slots[next] - 1] & slotMask;
+            // Move the entry back unless its home lies cyclically in (hole, next]
+            boolean between = hole <= next ? (home > hole && home <= next) : (home > hole || home <= next);
+            if (!between) {
+                slots[hole] = slots[next];
+                hole = next;
+            }
+            next = (next + 1) & slotMask;
+        }
+        slots[hole] = 0;
+    }
+
+    private void siftUp(int i) {
+        int counter = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (counts[heap[parent]] <= counts[counter])
+                break;
+            heap[i] = heap[parent];
+            heapIndex[heap[i]] = i;
+            i = parent;
+        }
+        heap[i] = counter;
+        heapIndex[counter] = i;
+    }
+
+    private void siftDown(int i) {
+        int counter = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size)
+                break;
+            if (child + 1 < size && counts[heap[child + 1]] < counts[heap[child]])
+                child++;
+            if (counts[heap[child]] >= counts[counter])
+                break;
+            heap[i] = heap[child];
+            heapIndex[heap[i]] = i;
+            i = child;
+        }
+        heap[i] = counter;
+        heapIndex[counter] = i;
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.util.Arrays;
+
+/**
+ * Merging t-digest: a bounded summary of a stream of doubles that answers
+ * quantile queries, most accurately near the tails.
+ *
+ * Values are collected in a buffer; when it fills, it is sorted and merged
+ * with the centroids (mean and weight) in one pass. A centroid may only grow
+ * while its span of the scale function k(q) = compression / 2pi * asin(2q - 1)
+ * stays within 1, which keeps centroids near q = 0 and q = 1 small and
+ * bounds their number by about the compression. Memory is therefore fixed
+ * (about 7 KB at the default compression of 100) however many values are
+ * added. Two digests merge the same way, so partial digests can be built
+ * separately and combined.
+ *
+ * Not thread-safe.
+ */
+final class TDigest {
+
+    private final double compression;
+    private double[] means;
+    private double[] weights;
+    private double[] mergedMeans;
+    private double[] mergedWeights;
+    private int centroids;
+    private final double[] buffer;
+    private int buffered;
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    TDigest(double compression) {
+        this.compression = Math.max(10, Math.min(compression, 10000));
+        int capacity = 2 * (int) Math.ceil(this.compression) + 16;
+        means = new double[capacity];
+        weights = new double[capacity];
+        mergedMeans = new double[capacity];
+        mergedWeights = new double[capacity];
+        buffer = new double[5 * (int) Math.ceil(this.compression)];
+    }
+
+    long count() {
+        return count;
+    }
+
+    /** Adds a value; NaN and infinite values are ignored. */
+    void add(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value))
+            return;
+        buffer[buffered++] = value;
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        if (buffered == buffer.length)
+            flush();
+    }
+
+    /** Adds every value summarized by other. */
+    void add(TDigest other) {
+        if (other.count == 0)
+            return;
+        flush();
+        other.flush();
+        merge(other.means, other.weights, other.centroids);
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Returns the estimated value at quantile q (0 to 1), interpolating
+     * between centroid means, or NaN if the digest is empty.
+     */
+    double quantile(double q) {
+        flush();
+        if (count == 0 || q < 0 || q > 1)
+            return Double.NaN;
+        if (q == 0)
+            return min;
+        if (q == 1)
+            return max;
+        if (centroids == 1)
+            return min + (max - min) * q;
+
+        double index = q * count;
+        if (index < weights[0] / 2)
+            return min + (means[0] - min) * index / (weights[0] / 2);
+        double center = weights[0] / 2;
+        double cumulative = weights[0];
+        for (int i = 0; i < centroids - 1; i++) {
+            double nextCenter = cumulative + weights[i + 1] / 2;
+            if (index < nextCenter)
+                return means[i] + (means[i + 1] - means[i]) * (index - center) / (nextCenter - center);
+            center = nextCenter;
+            cumulative += weights[i + 1];
+        }
+        int last = centroids - 1;
+        return means[last] + (max - means[last]) * (index - center) / (count - center);
+    }
+
+    void clear() {
+        centroids = 0;
+        buffered = 0;
+        count = 0;
+        min = Double.POSITIVE_INFINITY;
+        max = Double.NEGATIVE_INFINITY;
+    }
+
+    private void flush() {
+        if (buffered == 0)
+            return;
+        Arrays.sort(buffer, 0, buffered);
+        merge(buffer, null, buffered);
+        buffered = 0;
+    }
+
+    /**
+     * Merges the sorted centroids with a sorted run of other centroids (unit
+     * weights when otherWeights is null) in one pass.
+     */
+    private void merge(double[] otherMeans, double[] otherWeights, int otherCount) {
+        double total = 0;
+        for (int i = 0; i < centroids; i++)
+            total += weights[i];
+        if (otherWeights == null) {
+            total += otherCount;
+        } else {
+            for (int i = 0; i < otherCount; i++)
+                total += otherWeights[i];
+        }
+
+        int merged = 0;
+        double currentMean = 0;
+        double currentWeight = 0;
+        double weightSoFar = 0;
+        double limit = 0;
+        for (int i = 0, j = 0; i < centroids || j < otherCount;) {
+            double mean;
+            double weight;
+            if (j == otherCount || (i < centroids && means[i] <= otherMeans[j])) {
+                mean = means[i];
+                weight = weights[i];
+                i++;
+            } else {
+                mean = otherMeans[j];
+                weight = otherWeights == null ? 1 : otherWeights[j];
+                j++;
+            }
+            if (currentWeight == 0) {
+                currentMean = mean;
+                currentWeight = weight;
+                limit = total * limitQuantile(weightSoFar / total);
+            } else if (weightSoFar + currentWeight + weight <= limit) {
+                currentWeight += weight;
+                currentMean += (mean - currentMean) * weight / currentWeight;
+            } else {
+                mergedMeans[merged] = currentMean;
+                mergedWeights[merged] = currentWeight;
+                merged++;
+                weightSoFar += currentWeight;
+                currentMean = mean;
+                currentWeight = weight;
+                limit = total * limitQuantile(weightSoFar / total);
+            }
+        }
+        if (currentWeight > 0) {
+            mergedMeans[merged] = currentMean;
+            mergedWeights[merged] = currentWeight;
+            merged++;
+        }
+
+        double[] swap = means;
+        means = mergedMeans;
+        mergedMeans = swap;
+        swap = weights;
+        weights = mergedWeights;
+        mergedWeights = swap;
+        centroids = merged;
+    }
+
+    /** The quantile one unit of the scale function above q. */
+    private double limitQuantile(double q) {
+        double k = compression / (2 * Math.PI) * Math.asin(2 * q - 1) + 1;
+        if (k >= compression / 4)
+            return 1;
+        return (Math.sin(k * 2 * Math.PI / compression) + 1) / 2;
+    }
+}
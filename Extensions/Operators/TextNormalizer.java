@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Single-pass text normalizer shared by the similarity operators.
+ *
+ * A normalizer decomposes accented characters, applies a transliteration map,
+ * strips the remaining combining marks and optionally lower-cases the text
+ * and drops everything but letters and digits. The result is the same as
+ * running {@link Normalizer} (NFD) followed by the corresponding chain of
+ * regular expressions, but it is computed in one pass over the characters:
+ * <ul>
+ * <li>pure ASCII input never goes through NFD;</li>
+ * <li>every other character is looked up in a table that is computed once
+ * per character (Latin-1 and Latin Extended up front, the rest on first
+ * use);</li>
+ * <li>a character followed by a combining mark it is transliterated with
+ * (for example {@code u} + U+0308) is replaced as a pair.</li>
+ * </ul>
+ * Recent results are kept in a bounded cache
+ * ({@code -Dcorticon.samples.normalizerCacheSize}, default 4096 strings per
+ * normalizer), so the same value passed to several operators is normalized
+ * once.
+ */
+final class TextNormalizer {
+
+    /** German umlauts and sharp s. */
+    static final Map<Character, String> GERMAN;
+
+    static {
+        Map<Character, String> german = new LinkedHashMap<>();
+        german.put('Ä', "AE");
+        german.put('ä', "ae");
+        german.put('Ö', "OE");
+        german.put('ö', "oe");
+        german.put('Ü', "UE");
+        german.put('ü', "ue");
+        german.put('ß', "ss");
+        GERMAN = Collections.unmodifiableMap(german);
+    }
+
+    /**
+     * Trims, transliterates and strips diacritics; keeps case and punctuation.
+     * The transliteration map is selected with
+     * {@code -Dcorticon.samples.transliteration} ({@code german} by default,
+     * or {@code none}).
+     */
+    static final TextNormalizer TRANSLITERATED = new TextNormalizer(
+            transliterations(ExtensionSettings.getString("transliteration", "german")), true, false, false);
+
+    /**
+     * Trims, replaces {@code ß} with {@code ss} and strips diacritics, so
+     * umlauts keep only their base letter; keeps case and punctuation. This is
+     * the normalization of the Levenshtein, Double Metaphone and tokenization
+     * operators.
+     */
+    static final TextNormalizer STRIPPED = new TextNormalizer(Collections.singletonMap('ß', "ss"), true, false, false);
+
+    /** Lower-cases, strips diacritics and keeps only letters and digits. */
+    static final TextNormalizer FOLDED = new TextNormalizer(Collections.<Character, String>emptyMap(), false, true, true);
+
+    private static final int PAGE_BITS = 8;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PRELOADED_LIMIT = 0x250;
+    private static final int MAX_CACHED_LENGTH = 256;
+
+    private final Map<Character, String> transliterations;
+    private final boolean trim;
+    private final boolean lowerCase;
+    private final boolean lettersAndDigitsOnly;
+
+    // Decomposed transliteration pairs, e.g. 'u' + U+0308 -> "ue"
+    private final char[] pairBases;
+    private final char[] pairMarks;
+    private final String[] pairReplacements;
+
+    // Replacement of each non-ASCII BMP character, by 256-character page
+    private final String[][] pages = new String[PAGE_SIZE][];
+
+    private final OperatorCache<String, String> cache =
+            new OperatorCache<>(ExtensionSettings.getInt("normalizerCacheSize", 4096));
+
+    TextNormalizer(Map<Character, String> transliterations, boolean trim, boolean lowerCase, boolean lettersAndDigitsOnly) {
+        this.transliterations = transliterations;
+        this.trim = trim;
+        this.lowerCase = lowerCase;
+        this.lettersAndDigitsOnly = lettersAndDigitsOnly;
+
+        List<char[]> pairs = new ArrayList<>();
+        List<String> replacements = new ArrayList<>();
+        for (Map.Entry<Character, String> e : transliterations.entrySet()) {
+            String key = String.valueOf(e.getKey().charValue());
+            if (lowerCase)
+                key = key.toLowerCase(Locale.ROOT);
+            String decomposed = Normalizer.normalize(key, Normalizer.Form.NFD);
+            if (decomposed.length() == 2 && isMark(decomposed.charAt(1))) {
+                pairs.add(decomposed.toCharArray());
+                // 'Ü' and 'ü' lower-case to the same pair, which must give "ue"
+                replacements.add(lowerCase ? e.getValue().toLowerCase(Locale.ROOT) : e.getValue());
+            }
+        }
+        pairBases = new char[pairs.size()];
+        pairMarks = new char[pairs.size()];
+        pairReplacements = replacements.toArray(new String[replacements.size()]);
+        for (int i = 0; i < pairBases.length; i++) {
+            pairBases[i] = pairs.get(i)[0];
+            pairMarks[i] = pairs.get(i)[1];
+        }
+
+        for (int c = 0x80; c < PRELOADED_LIMIT; c++)
+            replacement((char) c);
+    }
+
+    static Map<Character, String> transliterations(String name) {
+        return "none".equalsIgnoreCase(name) ? Collections.<Character, String>emptyMap() : GERMAN;
+    }
+
+    /**
+     * Returns the normalized form of the input, or null for null input.
+     */
+    String apply(String input) {
+        if (input == null)
+            return null;
+        String s = trim ? input.trim() : input;
+        if (s.length() > MAX_CACHED_LENGTH)
+            return transform(s);
+
+        String cached = cache.get(s);
+        if (cached == null) {
+            cached = transform(s);
+            cache.put(s, cached);
+        }
+        return cached;
+    }
+
+    /**
+     * Returns the normalized form of a single non-ASCII character, on its
+     * own: it is not combined with a following mark as a decomposed pair.
+     */
+    String applyNonAscii(char c) {
+        return replacement(c);
+    }
+
+    private String transform(String s) {
+        int len = s.length();
+        int i = 0;
+        // Skip the prefix that the normalizer leaves untouched
+        while (i < len && unchangedAscii(s.charAt(i)))
+            i++;
+        if (i == len)
+            return s;
+        // The last skipped character may start a decomposed pair
+        if (i > 0 && pairBases.length > 0)
+            i--;
+
+        StringBuilder sb = new StringBuilder(len + 8);
+        sb.append(s, 0, i);
+        for (; i < len; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                if (pairBases.length > 0 && i + 1 < len && appendPair(sb, lowerCase ? toLowerAscii(c) : c, s.charAt(i + 1))) {
+                    i++;
+                    continue;
+                }
+                if (lettersAndDigitsOnly && !isAsciiLetterOrDigit(c))
+                    continue;
+                sb.append(lowerCase ? toLowerAscii(c) : c);
+            } else if (lowerCase && c == '\u03A3') {
+                // Capital sigma lower-cases depending on its context (final sigma)
+                return reference(s);
+            } else if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(s.charAt(i + 1))) {
+                sb.append(reference(s.substring(i, i + 2)));
+                i++;
+            } else {
+                if (pairBases.length > 0 && i + 1 < len) {
+                    char base = lowerCase ? Character.toLowerCase(c) : c;
+                    if (appendPair(sb, base, s.charAt(i + 1))) {
+                        i++;
+                        continue;
+                    }
+                }
+                sb.append(replacement(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    private boolean unchangedAscii(char c) {
+        if (c >= 0x80)
+            return false;
+        if (lettersAndDigitsOnly)
+            return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || (!lowerCase && c >= 'A' && c <= 'Z');
+        return !(lowerCase && c >= 'A' && c <= 'Z');
+    }
+
+    private boolean appendPair(StringBuilder sb, char base, char mark) {
+        if (mark < 0x0300 || mark > 0x036F)
+            return false;
+        for (int k = 0; k < pairBases.length; k++) {
+            if (pairBases[k] == base && pairMarks[k] == mark) {
+                sb.append(pairReplacements[k]);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String replacement(char c) {
+        String[] page = pages[c >>> PAGE_BITS];
+        if (page == null) {
+            page = new String[PAGE_SIZE];
+            pages[c >>> PAGE_BITS] = page;
+        }
+        String r = page[c & (PAGE_SIZE - 1)];
+        if (r == null) {
+            r = reference(String.valueOf(c));
+            page[c & (PAGE_SIZE - 1)] = r;
+        }
+        return r;
+    }
+
+    /*
+     * The regular-expression pipeline the table is derived from. Used for
+     * single characters, once per character, and for the rare strings whose
+     * lower case depends on context.
+     */
+    private String reference(String s) {
+        if (lowerCase)
+            s = s.toLowerCase(Locale.ROOT);
+        s = Normalizer.normalize(s, Normalizer.Form.NFD);
+        for (Map.Entry<Character, String> e : transliterations.entrySet())
+            s = s.replace(String.valueOf(e.getKey().charValue()), e.getValue());
+        for (int k = 0; k < pairBases.length; k++)
+            s = s.replace(new String(new char[] { pairBases[k], pairMarks[k] }), pairReplacements[k]);
+        s = s.replaceAll("\\p{M}+", "");
+        if (lettersAndDigitsOnly)
+            s = s.replaceAll("[^\\p{L}\\p{N}]", "");
+        return s;
+    }
+
+    private static boolean isMark(char c) {
+        int type = Character.getType(c);
+        return type == Character.NON_SPACING_MARK || type == Character.ENCLOSING_MARK || type == Character.COMBINING_SPACING_MARK;
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private static char toLowerAscii(char c) {
+        return (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+    }
+}
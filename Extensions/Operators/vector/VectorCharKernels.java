@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 by Progress Software Corporation and/or one of its
+ * subsidiaries or affiliates. All rights reserved.
+ */
+package com.corticon.samples.extensions;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD versions of the {@link CharKernels} using the JDK incubator Vector
+ * API.
+ *
+ * This source requires JDK 16 or later and is compiled separately from the
+ * Java 8 operator sources:
+ * <pre>
+ * javac --release 17 --add-modules jdk.incubator.vector -cp &lt;operators classes&gt; vector/VectorCharKernels.java
+ * </pre>
+ * The server must then run with {@code --add-modules jdk.incubator.vector};
+ * otherwise {@link CharKernels} silently keeps the scalar kernels.
+ *
+ * Strings are copied into per-thread char buffers (an intrinsic block copy)
+ * a chunk of a few vectors at a time and compared one vector of chars at a
+ * time, so a mismatch near the start of a long region copies no more than
+ * one chunk, and the buffers kept per thread never grow. Regions shorter
+ * than two vectors are left to the scalar code, where the setup would cost
+ * more than it saves.
+ */
+final class VectorCharKernels extends CharKernels {
+
+    private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+    private static final int MIN_VECTOR_LENGTH = 2 * LANES;
+    private static final int CHUNK = 8 * LANES;
+
+    private static final class Buffers {
+        final char[] a = new char[CHUNK];
+        final char[] b = new char[CHUNK];
+    }
+
+    private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+    public VectorCharKernels() {
+        // Fail here, inside CharKernels.load, if the module is not available
+        ShortVector.zero(SPECIES);
+    }
+
+    @Override
+    String name() {
+        return "vector(" + SPECIES + ")";
+    }
+
+    @Override
+    int commonPrefix(String a, int aFrom, String b, int bFrom, int max) {
+        if (max < MIN_VECTOR_LENGTH)
+            return super.commonPrefix(a, aFrom, b, bFrom, max);
+        Buffers buffers = BUFFERS.get();
+        char[] ca = buffers.a;
+        char[] cb = buffers.b;
+        for (int done = 0; done < max; done += CHUNK) {
+            int length = Math.min(CHUNK, max - done);
+            a.getChars(aFrom + done, aFrom + done + length, ca, 0);
+            b.getChars(bFrom + done, bFrom + done + length, cb, 0);
+
+            int i = 0;
+            for (int bound = SPECIES.loopBound(length); i < bound; i += LANES) {
+                VectorMask<Short> ne = ShortVector.fromCharArray(SPECIES, ca, i)
+                        .compare(VectorOperators.NE, ShortVector.fromCharArray(SPECIES, cb, i));
+                if (ne.anyTrue())
+                    return done + i + ne.firstTrue();
+            }
+            while (i < length && ca[i] == cb[i])
+                i++;
+            if (i < length)
+                return done + i;
+        }
+        return max;
+    }
+
+    @Override
+    int commonSuffix(String a, int aEnd, String b, int bEnd, int max) {
+        if (max < MIN_VECTOR_LENGTH)
+            return super.commonSuffix(a, aEnd, b, bEnd, max);
+        Buffers buffers = BUFFERS.get();
+        char[] ca = buffers.a;
+        char[] cb = buffers.b;
+        // Chunks are taken back from the end; done chars of suffix are equal so far
+        for (int done = 0; done < max; done += CHUNK) {
+            int length = Math.min(CHUNK, max - done);
+            a.getChars(aEnd - done - length, aEnd - done, ca, 0);
+            b.getChars(bEnd - done - length, bEnd - done, cb, 0);
+
+            // Walk whole vectors back from the end; the last differing lane ends the suffix
+            int end = length;
+            while (end >= LANES) {
+                int start = end - LANES;
+                VectorMask<Short> ne = ShortVector.fromCharArray(SPECIES, ca, start)
+                        .compare(VectorOperators.NE, ShortVector.fromCharArray(SPECIES, cb, start));
+                if (ne.anyTrue())
+                    return done + length - (start + ne.lastTrue() + 1);
+                end = start;
+            }
+            while (end > 0 && ca[end - 1] == cb[end - 1])
+                end--;
+            if (end > 0)
+                return done + length - end;
+        }
+        return max;
+    }
+
+    @Override
+    int firstNonAsciiDigit(String s, int from, int to) {
+        if (to - from < MIN_VECTOR_LENGTH)
+            return super.firstNonAsciiDigit(s, from, to);
+        char[] cs = BUFFERS.get().a;
+        for (int chunkFrom = from; chunkFrom < to; chunkFrom += CHUNK) {
+            int length = Math.min(CHUNK, to - chunkFrom);
+            s.getChars(chunkFrom, chunkFrom + length, cs, 0);
+
+            int i = 0;
+            for (int bound = SPECIES.loopBound(length); i < bound; i += LANES) {
+                // c - '0' is above 9 (unsigned) exactly for the non-digits
+                VectorMask<Short> notDigit = ShortVector.fromCharArray(SPECIES, cs, i)
+                        .sub((short) '0')
+                        .compare(VectorOperators.UNSIGNED_GT, (short) 9);
+                if (notDigit.anyTrue())
+                    return chunkFrom + i + notDigit.firstTrue();
+            }
+            while (i < length && cs[i] >= '0' && cs[i] <= '9')
+                i++;
+            if (i < length)
+                return chunkFrom + i;
+        }
+        return to;
+    }
+}
@@ -1,6 +1,12 @@
 package com.corticon.samples.extensions;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Properties;
 import java.util.Random;
 import java.util.Set;
 
@@ -108,4 +114,124 @@ public class ServiceCallouts implements ICcServiceCalloutExtension {
             e.printStackTrace();
         }
     }
+
+    @OperatorFolder(lang = { "en" }, values = { "Finance" })
+    @Description(lang = { "en" }, values = { "Writes the amortization schedule of each loan as installment entities." })
+    public static void buildAmortizationSchedule(ICcDataObjectManager aDataObjectManager, Properties aProperties) {
+        String loanEntity = property(aProperties, "loanEntity", "Loan");
+        String installmentEntity = property(aProperties, "installmentEntity", "Installment");
+        String installmentsRole = property(aProperties, "installmentsRole", "installments");
+        String loanRole = property(aProperties, "loanRole", "loan");
+        int digits = digits(property(aProperties, "digits", "2"));
+        for (ICcDataObject aLoan : aDataObjectManager.getEntitiesByName(loanEntity)) {
+            BigDecimal principal = decimal(aLoan.getAttributeValue("principal"));
+            BigDecimal annualRate = decimal(aLoan.getAttributeValue("annualRate"));
+            Object term = aLoan.getAttributeValue("term");
+            Object paymentsPerYear = aLoan.getAttributeValue("paymentsPerYear");
+            if (principal == null || annualRate == null || !(term instanceof Number) || ((Number) term).intValue() <= 0) {
+                aDataObjectManager.postMessage("Warning", "Loan needs principal, annualRate and a positive term - (Service call out)", aLoan);
+                continue;
+            }
+            int periods = ((Number) term).intValue();
+            int perYear = paymentsPerYear instanceof Number && ((Number) paymentsPerYear).intValue() > 0 ? ((Number) paymentsPerYear).intValue() : 12;
+
+            // A schedule from an earlier run is replaced
+            for (ICcDataObject aInstallment : new ArrayList<ICcDataObject>(aLoan.getAssociations(installmentsRole))) {
+                aLoan.removeAssociation(installmentsRole, aInstallment);
+                aDataObjectManager.removeEntity(aInstallment);
+            }
+
+            BigDecimal perYearDivisor = BigDecimal.valueOf(perYear);
+            BigDecimal payment = CashFlowEngine.payment(principal, annualRate.divide(perYearDivisor, MathContext.DECIMAL128), periods, digits);
+            BigDecimal balance = principal.setScale(digits, RoundingMode.HALF_UP);
+            BigDecimal totalInterest = BigDecimal.ZERO;
+            for (long number = 1; number <= periods; number++) {
+                // balance * annualRate / perYear, rounded once
+                BigDecimal interest = balance.multiply(annualRate).divide(perYearDivisor, digits, RoundingMode.HALF_UP);
+                BigDecimal repaid = payment.subtract(interest);
+                // The last installment repays what is left
+                if (number == periods || repaid.compareTo(balance) > 0)
+                    repaid = balance;
+                balance = balance.subtract(repaid);
+                totalInterest = totalInterest.add(interest);
+
+                ICcDataObject aInstallment = aDataObjectManager.createEntity(installmentEntity);
+                aInstallment.setAttributeValue("number", number);
+                aInstallment.setAttributeValue("payment", repaid.add(interest));
+                aInstallment.setAttributeValue("interest", interest);
+                aInstallment.setAttributeValue("principal", repaid);
+                aInstallment.setAttributeValue("balance", balance);
+                aLoan.addAssociation(installmentsRole, aInstallment);
+                if (!loanRole.isEmpty())
+                    aInstallment.addAssociation(loanRole, aLoan);
+                // Paid off early, by rounding of the payment up to whole cents
+                if (balance.signum() == 0)
+                    break;
+            }
+            aLoan.setAttributeValue("payment", payment);
+            aLoan.setAttributeValue("totalInterest", totalInterest);
+        }
+    }
+
+    @OperatorFolder(lang = { "en" }, values = { "Finance" })
+    @Description(lang = { "en" }, values = { "Sets the annual internal rate of return of the dated cash flows of each entity." })
+    public static void computeXirr(ICcDataObjectManager aDataObjectManager, Properties aProperties) {
+        String entity = property(aProperties, "entity", "Loan");
+        String cashFlowsRole = property(aProperties, "cashFlowsRole", "cashFlows");
+        String resultAttribute = property(aProperties, "resultAttribute", "xirr");
+        for (ICcDataObject aEntity : aDataObjectManager.getEntitiesByName(entity)) {
+            List<ICcDataObject> cashFlows = new ArrayList<ICcDataObject>(aEntity.getAssociations(cashFlowsRole));
+            double[] flows = new double[cashFlows.size()];
+            long[] millis = new long[cashFlows.size()];
+            long first = Long.MAX_VALUE;
+            boolean complete = true;
+            for (int i = 0; i < flows.length; i++) {
+                Object date = cashFlows.get(i).getAttributeValue("date");
+                BigDecimal amount = decimal(cashFlows.get(i).getAttributeValue("amount"));
+                if (!(date instanceof Date) || amount == null) {
+                    complete = false;
+                    break;
+                }
+                flows[i] = amount.doubleValue();
+                millis[i] = ((Date) date).getTime();
+                first = Math.min(first, millis[i]);
+            }
+            double[] days = new double[flows.length];
+            for (int i = 0; complete && i < days.length; i++) {
+                // Whole days, so that a daylight saving change does not count
+                days[i] = Math.round((millis[i] - first) / 86_400_000.0);
+            }
+            double xirr = complete ? CashFlowEngine.xirr(flows, days) : Double.NaN;
+            if (Double.isNaN(xirr)) {
+                aEntity.setAttributeValue(resultAttribute, null);
+                aDataObjectManager.postMessage("Warning", "No internal rate of return for the cash flows - (Service call out)", aEntity);
+            } else {
+                aEntity.setAttributeValue(resultAttribute, CashFlowEngine.decimalRate(xirr));
+            }
+        }
+    }
+
+    private static String property(Properties aProperties, String name, String defaultValue) {
+        return aProperties == null ? defaultValue : aProperties.getProperty(name, defaultValue);
+    }
+
+    private static int digits(String value) {
+        try {
+            return Math.max(0, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            return 2;
+        }
+    }
+
+    private static BigDecimal decimal(Object value) {
+        if (value instanceof BigDecimal)
+            return (BigDecimal) value;
+        if (value instanceof Long || value instanceof Integer)
+            return BigDecimal.valueOf(((Number) value).longValue());
+        if (value instanceof Number) {
+            double d = ((Number) value).doubleValue();
+            return Double.isNaN(d) || Double.isInfinite(d) ? null : BigDecimal.valueOf(d);
+        }
+        return null;
+    }
 }